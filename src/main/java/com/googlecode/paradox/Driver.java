@@ -23,7 +23,7 @@ import java.util.logging.Logger;
  * PARADOX JDBC Driver type 4.
  *
  * @author Leonardo Alves da Costa
- * @version 2.2
+ * @version 2.11
  * @since 1.0
  */
 @SuppressWarnings("squid:S2176")
@@ -31,6 +31,49 @@ public final class Driver implements java.sql.Driver {
 
     public static final String CHARSET_KEY = "charset";
 
+    /**
+     * Property to read the files through shared memory mappings instead of file channels.
+     */
+    public static final String MEMORY_MAPPED_KEY = "memory_mapped";
+
+    /**
+     * Property with the count of threads used to scan large tables. One disables the parallel scan.
+     */
+    public static final String PARALLELISM_KEY = "parallelism";
+
+    /**
+     * Property with the result set read mode.
+     *
+     * @see com.googlecode.paradox.results.ResultMode
+     */
+    public static final String RESULT_MODE_KEY = "result_mode";
+
+    /**
+     * Property with the count of strings cached by column, so equal values share the same instance. Zero disables the
+     * cache.
+     */
+    public static final String STRING_CACHE_KEY = "string_cache";
+
+    /**
+     * Property with the size in kilobytes of the block cache. The cache is shared by all connections, so its budget is
+     * the largest size requested; connections with zero do not use it.
+     *
+     * @see com.googlecode.paradox.data.BlockCache
+     */
+    public static final String BLOCK_CACHE_KEY = "block_cache";
+
+    /**
+     * Property with the size in kilobytes of the memory used by each join, sort or aggregation before spilling rows
+     * to temporary files.
+     */
+    public static final String WORK_MEMORY_KEY = "work_memory";
+
+    /**
+     * Property with the count of block windows read ahead of the decoding by a background thread, up to 1024. Zero
+     * disables the read-ahead.
+     */
+    public static final String PREFETCH_KEY = "prefetch";
+
     /**
      * Logger instance for this class.
      */
@@ -104,7 +147,45 @@ public final class Driver implements java.sql.Driver {
         passwordProp.required = false;
         passwordProp.description = "Password to use for authentication";
 
-        return new DriverPropertyInfo[]{charset, passwordProp};
+        final DriverPropertyInfo memoryMapped = new DriverPropertyInfo(MEMORY_MAPPED_KEY,
+                info.getProperty(MEMORY_MAPPED_KEY));
+        memoryMapped.required = false;
+        memoryMapped.description = "Read the table, index and blob files through shared memory mappings";
+        memoryMapped.choices = new String[]{"true", "false"};
+
+        final DriverPropertyInfo parallelism = new DriverPropertyInfo(PARALLELISM_KEY,
+                info.getProperty(PARALLELISM_KEY));
+        parallelism.required = false;
+        parallelism.description = "Count of threads used to scan large tables, 1 to disable";
+
+        final DriverPropertyInfo resultMode = new DriverPropertyInfo(RESULT_MODE_KEY,
+                info.getProperty(RESULT_MODE_KEY));
+        resultMode.required = false;
+        resultMode.description = "How the result set rows are decoded";
+        resultMode.choices = new String[]{"rows", "columnar", "lazy"};
+
+        final DriverPropertyInfo stringCache = new DriverPropertyInfo(STRING_CACHE_KEY,
+                info.getProperty(STRING_CACHE_KEY));
+        stringCache.required = false;
+        stringCache.description = "Count of strings cached by column to share equal values, 0 to disable";
+
+        final DriverPropertyInfo blockCache = new DriverPropertyInfo(BLOCK_CACHE_KEY,
+                info.getProperty(BLOCK_CACHE_KEY));
+        blockCache.required = false;
+        blockCache.description = "Size in kilobytes of the shared block cache (largest requested), 0 to not use it";
+
+        final DriverPropertyInfo workMemory = new DriverPropertyInfo(WORK_MEMORY_KEY,
+                info.getProperty(WORK_MEMORY_KEY));
+        workMemory.required = false;
+        workMemory.description = "Size in kilobytes of the memory used by joins, sorts and aggregations "
+                + "before spilling to temporary files";
+
+        final DriverPropertyInfo prefetch = new DriverPropertyInfo(PREFETCH_KEY, info.getProperty(PREFETCH_KEY));
+        prefetch.required = false;
+        prefetch.description = "Count of block windows read ahead in background, up to 1024, 0 to disable";
+
+        return new DriverPropertyInfo[]{charset, passwordProp, memoryMapped, parallelism, resultMode, stringCache,
+                blockCache, workMemory, prefetch};
     }
 
     /**
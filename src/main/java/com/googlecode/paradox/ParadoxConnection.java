@@ -8,7 +8,10 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.BlockCache;
+import com.googlecode.paradox.data.TableCatalog;
 import com.googlecode.paradox.metadata.ParadoxDatabaseMetaData;
+import com.googlecode.paradox.results.ResultMode;
 import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.DirectoryFilter;
@@ -32,19 +35,44 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.util.ArrayList;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * JDBC Paradox connection implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.13
  * @since 1.0
  */
 public final class ParadoxConnection implements Connection {
 
+    /**
+     * Default memory in bytes used by each join, sort or aggregation before spilling rows to temporary files.
+     */
+    private static final long DEFAULT_WORK_MEMORY = 64L * 1024 * 1024;
+
+    /**
+     * Largest count of block windows read ahead of the decoding.
+     */
+    private static final int MAX_PREFETCH = 1024;
+
+    /**
+     * Largest count of threads used to scan large tables, the limit of {@link ForkJoinPool}.
+     */
+    private static final int MAX_PARALLELISM = 0x7FFF;
+
+    /**
+     * Largest size in kilobytes that can be stored in bytes.
+     */
+    private static final long MAX_KILOBYTES = Long.MAX_VALUE / 1024;
+
     /**
      * Database catalog.
      */
@@ -97,6 +125,46 @@ public final class ParadoxConnection implements Connection {
      * Default charset.
      */
     private Charset charset = Charset.forName("Cp437");
+    /**
+     * If the files are read through shared memory mappings.
+     */
+    private boolean memoryMapped;
+    /**
+     * Size in bytes of the block cache requested by this connection, zero if it does not use the cache.
+     */
+    private long blockCacheSize;
+    /**
+     * Count of threads used to scan large tables.
+     */
+    private int parallelism = 1;
+    /**
+     * The pool used to scan large tables.
+     */
+    private ForkJoinPool scanPool;
+    /**
+     * How the result set rows are read.
+     */
+    private ResultMode resultMode = ResultMode.ROWS;
+    /**
+     * Count of strings cached by column.
+     */
+    private int stringCacheSize;
+    /**
+     * Memory in bytes used by each join, sort or aggregation before spilling rows to temporary files.
+     */
+    private long workMemory = ParadoxConnection.DEFAULT_WORK_MEMORY;
+    /**
+     * The table header cache, created on first use.
+     */
+    private TableCatalog tableCatalog;
+    /**
+     * Count of block windows read ahead of the decoding.
+     */
+    private int prefetch;
+    /**
+     * The pool of the read-ahead threads.
+     */
+    private ExecutorService readAheadPool;
 
     /**
      * Creates a new paradox connection.
@@ -118,6 +186,93 @@ public final class ParadoxConnection implements Connection {
             this.charset = Charset.forName(charsetName);
         }
 
+        this.memoryMapped = Boolean.parseBoolean(info.getProperty(Driver.MEMORY_MAPPED_KEY));
+
+        final String parallelismValue = info.getProperty(Driver.PARALLELISM_KEY);
+        if (parallelismValue != null) {
+            try {
+                this.parallelism = Integer.parseInt(parallelismValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid parallelism: " + parallelismValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+            if ((this.parallelism < 1) || (this.parallelism > ParadoxConnection.MAX_PARALLELISM)) {
+                throw new SQLException("Invalid parallelism: " + parallelismValue,
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+        }
+
+        final String resultModeValue = info.getProperty(Driver.RESULT_MODE_KEY);
+        if (resultModeValue != null) {
+            try {
+                this.resultMode = ResultMode.valueOf(resultModeValue.trim().toUpperCase(Locale.US));
+            } catch (final IllegalArgumentException e) {
+                throw new SQLException("Invalid result mode: " + resultModeValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+        }
+
+        final String stringCacheValue = info.getProperty(Driver.STRING_CACHE_KEY);
+        if (stringCacheValue != null) {
+            try {
+                this.stringCacheSize = Integer.parseInt(stringCacheValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid string cache size: " + stringCacheValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+            if (this.stringCacheSize < 0) {
+                throw new SQLException("Invalid string cache size: " + stringCacheValue,
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+        }
+
+        final String blockCacheValue = info.getProperty(Driver.BLOCK_CACHE_KEY);
+        if (blockCacheValue != null) {
+            final long blockCacheSize;
+            try {
+                blockCacheSize = Long.parseLong(blockCacheValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid block cache size: " + blockCacheValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+            if ((blockCacheSize < 0) || (blockCacheSize > ParadoxConnection.MAX_KILOBYTES)) {
+                throw new SQLException("Invalid block cache size: " + blockCacheValue,
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+            this.blockCacheSize = blockCacheSize * 1024;
+            BlockCache.getInstance().ensureCapacity(this.blockCacheSize);
+        }
+
+        final String workMemoryValue = info.getProperty(Driver.WORK_MEMORY_KEY);
+        if (workMemoryValue != null) {
+            final long workMemorySize;
+            try {
+                workMemorySize = Long.parseLong(workMemoryValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid work memory size: " + workMemoryValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+            if ((workMemorySize < 1) || (workMemorySize > ParadoxConnection.MAX_KILOBYTES)) {
+                throw new SQLException("Invalid work memory size: " + workMemoryValue,
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+            this.workMemory = workMemorySize * 1024;
+        }
+
+        final String prefetchValue = info.getProperty(Driver.PREFETCH_KEY);
+        if (prefetchValue != null) {
+            try {
+                this.prefetch = Integer.parseInt(prefetchValue.trim());
+            } catch (final NumberFormatException e) {
+                throw new SQLException("Invalid prefetch depth: " + prefetchValue,
+                        SQLStates.INVALID_PARAMETER.getValue(), e);
+            }
+            if ((this.prefetch < 0) || (this.prefetch > ParadoxConnection.MAX_PREFETCH)) {
+                throw new SQLException("Invalid prefetch depth: " + prefetchValue,
+                        SQLStates.INVALID_PARAMETER.getValue());
+            }
+        }
+
         // Is a schema.
         this.schema = dir;
         this.catalog = dir.getParentFile();
@@ -148,6 +303,19 @@ public final class ParadoxConnection implements Connection {
             stmt.close();
         }
         this.statements.clear();
+        synchronized (this) {
+            if (this.scanPool != null) {
+                this.scanPool.shutdownNow();
+                this.scanPool = null;
+            }
+            if (this.readAheadPool != null) {
+                this.readAheadPool.shutdown();
+                this.readAheadPool = null;
+            }
+            if (this.tableCatalog != null) {
+                this.tableCatalog.clear();
+            }
+        }
         this.closed = true;
     }
 
@@ -624,6 +792,113 @@ public final class ParadoxConnection implements Connection {
         return charset;
     }
 
+    /**
+     * Gets if the files are read through shared memory mappings.
+     *
+     * @return true if the files are read through shared memory mappings.
+     */
+    public boolean isMemoryMapped() {
+        return this.memoryMapped;
+    }
+
+    /**
+     * Gets the size of the block cache requested by this connection. The shared cache keeps the largest size requested
+     * by all connections.
+     *
+     * @return the size in bytes, zero if this connection does not use the block cache.
+     */
+    public long getBlockCacheSize() {
+        return this.blockCacheSize;
+    }
+
+    /**
+     * Gets the count of threads used to scan large tables.
+     *
+     * @return the count of threads used to scan large tables.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Gets how the result set rows are read.
+     *
+     * @return how the result set rows are read.
+     */
+    public ResultMode getResultMode() {
+        return this.resultMode;
+    }
+
+    /**
+     * Gets the count of strings cached by column.
+     *
+     * @return the count of strings cached by column, zero if the cache is disabled.
+     */
+    public int getStringCacheSize() {
+        return this.stringCacheSize;
+    }
+
+    /**
+     * Gets the memory used by each join, sort or aggregation before spilling rows to temporary files.
+     *
+     * @return the memory in bytes.
+     */
+    public long getWorkMemory() {
+        return this.workMemory;
+    }
+
+    /**
+     * Gets the count of block windows read ahead of the decoding.
+     *
+     * @return the count of block windows read ahead, zero if the read-ahead is disabled.
+     */
+    public int getPrefetch() {
+        return this.prefetch;
+    }
+
+    /**
+     * Gets the pool of the read-ahead threads, created on first use. The threads do not keep the application running.
+     *
+     * @return the pool of the read-ahead threads.
+     */
+    public synchronized ExecutorService getReadAheadPool() {
+        if (this.readAheadPool == null) {
+            this.readAheadPool = Executors.newCachedThreadPool(new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, "paradox-read-ahead");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return this.readAheadPool;
+    }
+
+    /**
+     * Gets the table header cache of this connection, created on first use.
+     *
+     * @return the table header cache.
+     */
+    public synchronized TableCatalog getTableCatalog() {
+        if (this.tableCatalog == null) {
+            this.tableCatalog = new TableCatalog(this);
+        }
+        return this.tableCatalog;
+    }
+
+    /**
+     * Gets the pool used to scan large tables, created on first use.
+     *
+     * @return the pool used to scan large tables.
+     */
+    public synchronized ForkJoinPool getScanPool() {
+        if (this.scanPool == null) {
+            this.scanPool = new ForkJoinPool(this.parallelism);
+        }
+        return this.scanPool;
+    }
+
     /**
      * {@inheritDoc}.
      */
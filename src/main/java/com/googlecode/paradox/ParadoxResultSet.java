@@ -8,7 +8,12 @@
  */
 package com.googlecode.paradox;
 
+import com.googlecode.paradox.data.ColumnarCursor;
+import com.googlecode.paradox.data.LazyRow;
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.RowCursor;
 import com.googlecode.paradox.data.table.value.ClobDescriptor;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxResultSetMetaData;
 import com.googlecode.paradox.results.Column;
@@ -38,6 +43,7 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
@@ -48,7 +54,7 @@ import java.util.Map;
  * JDBC ResultSet implementation.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.4
  * @since 1.0
  */
 public final class ParadoxResultSet implements ResultSet {
@@ -94,9 +100,29 @@ public final class ParadoxResultSet implements ResultSet {
      */
     private final ParadoxStatement statement;
     /**
-     * The list of all {@link ResultSet} rows.
+     * The cursor over the {@link ResultSet} rows.
      */
-    private final List<List<FieldValue>> values;
+    private final RowCursor cursor;
+
+    /**
+     * The cursor as a columnar cursor, or null if the rows are not stored by column.
+     */
+    private final ColumnarCursor columnar;
+
+    /**
+     * If the last value read from a column vector was null.
+     */
+    private boolean lastNull;
+
+    /**
+     * The row position of the cursor. Equals to the row count when the cursor is after the last row.
+     */
+    private int cursorPosition = -1;
+
+    /**
+     * The row count, or -1 while the rows are not all read.
+     */
+    private int size = -1;
 
     /**
      * Creates a new {@link ResultSet}.
@@ -108,8 +134,27 @@ public final class ParadoxResultSet implements ResultSet {
      */
     public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement,
             final List<List<FieldValue>> values, final List<Column> columns) {
+        this(conn, statement, new ListCursor(Collections.unmodifiableList(values)), columns);
+        this.size = values.size();
+    }
+
+    /**
+     * Creates a new {@link ResultSet} with rows read on demand.
+     *
+     * @param conn      the database connection.
+     * @param statement the {@link Statement} for this {@link ResultSet}.
+     * @param cursor    the cursor over the rows.
+     * @param columns   the columns name.
+     */
+    public ParadoxResultSet(final ParadoxConnection conn, final ParadoxStatement statement, final RowCursor cursor,
+            final List<Column> columns) {
         this.statement = statement;
-        this.values = Collections.unmodifiableList(values);
+        this.cursor = cursor;
+        if (cursor instanceof ColumnarCursor) {
+            this.columnar = (ColumnarCursor) cursor;
+        } else {
+            this.columnar = null;
+        }
         this.columns = Collections.unmodifiableList(columns);
         this.conn = conn;
 
@@ -125,14 +170,14 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean absolute(final int row) {
+    public boolean absolute(final int row) throws SQLException {
         if (row < 0) {
-            if ((row + this.values.size()) < 0) {
+            if ((row + this.getSize()) < 0) {
                 return false;
             }
-            this.position = this.values.size() + row;
+            this.position = this.getSize() + row;
         } else {
-            if (row > this.values.size()) {
+            if ((row > 0) && !this.hasRow(row - 1)) {
                 return false;
             }
             this.position = row - 1;
@@ -144,8 +189,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public void afterLast() {
-        this.position = this.values.size();
+    public void afterLast() throws SQLException {
+        this.position = this.getSize();
     }
 
     /**
@@ -183,6 +228,7 @@ public final class ParadoxResultSet implements ResultSet {
             }
             this.clearClob();
         }
+        this.cursor.close();
         this.closed = true;
     }
 
@@ -211,8 +257,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean first() {
-        if (this.values.isEmpty()) {
+    public boolean first() throws SQLException {
+        if (!this.hasRow(0)) {
             return false;
         }
         this.position = 0;
@@ -334,11 +380,11 @@ public final class ParadoxResultSet implements ResultSet {
     public boolean getBoolean(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (!this.lastValue.isNull()) {
             return this.lastValue.getBoolean();
         }
@@ -360,11 +406,11 @@ public final class ParadoxResultSet implements ResultSet {
     public byte getByte(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return (byte) 0;
         }
@@ -469,11 +515,11 @@ public final class ParadoxResultSet implements ResultSet {
     public Date getDate(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         return this.lastValue.getDate();
     }
 
@@ -508,11 +554,15 @@ public final class ParadoxResultSet implements ResultSet {
     public double getDouble(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        if (this.columnar != null) {
+            return this.getCurrentColumn(columnIndex).getDouble(this.columnar.getBatchRow());
+        }
+
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0D;
         }
@@ -550,11 +600,11 @@ public final class ParadoxResultSet implements ResultSet {
     public float getFloat(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0F;
         }
@@ -584,11 +634,15 @@ public final class ParadoxResultSet implements ResultSet {
     public int getInt(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        if (this.columnar != null) {
+            return this.getCurrentColumn(columnIndex).getInt(this.columnar.getBatchRow());
+        }
+
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0;
         }
@@ -610,11 +664,15 @@ public final class ParadoxResultSet implements ResultSet {
     public long getLong(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        if (this.columnar != null) {
+            return this.getCurrentColumn(columnIndex).getLong(this.columnar.getBatchRow());
+        }
+
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return 0L;
         }
@@ -692,11 +750,11 @@ public final class ParadoxResultSet implements ResultSet {
     public Object getObject(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         return this.lastValue.getValue();
     }
 
@@ -789,11 +847,11 @@ public final class ParadoxResultSet implements ResultSet {
     public short getShort(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if (this.lastValue.isNull()) {
             return (short) 0;
         }
@@ -839,11 +897,21 @@ public final class ParadoxResultSet implements ResultSet {
     public String getString(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        if (this.columnar != null) {
+            final Object value = this.getCurrentColumn(columnIndex).getObject(this.columnar.getBatchRow());
+            if (value instanceof ClobDescriptor) {
+                return ((ClobDescriptor) value).getClobString();
+            } else if (value != null) {
+                return value.toString();
+            }
+            return null;
+        }
+
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         if ((this.lastValue != null) && (this.lastValue.getValue() != null)) {
             if (this.lastValue.getValue() instanceof ClobDescriptor) {
                 //Special case
@@ -871,11 +939,11 @@ public final class ParadoxResultSet implements ResultSet {
     public Time getTime(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         return this.lastValue.getTime();
     }
 
@@ -910,11 +978,11 @@ public final class ParadoxResultSet implements ResultSet {
     public Timestamp getTimestamp(final int columnIndex) throws SQLException {
         this.verifyRow();
 
-        final List<FieldValue> row = this.values.get(this.position);
+        final List<FieldValue> row = this.getCurrentRow();
         if (columnIndex > row.size()) {
             throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
         }
-        this.lastValue = row.get(columnIndex - 1);
+        this.lastValue = ParadoxResultSet.getValue(row, columnIndex - 1);
         return this.lastValue.getTimestamp();
     }
 
@@ -994,9 +1062,19 @@ public final class ParadoxResultSet implements ResultSet {
      * Gets the all row values.
      *
      * @return the row values.
-     */
-    public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
+     * @throws SQLException in case of reading errors.
+     */
+    public List<List<FieldValue>> getValues() throws SQLException {
+        final List<List<FieldValue>> values = new ArrayList<>();
+        this.cursor.reset();
+        this.cursorPosition = -1;
+        while (this.cursor.next()) {
+            values.add(this.cursor.getRow());
+            this.cursorPosition++;
+        }
+        this.size = values.size();
+        this.cursorPosition = this.size;
+        return Collections.unmodifiableList(values);
     }
 
     /**
@@ -1019,8 +1097,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean isAfterLast() {
-        return this.position >= this.values.size();
+    public boolean isAfterLast() throws SQLException {
+        return (this.position >= 0) && !this.hasRow(this.position);
     }
 
     /**
@@ -1051,8 +1129,8 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean isLast() {
-        return (this.position + 1) == this.values.size();
+    public boolean isLast() throws SQLException {
+        return (this.position + 1) == this.getSize();
     }
 
     /**
@@ -1067,11 +1145,11 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean last() {
-        if (this.values.isEmpty()) {
+    public boolean last() throws SQLException {
+        if (this.getSize() == 0) {
             return false;
         }
-        this.position = this.values.size() - 1;
+        this.position = this.getSize() - 1;
         this.clearClob();
         return true;
     }
@@ -1096,7 +1174,7 @@ public final class ParadoxResultSet implements ResultSet {
      * {@inheritDoc}.
      */
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         this.position++;
         if (this.hasNext()) {
             this.clearClob();
@@ -1854,6 +1932,9 @@ public final class ParadoxResultSet implements ResultSet {
         if (this.closed) {
             throw new SQLException("Closed result set.", SQLStates.RESULTSET_CLOSED.getValue());
         }
+        if (this.lastValue == null) {
+            return this.lastNull;
+        }
         return this.lastValue.isNull();
     }
 
@@ -1866,8 +1947,107 @@ public final class ParadoxResultSet implements ResultSet {
         }
     }
 
-    private boolean hasNext() {
-        return (this.values != null) && (this.position < this.values.size());
+    /**
+     * Gets the current row.
+     *
+     * @return the current row.
+     * @throws SQLException in case of reading errors.
+     */
+    private List<FieldValue> getCurrentRow() throws SQLException {
+        this.moveTo(this.position);
+        return this.cursor.getRow();
+    }
+
+    /**
+     * Gets a value of a row. Lazy rows are decoded here, so parse errors are thrown as {@link SQLException}.
+     *
+     * @param row   the row values.
+     * @param index the value position.
+     * @return the value.
+     * @throws SQLException in case of parse errors.
+     */
+    private static FieldValue getValue(final List<FieldValue> row, final int index) throws SQLException {
+        if (row instanceof LazyRow) {
+            return ((LazyRow) row).getValue(index);
+        }
+        return row.get(index);
+    }
+
+    /**
+     * Gets the column vector of the current row, without creating the row values.
+     *
+     * @param columnIndex the column index, starting with one.
+     * @return the column vector.
+     * @throws SQLException in case of reading errors or invalid column.
+     */
+    private ColumnVector getCurrentColumn(final int columnIndex) throws SQLException {
+        this.moveTo(this.position);
+        if ((columnIndex < 1) || (columnIndex > this.columns.size())) {
+            throw new SQLException(ParadoxResultSet.ERROR_INVALID_COLUMN, SQLStates.INVALID_COLUMN.getValue());
+        }
+
+        final ColumnVector column = this.columnar.getColumn(columnIndex - 1);
+        this.lastValue = null;
+        this.lastNull = column.isNull(this.columnar.getBatchRow());
+        return column;
+    }
+
+    /**
+     * Gets the row count, reading all remaining rows if needed.
+     *
+     * @return the row count.
+     * @throws SQLException in case of reading errors.
+     */
+    private int getSize() throws SQLException {
+        if (this.size < 0) {
+            this.moveTo(Integer.MAX_VALUE);
+        }
+        return this.size;
+    }
+
+    /**
+     * Verify if there is a row in the given position.
+     *
+     * @param row the row position.
+     * @return true if there is a row in the given position.
+     * @throws SQLException in case of reading errors.
+     */
+    private boolean hasRow(final int row) throws SQLException {
+        if (this.size < 0) {
+            this.moveTo(row);
+        }
+        return (this.size < 0) || (row < this.size);
+    }
+
+    /**
+     * Moves the cursor to a row, rewinding it if the row was already read.
+     *
+     * @param row the row position.
+     * @throws SQLException in case of reading errors.
+     */
+    private void moveTo(final int row) throws SQLException {
+        if (row < this.cursorPosition) {
+            this.cursor.reset();
+            this.cursorPosition = -1;
+        }
+        while (this.cursorPosition < row) {
+            if (!this.cursor.next()) {
+                this.size = this.cursorPosition + 1;
+                this.cursorPosition = this.size;
+                return;
+            }
+            this.cursorPosition++;
+        }
+    }
+
+    /**
+     * Verify if the current position is in a row.
+     *
+     * @return true if the current position is in a row.
+     * @throws SQLException in case of reading errors.
+     */
+    private boolean hasNext() throws SQLException {
+        return (this.position >= 0) && this.hasRow(this.position);
     }
 
     /**
@@ -1876,10 +2056,10 @@ public final class ParadoxResultSet implements ResultSet {
      * @throws SQLException in case of errors.
      */
     private void verifyRow() throws SQLException {
-        if (!this.hasNext()) {
-            throw new SQLDataException("Result do not have more rows.", SQLStates.INVALID_ROW.getValue());
-        } else if (this.closed) {
+        if (this.closed) {
             throw new SQLException("Closed result set.", SQLStates.RESULTSET_CLOSED.getValue());
+        } else if (!this.hasNext()) {
+            throw new SQLDataException("Result do not have more rows.", SQLStates.INVALID_ROW.getValue());
         }
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * BatchTableCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.ColumnBatch;
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads a table in batches of rows stored by column. Numbers, dates and strings are decoded into primitive arrays
+ * and the value objects are created only when a row is requested as a list.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.1
+ */
+public final class BatchTableCursor implements ColumnarCursor, SkippableCursor {
+
+    /**
+     * Default rows in a batch.
+     */
+    public static final int BATCH_SIZE = 1024;
+
+    /**
+     * The record source.
+     */
+    private final TableCursor records;
+
+    /**
+     * The record decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The positions of the fields to read, in table order.
+     */
+    private final int[] indexes;
+
+    /**
+     * The current batch.
+     */
+    private final ColumnBatch batch;
+
+    /**
+     * The batch column of each result column.
+     */
+    private final int[] columnMap;
+
+    /**
+     * The row filter, or null to accept all rows.
+     */
+    private final RowFilter filter;
+
+    /**
+     * The current row in batch.
+     */
+    private int batchRow;
+
+    /**
+     * If there is no more records to read.
+     */
+    private boolean finished;
+
+    /**
+     * The current row as values, created on demand.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table     the table to read.
+     * @param fields    the fields to read.
+     * @param columnMap the position in the fields read of each result column.
+     * @param filter    the row filter, or null to accept all rows.
+     */
+    public BatchTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter) {
+        this(table, fields, columnMap, filter, null);
+    }
+
+    /**
+     * Creates a new instance that reads only some table blocks.
+     *
+     * @param table     the table to read.
+     * @param fields    the fields to read.
+     * @param columnMap the position in the fields read of each result column.
+     * @param filter    the row filter, or null to accept all rows.
+     * @param blocks    the table blocks to read, or null to read the whole table.
+     */
+    public BatchTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter, final int[] blocks) {
+        this(table, fields, columnMap, filter, blocks, null);
+    }
+
+    /**
+     * Creates a new instance that reads only some table blocks, skipping the records rejected before decoding.
+     *
+     * @param table        the table to read.
+     * @param fields       the fields to read.
+     * @param columnMap    the position in the fields read of each result column.
+     * @param filter       the row filter, or null to accept all rows.
+     * @param blocks       the table blocks to read, or null to read the whole table.
+     * @param recordFilter the filter checked before decoding the records, or null to decode all records.
+     */
+    public BatchTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter, final int[] blocks, final RecordFilter recordFilter) {
+        if (blocks == null) {
+            this.records = new TableCursor(table, fields, null, 0, 0, recordFilter);
+        } else {
+            this.records = new TableCursor(table, fields, blocks, 0, blocks.length, recordFilter);
+        }
+        this.decoder = table.getRowDecoder();
+        this.indexes = this.records.getIndexes();
+        this.batch = new ColumnBatch(this.decoder.getFields(this.indexes), BATCH_SIZE);
+        this.columnMap = columnMap;
+        this.filter = filter;
+        this.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        this.row = null;
+        this.batchRow++;
+        if (this.batchRow >= this.batch.getSize()) {
+            this.fill();
+        }
+        return this.batchRow < this.batch.getSize();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        if ((this.row == null) && (this.batchRow < this.batch.getSize())) {
+            final List<FieldValue> values = this.batch.getRow(this.batchRow);
+            this.row = new ArrayList<>(this.columnMap.length);
+            for (final int column : this.columnMap) {
+                this.row.add(values.get(column));
+            }
+        }
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ColumnVector getColumn(final int column) {
+        return this.batch.getColumn(this.columnMap[column]);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getBatchRow() {
+        return this.batchRow;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The rows already in the batch are skipped first. Without a filter, the other rows are skipped by the record
+     * source, that does not decode them.
+     */
+    @Override
+    public long skip(final long count) throws SQLException {
+        this.row = null;
+        final int batched = (int) Math.min(count, Math.max(0, this.batch.getSize() - this.batchRow - 1));
+        this.batchRow += batched;
+        long left = count - batched;
+        if (this.filter == null) {
+            left -= this.records.skip(left);
+        } else {
+            while ((left > 0) && this.next()) {
+                left--;
+            }
+        }
+        return count - left;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.records.reset();
+        this.batch.clear();
+        this.batchRow = -1;
+        this.finished = false;
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.records.close();
+    }
+
+    /**
+     * Fills the batch with the next accepted rows.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    private void fill() throws SQLException {
+        this.batch.clear();
+        this.batchRow = 0;
+
+        int size = 0;
+        while (!this.finished && (size < this.batch.getCapacity())) {
+            final ByteBuffer record = this.records.nextRecord();
+            if (record == null) {
+                this.finished = true;
+            } else {
+                this.decoder.decode(record, this.indexes, this.batch, size);
+                if ((this.filter == null) || this.filter.accept(this.batch.getRowView(size))) {
+                    size++;
+                }
+            }
+        }
+        this.batch.setSize(size);
+    }
+}
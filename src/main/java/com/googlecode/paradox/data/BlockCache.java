@@ -0,0 +1,323 @@
+/*
+ * BlockCache.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Block cache shared by all connections.
+ * <p>
+ * Only the connections with a block cache size use it. Since the cache is shared, its budget is the largest size
+ * requested by any connection and it does not shrink when that connection is closed.
+ * <p>
+ * The blocks are identified by the file path, size and modification time, so a changed file never matches the blocks
+ * read before the change. The cache is split in stripes with their own locks, so concurrent readers of different
+ * blocks do not wait for each other. Each stripe is a segmented LRU: new blocks enter a probation segment and only
+ * blocks read again are moved to the protected segment, so a large table scan does not evict the blocks used often.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class BlockCache {
+
+    /**
+     * Count of stripes. Must be a power of two.
+     */
+    private static final int STRIPES = 16;
+
+    /**
+     * Part of a stripe budget used by the protected segment, in percent.
+     */
+    private static final int PROTECTED_PERCENT = 80;
+
+    /**
+     * The shared instance.
+     */
+    private static final BlockCache INSTANCE = new BlockCache(0);
+
+    /**
+     * The cache stripes.
+     */
+    private final Stripe[] stripes = new Stripe[BlockCache.STRIPES];
+
+    /**
+     * The cache budget in bytes.
+     */
+    private volatile long capacity;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the cache budget in bytes.
+     */
+    BlockCache(final long capacity) {
+        this.capacity = capacity;
+        for (int loop = 0; loop < this.stripes.length; loop++) {
+            this.stripes[loop] = new Stripe();
+        }
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the shared instance.
+     */
+    public static BlockCache getInstance() {
+        return BlockCache.INSTANCE;
+    }
+
+    /**
+     * Gets the cache budget in bytes.
+     *
+     * @return the cache budget in bytes, zero if the cache is disabled.
+     */
+    public long getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Grows the cache budget. Since the cache is shared, it keeps the largest budget requested.
+     *
+     * @param bytes the cache budget in bytes.
+     */
+    public synchronized void ensureCapacity(final long bytes) {
+        if (bytes > this.capacity) {
+            this.capacity = bytes;
+        }
+    }
+
+    /**
+     * Gets the bytes used by the cached blocks.
+     *
+     * @return the bytes used by the cached blocks.
+     */
+    public long getSize() {
+        long size = 0;
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.probationSize + stripe.protectedSize;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all blocks from cache.
+     */
+    public void clear() {
+        for (final Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.probation.clear();
+                stripe.protectedBlocks.clear();
+                stripe.probationSize = 0;
+                stripe.protectedSize = 0;
+            }
+        }
+    }
+
+    /**
+     * Gets a block from cache.
+     *
+     * @param key the block key.
+     * @return the block data or null if the block is not in cache.
+     */
+    byte[] get(final BlockKey key) {
+        final Stripe stripe = this.getStripe(key);
+        synchronized (stripe) {
+            byte[] data = stripe.protectedBlocks.get(key);
+            if (data == null) {
+                data = stripe.probation.remove(key);
+                if (data != null) {
+                    // Read twice: move to the protected segment.
+                    stripe.probationSize -= data.length;
+                    stripe.protectedBlocks.put(key, data);
+                    stripe.protectedSize += data.length;
+                    stripe.evict(this.getStripeCapacity());
+                }
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Adds a block to cache.
+     *
+     * @param key  the block key.
+     * @param data the block data. It must not be changed after this.
+     */
+    void put(final BlockKey key, final byte[] data) {
+        final long stripeCapacity = this.getStripeCapacity();
+        if (data.length > stripeCapacity) {
+            return;
+        }
+
+        final Stripe stripe = this.getStripe(key);
+        synchronized (stripe) {
+            if (!stripe.protectedBlocks.containsKey(key)) {
+                final byte[] old = stripe.probation.put(key, data);
+                if (old != null) {
+                    stripe.probationSize -= old.length;
+                }
+                stripe.probationSize += data.length;
+                stripe.evict(stripeCapacity);
+            }
+        }
+    }
+
+    /**
+     * Gets the budget of a single stripe.
+     *
+     * @return the budget of a single stripe in bytes.
+     */
+    private long getStripeCapacity() {
+        return this.capacity / BlockCache.STRIPES;
+    }
+
+    /**
+     * Gets the stripe of a block.
+     *
+     * @param key the block key.
+     * @return the stripe of the block.
+     */
+    private Stripe getStripe(final BlockKey key) {
+        final int hash = key.hashCode();
+        return this.stripes[(hash ^ (hash >>> 16)) & (BlockCache.STRIPES - 1)];
+    }
+
+    /**
+     * A cache stripe, guarded by its own monitor.
+     */
+    private static final class Stripe {
+
+        /**
+         * Blocks read once, in access order.
+         */
+        private final Map<BlockKey, byte[]> probation = new LinkedHashMap<>(16, 0.75F, true);
+
+        /**
+         * Blocks read more than once, in access order.
+         */
+        private final Map<BlockKey, byte[]> protectedBlocks = new LinkedHashMap<>(16, 0.75F, true);
+
+        /**
+         * Bytes in the probation segment.
+         */
+        private long probationSize;
+
+        /**
+         * Bytes in the protected segment.
+         */
+        private long protectedSize;
+
+        /**
+         * Removes the least recently used blocks until this stripe fits its budget.
+         *
+         * @param stripeCapacity the stripe budget in bytes.
+         */
+        void evict(final long stripeCapacity) {
+            // Demote the oldest protected blocks to the probation segment.
+            final long protectedCapacity = (stripeCapacity * BlockCache.PROTECTED_PERCENT) / 100;
+            final Iterator<Map.Entry<BlockKey, byte[]>> protectedIterator = this.protectedBlocks.entrySet()
+                    .iterator();
+            while ((this.protectedSize > protectedCapacity) && protectedIterator.hasNext()) {
+                final Map.Entry<BlockKey, byte[]> entry = protectedIterator.next();
+                protectedIterator.remove();
+                this.protectedSize -= entry.getValue().length;
+                this.probation.put(entry.getKey(), entry.getValue());
+                this.probationSize += entry.getValue().length;
+            }
+
+            final Iterator<Map.Entry<BlockKey, byte[]>> iterator = this.probation.entrySet().iterator();
+            while (((this.probationSize + this.protectedSize) > stripeCapacity) && iterator.hasNext()) {
+                final Map.Entry<BlockKey, byte[]> entry = iterator.next();
+                iterator.remove();
+                this.probationSize -= entry.getValue().length;
+            }
+        }
+    }
+
+    /**
+     * Identifies a block of a file version.
+     */
+    static final class BlockKey {
+
+        /**
+         * The file canonical path.
+         */
+        private final String path;
+
+        /**
+         * The file size.
+         */
+        private final long length;
+
+        /**
+         * The file modification time.
+         */
+        private final long modified;
+
+        /**
+         * The block position in file.
+         */
+        private final long position;
+
+        /**
+         * The bytes requested.
+         */
+        private final int size;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param path     the file canonical path.
+         * @param length   the file size.
+         * @param modified the file modification time.
+         * @param position the block position in file.
+         * @param size     the bytes requested.
+         */
+        BlockKey(final String path, final long length, final long modified, final long position, final int size) {
+            this.path = path;
+            this.length = length;
+            this.modified = modified;
+            this.position = position;
+            this.size = size;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BlockKey)) {
+                return false;
+            }
+            final BlockKey other = (BlockKey) obj;
+            return (this.position == other.position) && (this.size == other.size) && (this.length == other.length)
+                    && (this.modified == other.modified) && this.path.equals(other.path);
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int hashCode() {
+            int hash = this.path.hashCode();
+            hash = (31 * hash) + (int) (this.position ^ (this.position >>> 32));
+            hash = (31 * hash) + this.size;
+            hash = (31 * hash) + (int) (this.modified ^ (this.modified >>> 32));
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * BlockDirectory.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * The table blocks in chain order, with the file position and the row count of each block.
+ * <p>
+ * The blocks of a table are linked in a chain, and in long lived tables they are scattered in the file. The directory
+ * is built reading only the block headers and is kept in the table until the file size or modification time changes,
+ * so the scans know in advance which blocks to read and can merge the reads of adjacent blocks.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class BlockDirectory {
+
+    /**
+     * Size of the block header.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * The blocks in chain order.
+     */
+    private final int[] blocks;
+
+    /**
+     * The row count of each block.
+     */
+    private final int[] rows;
+
+    /**
+     * The file position of the first block.
+     */
+    private final long headerSize;
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * The file size when built.
+     */
+    private final long length;
+
+    /**
+     * The file modification time when built.
+     */
+    private final long modified;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table    the table.
+     * @param blocks   the blocks in chain order.
+     * @param rows     the row count of each block.
+     * @param length   the file size.
+     * @param modified the file modification time.
+     */
+    private BlockDirectory(final ParadoxTable table, final int[] blocks, final int[] rows, final long length,
+            final long modified) {
+        this.blocks = blocks;
+        this.rows = rows;
+        this.headerSize = table.getHeaderSize();
+        this.blockSize = table.getBlockSizeBytes();
+        this.length = length;
+        this.modified = modified;
+    }
+
+    /**
+     * Gets the block directory of a table. The directory is built once and kept in the table while the file is not
+     * changed.
+     *
+     * @param table the table.
+     * @return the block directory.
+     * @throws SQLException in case of I/O errors.
+     */
+    public static BlockDirectory get(final ParadoxTable table) throws SQLException {
+        final File file = table.getFile();
+        final long length = file.length();
+        final long modified = file.lastModified();
+        synchronized (table) {
+            BlockDirectory directory = table.getBlockDirectory();
+            if ((directory == null) || (directory.length != length) || (directory.modified != modified)) {
+                try (BlockReader reader = BlockReader.open(file, table.getConnection())) {
+                    directory = BlockDirectory.build(table, reader, length, modified);
+                } catch (final IOException e) {
+                    throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+                }
+                table.setBlockDirectory(directory);
+            }
+            return directory;
+        }
+    }
+
+    /**
+     * Builds the directory following the block chain. Only the block headers are read.
+     *
+     * @param table    the table.
+     * @param reader   the table file reader.
+     * @param length   the file size.
+     * @param modified the file modification time.
+     * @return the block directory.
+     * @throws IOException in case of I/O errors.
+     */
+    private static BlockDirectory build(final ParadoxTable table, final BlockReader reader, final long length,
+            final long modified) throws IOException {
+        int[] blocks = new int[Math.max(table.getUsedBlocks() & 0xFFFF, 1)];
+        int[] rows = new int[blocks.length];
+        int count = 0;
+        if (table.getUsedBlocks() != 0) {
+            final int blockSize = table.getBlockSizeBytes();
+            final long maxBlocks = ((reader.size() - table.getHeaderSize()) / blockSize) + 1;
+            final ByteBuffer header = ByteBuffer.allocate(BlockDirectory.BLOCK_HEADER_SIZE);
+            int nextBlock = table.getFirstBlock() & 0xFFFF;
+            while ((nextBlock != 0) && (count < maxBlocks)) {
+                final ByteBuffer buffer = reader.read(table.getHeaderSize() + ((long) (nextBlock - 1) * blockSize),
+                        header);
+                if (buffer.remaining() < BlockDirectory.BLOCK_HEADER_SIZE) {
+                    break;
+                }
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+                if (count == blocks.length) {
+                    blocks = Arrays.copyOf(blocks, count * 2);
+                    rows = Arrays.copyOf(rows, count * 2);
+                }
+                blocks[count] = nextBlock;
+                rows[count] = ((buffer.getShort(4) & 0xFFFF) / table.getRecordSize()) + 1;
+                count++;
+                nextBlock = buffer.getShort(0) & 0xFFFF;
+            }
+        }
+        return new BlockDirectory(table, Arrays.copyOf(blocks, count), Arrays.copyOf(rows, count), length,
+                modified);
+    }
+
+    /**
+     * Gets the count of blocks in the chain.
+     *
+     * @return the count of blocks in the chain.
+     */
+    public int size() {
+        return this.blocks.length;
+    }
+
+    /**
+     * Gets a block number.
+     *
+     * @param index the block position in the chain.
+     * @return the block number.
+     */
+    public int getBlock(final int index) {
+        return this.blocks[index];
+    }
+
+    /**
+     * Gets the row count of a block.
+     *
+     * @param index the block position in the chain.
+     * @return the row count of the block.
+     */
+    public int getRows(final int index) {
+        return this.rows[index];
+    }
+
+    /**
+     * Gets the file position of a block.
+     *
+     * @param index the block position in the chain.
+     * @return the file position of the block.
+     */
+    public long getPosition(final int index) {
+        return this.headerSize + ((long) (this.blocks[index] - 1) * this.blockSize);
+    }
+
+    /**
+     * Gets the blocks in chain order, without copying them. The array must not be changed.
+     *
+     * @return the blocks in chain order.
+     */
+    int[] getChain() {
+        return this.blocks;
+    }
+
+    /**
+     * Gets the blocks in chain order.
+     *
+     * @return a copy of the blocks in chain order.
+     */
+    public int[] getBlocks() {
+        return this.blocks.clone();
+    }
+}
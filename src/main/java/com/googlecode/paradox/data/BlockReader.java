@@ -0,0 +1,120 @@
+/*
+ * BlockReader.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.googlecode.paradox.utils.Utils.clear;
+import static com.googlecode.paradox.utils.Utils.flip;
+
+/**
+ * Reads the Paradox files, either through a file channel, through the block cache or through a shared memory mapping.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.4
+ * @since 1.4.1
+ */
+public abstract class BlockReader implements Closeable {
+
+    /**
+     * Opens a file to read using the mode configured in the connection.
+     *
+     * @param file       the file to read.
+     * @param connection the database connection.
+     * @return the file reader.
+     * @throws IOException in case of I/O errors.
+     */
+    public static BlockReader open(final File file, final ParadoxConnection connection) throws IOException {
+        if ((connection != null) && connection.isMemoryMapped()) {
+            final MappedFiles.MappedFile mapped = MappedFiles.acquire(file);
+            if (mapped != null) {
+                return new MappedBlockReader(mapped);
+            }
+        }
+
+        // Only the connections that asked for the cache use it, whatever the others requested.
+        if ((connection != null) && (connection.getBlockCacheSize() > 0)) {
+            return new CachedBlockReader(file, BlockCache.getInstance());
+        }
+        return new ChannelBlockReader(file);
+    }
+
+    /**
+     * Gets the file size.
+     *
+     * @return the file size.
+     * @throws IOException in case of I/O errors.
+     */
+    public abstract long size() throws IOException;
+
+    /**
+     * Gets the current read position.
+     *
+     * @return the current read position.
+     * @throws IOException in case of I/O errors.
+     */
+    public abstract long position() throws IOException;
+
+    /**
+     * Sets the current read position.
+     *
+     * @param newPosition the new read position.
+     * @throws IOException in case of I/O errors.
+     */
+    public abstract void position(final long newPosition) throws IOException;
+
+    /**
+     * Reads bytes from the current position into the buffer, like {@link java.nio.channels.FileChannel#read}.
+     *
+     * @param dst the buffer to read to.
+     * @return the bytes read or -1 in the end of file.
+     * @throws IOException in case of I/O errors.
+     */
+    public abstract int read(final ByteBuffer dst) throws IOException;
+
+    /**
+     * Reads up to the buffer capacity from a file position, stopping only in the end of file. The returned buffer is
+     * ready to read, from position zero. It may be a view of the file instead of the given buffer, so use only the
+     * returned one.
+     *
+     * @param position the file position.
+     * @param buffer   the buffer to read to.
+     * @return the buffer with the data read.
+     * @throws IOException in case of I/O errors.
+     */
+    public ByteBuffer read(final long position, final ByteBuffer buffer) throws IOException {
+        this.position(position);
+        clear(buffer);
+        while (buffer.hasRemaining() && (this.read(buffer) > 0)) {
+            // Large reads may be split by the file system.
+        }
+        flip(buffer);
+        return buffer;
+    }
+
+    /**
+     * Reads adjacent blocks from a file position, like {@link #read(long, ByteBuffer)}. Readers that keep blocks may
+     * keep each block apart, so the blocks are found again whatever blocks are read with them.
+     *
+     * @param position  the file position of the first block.
+     * @param buffer    the buffer to read to, with capacity for all blocks.
+     * @param blockSize the block size in bytes.
+     * @return the buffer with the data read.
+     * @throws IOException in case of I/O errors.
+     */
+    public ByteBuffer readBlocks(final long position, final ByteBuffer buffer, final int blockSize)
+            throws IOException {
+        return this.read(position, buffer);
+    }
+}
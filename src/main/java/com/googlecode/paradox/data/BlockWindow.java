@@ -0,0 +1,186 @@
+/*
+ * BlockWindow.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.googlecode.paradox.utils.Utils.limit;
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * A sequence of table blocks read together.
+ * <p>
+ * The blocks are sorted by file position and each run of adjacent blocks is read at once, so a block list out of file
+ * order is read with few reads and the blocks are still given in list order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+final class BlockWindow {
+
+    /**
+     * The block size in bytes.
+     */
+    private final int blockSize;
+
+    /**
+     * The file position of the first block.
+     */
+    private final long headerSize;
+
+    /**
+     * The buffer where the blocks are read, allocated on demand.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The data read for each block. Blocks read at once share the same data.
+     */
+    private final ByteBuffer[] data;
+
+    /**
+     * The offset of each block in its data.
+     */
+    private final int[] offsets;
+
+    /**
+     * The blocks sorted by block number, with their window position in the lower bits.
+     */
+    private final long[] order;
+
+    /**
+     * The list position of the first block.
+     */
+    private int start;
+
+    /**
+     * The count of blocks read.
+     */
+    private int count;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param blockSize  the block size in bytes.
+     * @param headerSize the file position of the first block.
+     * @param maxBlocks  the largest count of blocks read together.
+     */
+    BlockWindow(final int blockSize, final long headerSize, final int maxBlocks) {
+        this.blockSize = blockSize;
+        this.headerSize = headerSize;
+        this.data = new ByteBuffer[maxBlocks];
+        this.offsets = new int[maxBlocks];
+        this.order = new long[maxBlocks];
+    }
+
+    /**
+     * Reads a sequence of blocks.
+     *
+     * @param reader the table file reader.
+     * @param blocks the block list.
+     * @param first  the list position of the first block to read.
+     * @param size   the count of blocks to read, at most the largest count given in the constructor.
+     * @throws IOException in case of I/O errors.
+     */
+    void read(final BlockReader reader, final int[] blocks, final int first, final int size) throws IOException {
+        this.start = first;
+        this.count = 0;
+        if ((this.buffer == null) || (this.buffer.capacity() < (size * this.blockSize))) {
+            this.buffer = ByteBuffer.allocate(size * this.blockSize);
+        }
+
+        for (int loop = 0; loop < size; loop++) {
+            this.order[loop] = ((long) blocks[first + loop] << 32) | loop;
+        }
+        Arrays.sort(this.order, 0, size);
+
+        int run = 0;
+        int offset = 0;
+        while (run < size) {
+            int last = run + 1;
+            while ((last < size) && ((this.order[last] >>> 32) == ((this.order[last - 1] >>> 32) + 1))) {
+                last++;
+            }
+
+            final long block = this.order[run] >>> 32;
+            final ByteBuffer target = this.buffer.duplicate();
+            limit(target, offset + ((last - run) * this.blockSize));
+            position(target, offset);
+            final ByteBuffer read = reader.readBlocks(this.headerSize + ((block - 1) * this.blockSize),
+                    target.slice(), this.blockSize);
+            for (int loop = run; loop < last; loop++) {
+                final int slot = (int) this.order[loop];
+                this.data[slot] = read;
+                this.offsets[slot] = (loop - run) * this.blockSize;
+            }
+
+            offset += (last - run) * this.blockSize;
+            run = last;
+        }
+        this.count = size;
+    }
+
+    /**
+     * Gets the data of a block.
+     *
+     * @param index the block list position.
+     * @param min   the minimum size of the block data.
+     * @return the block data from position zero, or null if less than the minimum size was read.
+     */
+    ByteBuffer getBlock(final int index, final int min) {
+        final int slot = index - this.start;
+        final ByteBuffer block = this.data[slot].duplicate();
+        final int offset = this.offsets[slot];
+        if ((offset + min) > block.limit()) {
+            return null;
+        }
+
+        limit(block, Math.min(block.limit(), offset + this.blockSize));
+        position(block, offset);
+        return block.slice();
+    }
+
+    /**
+     * Gets if a block is in this window.
+     *
+     * @param index the block list position.
+     * @return true if the block is in this window.
+     */
+    boolean contains(final int index) {
+        return (index >= this.start) && (index < (this.start + this.count));
+    }
+
+    /**
+     * Gets the list position after the last block.
+     *
+     * @return the list position after the last block.
+     */
+    int getEnd() {
+        return this.start + this.count;
+    }
+
+    /**
+     * Gets the count of blocks read.
+     *
+     * @return the count of blocks read.
+     */
+    int size() {
+        return this.count;
+    }
+
+    /**
+     * Removes the blocks read.
+     */
+    void clear() {
+        this.count = 0;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * CachedBlockReader.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.utils.Utils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.googlecode.paradox.utils.Utils.clear;
+import static com.googlecode.paradox.utils.Utils.flip;
+
+/**
+ * Reads the file blocks through the shared {@link BlockCache}. The file is opened only when a block is not in cache.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+final class CachedBlockReader extends BlockReader {
+
+    /**
+     * The file to read.
+     */
+    private final File file;
+
+    /**
+     * The file canonical path.
+     */
+    private final String path;
+
+    /**
+     * The file size when opened.
+     */
+    private final long length;
+
+    /**
+     * The file modification time when opened.
+     */
+    private final long modified;
+
+    /**
+     * The block cache.
+     */
+    private final BlockCache cache;
+
+    /**
+     * The file reader, opened on first cache miss.
+     */
+    private ChannelBlockReader delegate;
+
+    /**
+     * The current read position.
+     */
+    private long position;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file  the file to read.
+     * @param cache the block cache.
+     * @throws IOException in case of I/O errors.
+     */
+    CachedBlockReader(final File file, final BlockCache cache) throws IOException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        this.file = file;
+        this.cache = cache;
+        this.path = file.getCanonicalPath();
+        this.modified = file.lastModified();
+        this.length = file.length();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long size() {
+        return this.length;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position() {
+        return this.position;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void position(final long newPosition) {
+        this.position = newPosition;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final ChannelBlockReader reader = this.getDelegate();
+        reader.position(this.position);
+        final int read = reader.read(dst);
+        if (read > 0) {
+            this.position += read;
+        }
+        return read;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ByteBuffer read(final long newPosition, final ByteBuffer buffer) throws IOException {
+        final BlockCache.BlockKey key = this.getKey(newPosition, buffer.capacity());
+        final byte[] cached = this.cache.get(key);
+        if (cached != null) {
+            this.position = newPosition + cached.length;
+            return ByteBuffer.wrap(cached).asReadOnlyBuffer();
+        }
+
+        super.read(newPosition, buffer);
+        final byte[] data = new byte[buffer.remaining()];
+        buffer.duplicate().get(data);
+        this.cache.put(key, data);
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * The blocks are cached one by one, with the same keys of single block reads. If any block is not in cache, all
+     * blocks are read at once and the missing ones are added to the cache.
+     */
+    @Override
+    public ByteBuffer readBlocks(final long newPosition, final ByteBuffer buffer, final int blockSize)
+            throws IOException {
+        final int count = buffer.capacity() / blockSize;
+        if ((count <= 1) || ((buffer.capacity() % blockSize) != 0)) {
+            return this.read(newPosition, buffer);
+        }
+
+        final byte[][] blocks = new byte[count][];
+        boolean complete = true;
+        for (int loop = 0; loop < count; loop++) {
+            blocks[loop] = this.cache.get(this.getKey(newPosition + ((long) loop * blockSize), blockSize));
+            // Only the last block may end before the block size, in the end of file.
+            if ((blocks[loop] == null) || ((loop < (count - 1)) && (blocks[loop].length < blockSize))) {
+                complete = false;
+            }
+        }
+
+        if (complete) {
+            clear(buffer);
+            for (final byte[] block : blocks) {
+                buffer.put(block);
+            }
+            flip(buffer);
+            this.position = newPosition + buffer.remaining();
+            return buffer;
+        }
+
+        super.read(newPosition, buffer);
+        for (int loop = 0; loop < count; loop++) {
+            final int start = loop * blockSize;
+            if ((blocks[loop] == null) && (start < buffer.limit())) {
+                final byte[] data = new byte[Math.min(blockSize, buffer.limit() - start)];
+                final ByteBuffer view = buffer.duplicate();
+                Utils.position(view, start);
+                view.get(data);
+                this.cache.put(this.getKey(newPosition + start, blockSize), data);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.delegate != null) {
+            try {
+                this.delegate.close();
+            } finally {
+                this.delegate = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the cache key of a file region.
+     *
+     * @param newPosition the region position.
+     * @param size        the region size.
+     * @return the cache key.
+     */
+    private BlockCache.BlockKey getKey(final long newPosition, final int size) {
+        return new BlockCache.BlockKey(this.path, this.length, this.modified, newPosition, size);
+    }
+
+    /**
+     * Gets the file reader, opening the file if needed.
+     *
+     * @return the file reader.
+     * @throws IOException in case of I/O errors.
+     */
+    private ChannelBlockReader getDelegate() throws IOException {
+        if (this.delegate == null) {
+            this.delegate = new ChannelBlockReader(this.file);
+        }
+        return this.delegate;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * ChannelBlockReader.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads the file through a {@link FileChannel}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ChannelBlockReader extends BlockReader {
+
+    /**
+     * The file input stream.
+     */
+    private final FileInputStream fs;
+
+    /**
+     * The file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param file the file to read.
+     * @throws IOException in case of I/O errors.
+     */
+    ChannelBlockReader(final File file) throws IOException {
+        this.fs = new FileInputStream(file);
+        this.channel = this.fs.getChannel();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long size() throws IOException {
+        return this.channel.size();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position() throws IOException {
+        return this.channel.position();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void position(final long newPosition) throws IOException {
+        this.channel.position(newPosition);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        return this.channel.read(dst);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.channel.close();
+        } finally {
+            this.fs.close();
+        }
+    }
+}
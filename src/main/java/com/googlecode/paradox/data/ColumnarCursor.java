@@ -0,0 +1,36 @@
+/*
+ * ColumnarCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.ColumnVector;
+
+/**
+ * A cursor that also exposes the current row by column, so values can be read without creating objects.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface ColumnarCursor extends RowCursor {
+
+    /**
+     * Gets the vector that stores a result column.
+     *
+     * @param column the result column position, starting with zero.
+     * @return the column vector.
+     */
+    ColumnVector getColumn(int column);
+
+    /**
+     * Gets the current row position in the column vectors.
+     *
+     * @return the current row position in the column vectors.
+     */
+    int getBatchRow();
+}
@@ -32,7 +32,7 @@ import java.util.List;
  * Handles field parsers.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class FieldFactory {
@@ -79,11 +79,26 @@ public final class FieldFactory {
      */
     public static FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field)
             throws SQLException {
+        final FieldParser parser = FieldFactory.getParser(field.getType());
+        if (parser != null) {
+            return parser.parse(table, buffer, field);
+        }
+        throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+    }
+
+    /**
+     * Gets the parser for a field type.
+     *
+     * @param type
+     *            the paradox field type.
+     * @return the parser or null if the type is unsupported.
+     */
+    public static FieldParser getParser(final int type) {
         for (final FieldParser parser : FieldFactory.ALL_PARSES) {
-            if (parser.match(field.getType())) {
-                return parser.parse(table, buffer, field);
+            if (parser.match(type)) {
+                return parser;
             }
         }
-        throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+        return null;
     }
 }
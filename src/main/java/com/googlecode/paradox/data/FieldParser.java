@@ -8,6 +8,7 @@
  */
 package com.googlecode.paradox.data;
 
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -18,7 +19,7 @@ import java.sql.SQLException;
  * Parses a database field.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public interface FieldParser {
@@ -46,4 +47,23 @@ public interface FieldParser {
      *             in case of parse errors.
      */
     FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) throws SQLException;
+    
+    /**
+     * Parses the field into a column batch, without creating value objects.
+     *
+     * @param table
+     *            the paradox tables.
+     * @param buffer
+     *            the buffer to read of.
+     * @param field
+     *            the paradox field.
+     * @param column
+     *            the column to store the value.
+     * @param row
+     *            the row in column.
+     * @throws SQLException
+     *             in case of parse errors.
+     */
+    void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field, final ColumnVector column,
+            final int row) throws SQLException;
 }
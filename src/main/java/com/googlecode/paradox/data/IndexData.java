@@ -10,18 +10,20 @@ package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
 import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
 import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.SecondaryIndexFilter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.googlecode.paradox.utils.Utils.flip;
@@ -31,7 +33,7 @@ import static com.googlecode.paradox.utils.Utils.position;
  * Reads index data files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.5
  * @since 1.0
  */
 public final class IndexData extends AbstractParadoxData {
@@ -70,6 +72,168 @@ public final class IndexData extends AbstractParadoxData {
         return indexes;
     }
 
+    /**
+     * Gets the secondary indexes of a table. The indexes are listed once and kept in the table.
+     *
+     * @param table the table.
+     * @return the secondary indexes.
+     * @throws SQLException in case of reading failures.
+     */
+    public static List<ParadoxIndex> getIndexes(final ParadoxTable table) throws SQLException {
+        synchronized (table) {
+            if (table.getIndexes() == null) {
+                List<ParadoxIndex> indexes = Collections.emptyList();
+                if (table.getFile() != null) {
+                    indexes = IndexData.listIndexes(table.getFile().getParentFile(), table.getName(),
+                            table.getConnection());
+                }
+                table.setIndexes(Collections.unmodifiableList(indexes));
+            }
+            return table.getIndexes();
+        }
+    }
+
+    /**
+     * Finds the table blocks that may have rows accepted by a filter on the leading field of a secondary index.
+     * <p>
+     * The index entries have the index fields, the primary key fields and the number of the table block where the
+     * row is. All entries are read, but only the leading field is decoded, and the index file is much smaller than
+     * the table. The filter must accept any value that some row may need, since the rows read are checked again.
+     *
+     * @param table  the table.
+     * @param index  the secondary index.
+     * @param filter the filter, called with a row with only the leading index field value.
+     * @return the table blocks in chain order, or null if the index can not be used.
+     * @throws SQLException in case of reading failures.
+     */
+    public static int[] findBlocks(final ParadoxTable table, final ParadoxIndex index, final RowFilter filter)
+            throws SQLException {
+        if (!IndexData.isValid(table, index)) {
+            return null;
+        }
+
+        final ParadoxField key = index.getFields().get(0);
+        final ParadoxField tableKey = table.findField(key.getName());
+        final int recordSize = index.getRecordSize();
+        final int blockSize = index.getBlockSize() * 1_024;
+        final boolean[] found = new boolean[table.getTotalBlocks() + 1];
+
+        try (BlockReader reader = BlockReader.open(index.getFile(), index.getConnection())) {
+            final ByteBuffer buffer = ByteBuffer.allocate(blockSize);
+            int nextBlock = index.getFirstBlock() & 0xFFFF;
+            int visited = 0;
+            while ((nextBlock != 0) && (visited++ < index.getTotalBlocks())) {
+                final ByteBuffer data = reader.read(index.getHeaderSize() + ((long) (nextBlock - 1) * blockSize),
+                        buffer);
+                if (data.limit() < 6) {
+                    return null;
+                }
+                data.order(ByteOrder.LITTLE_ENDIAN);
+                nextBlock = data.getShort(0) & 0xFFFF;
+                final int rows = (data.getShort(4) / recordSize) + 1;
+                data.order(ByteOrder.BIG_ENDIAN);
+
+                for (int row = 0; row < rows; row++) {
+                    final int start = 6 + (row * recordSize);
+                    if ((start + recordSize) > data.limit()) {
+                        return null;
+                    }
+
+                    final int block = (data.getShort((start + recordSize) - 2) & 0xFFFF) ^ 0x8000;
+                    if ((block < 1) || (block >= found.length)) {
+                        return null;
+                    }
+                    if (!found[block]) {
+                        final ByteBuffer view = data.duplicate();
+                        position(view, start);
+                        final FieldValue value = FieldFactory.parse(table, view, key);
+                        value.setField(tableKey);
+                        found[block] = filter.accept(Collections.singletonList(value));
+                    }
+                }
+            }
+
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+
+        // Keep the table order.
+        final List<Integer> blocks = new ArrayList<>();
+        final BlockDirectory directory = BlockDirectory.get(table);
+        for (int loop = 0; loop < directory.size(); loop++) {
+            final int block = directory.getBlock(loop);
+            if ((block < found.length) && found[block]) {
+                blocks.add(block);
+            }
+        }
+
+        final int[] ret = new int[blocks.size()];
+        for (int loop = 0; loop < ret.length; loop++) {
+            ret[loop] = blocks.get(loop);
+        }
+        return ret;
+    }
+
+    /**
+     * Gets the lowest or the highest value of the leading field of a secondary index. The index entries are sorted, so
+     * only the first block or the last block of the index is read.
+     *
+     * @param table   the table.
+     * @param index   the secondary index.
+     * @param highest true to get the highest value.
+     * @return the value, or null if the index can not be used or the value is empty.
+     * @throws SQLException in case of reading failures.
+     */
+    public static FieldValue findBound(final ParadoxTable table, final ParadoxIndex index, final boolean highest)
+            throws SQLException {
+        if (!IndexData.isValid(table, index) || !KeyRange.isSupported(index.getFields().get(0))) {
+            return null;
+        }
+
+        int block = index.getFirstBlock() & 0xFFFF;
+        if (highest) {
+            block = index.getLastBlock() & 0xFFFF;
+        }
+
+        final FieldValue value = IndexTree.readEdgeKey(table, index, block, index.getFields().get(0), highest);
+        if (value != null) {
+            value.setField(table.findField(index.getFields().get(0).getName()));
+        }
+        return value;
+    }
+
+    /**
+     * Checks if a secondary index can be used to find the table blocks. The index must have one entry per row, its
+     * leading field must be a table field and its last field must be the table block number.
+     *
+     * @param table the table.
+     * @param index the secondary index.
+     * @return true if the index can be used.
+     */
+    private static boolean isValid(final ParadoxTable table, final ParadoxIndex index) {
+        final List<ParadoxField> fields = index.getFields();
+        if ((fields == null) || (fields.size() < 2) || (index.getRowCount() != table.getRowCount())) {
+            return false;
+        }
+
+        final ParadoxField tableKey = table.findField(fields.get(0).getName());
+        if ((tableKey == null) || (tableKey.getType() != fields.get(0).getType())
+                || (tableKey.getSize() != fields.get(0).getSize())) {
+            return false;
+        }
+
+        final ParadoxField blockField = fields.get(fields.size() - 1);
+        if ((blockField.getType() != 3) || (blockField.getSize() != 2)) {
+            return false;
+        }
+
+        int size = 0;
+        for (final ParadoxField field : fields) {
+            size += field.getSize();
+        }
+        return size == index.getRecordSize();
+    }
+
     /**
      * Loads the database file header.
      *
@@ -81,15 +245,11 @@ public final class IndexData extends AbstractParadoxData {
      */
     private static ParadoxIndex loadIndexHeader(final File file, final ParadoxConnection connection) throws IOException,
             SQLException {
-        final ByteBuffer buffer = ByteBuffer.allocate(2048);
-
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-
         final ParadoxIndex index = new ParadoxIndex(file, file.getName(), connection);
 
-        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
-            flip(buffer);
+        try (final BlockReader reader = BlockReader.open(file, connection)) {
+            final ByteBuffer buffer = reader.read(0, ByteBuffer.allocate(2048));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
 
             index.setRecordSize(buffer.getShort());
             index.setHeaderSize(buffer.getShort());
@@ -0,0 +1,353 @@
+/*
+ * IndexTree.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxDataFile;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Reads the B-tree of a Paradox index file.
+ * <p>
+ * Each index record has the key fields followed by three shorts: the child block, the count of records in that block
+ * and a reserved value. The key is the first key of the child block. In the last level, the child blocks are the
+ * blocks of the indexed file, so a key range can be mapped to the few data blocks that may have the keys, and the
+ * lowest and highest keys are in the blocks at the tree edges.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+final class IndexTree {
+
+    /**
+     * Size of the block header.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * Size of the child pointer in each index record.
+     */
+    private static final int POINTER_SIZE = 6;
+
+    /**
+     * The table used to decode the keys.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The index file header.
+     */
+    private final ParadoxDataFile index;
+
+    /**
+     * The leading key field.
+     */
+    private final ParadoxField key;
+
+    /**
+     * The root block of the tree.
+     */
+    private final int rootBlock;
+
+    /**
+     * The count of levels in the tree.
+     */
+    private final int levels;
+
+    /**
+     * The count of blocks in the indexed file.
+     */
+    private final int targetBlocks;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table        the table used to decode the keys.
+     * @param index        the index file header.
+     * @param key          the leading key field.
+     * @param rootBlock    the root block of the tree.
+     * @param levels       the count of levels in the tree.
+     * @param targetBlocks the count of blocks in the indexed file.
+     */
+    IndexTree(final ParadoxTable table, final ParadoxDataFile index, final ParadoxField key, final int rootBlock,
+            final int levels, final int targetBlocks) {
+        this.table = table;
+        this.index = index;
+        this.key = key;
+        this.rootBlock = rootBlock;
+        this.levels = levels;
+        this.targetBlocks = targetBlocks;
+    }
+
+    /**
+     * Finds the blocks of the indexed file that may have keys in a range.
+     *
+     * @param range the key range.
+     * @return the indexed file blocks in key order, or null if the index is not valid.
+     * @throws SQLException in case of I/O errors.
+     */
+    int[] findBlocks(final KeyRange range) throws SQLException {
+        if ((this.rootBlock < 1) || (this.levels < 1) || (this.index.getRecordSize() <= IndexTree.POINTER_SIZE)) {
+            return null;
+        }
+
+        final List<Integer> blocks = new ArrayList<>();
+        try (BlockReader reader = BlockReader.open(this.index.getFile(), this.index.getConnection())) {
+            final ByteBuffer buffer = ByteBuffer.allocate(this.index.getBlockSize() * 1_024);
+            if (!this.visit(reader, buffer, this.rootBlock, 1, range, blocks)) {
+                return null;
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+
+        final int[] ret = new int[blocks.size()];
+        for (int loop = 0; loop < ret.length; loop++) {
+            ret[loop] = blocks.get(loop);
+        }
+        return ret;
+    }
+
+    /**
+     * Finds the indexed file block with the lowest or the highest keys, descending only the first or the last child
+     * of each index block.
+     *
+     * @param last true to find the block with the highest keys.
+     * @return the indexed file block, or zero if the index is not valid.
+     * @throws SQLException in case of I/O errors.
+     */
+    int findEdgeBlock(final boolean last) throws SQLException {
+        if ((this.rootBlock < 1) || (this.levels < 1) || (this.index.getRecordSize() <= IndexTree.POINTER_SIZE)) {
+            return 0;
+        }
+
+        final int recordSize = this.index.getRecordSize();
+        int block = this.rootBlock;
+        try (BlockReader reader = BlockReader.open(this.index.getFile(), this.index.getConnection())) {
+            final ByteBuffer buffer = ByteBuffer.allocate(this.index.getBlockSize() * 1_024);
+            for (int level = 1; level <= this.levels; level++) {
+                final ByteBuffer data = this.readBlock(reader, buffer, block);
+                if (data == null) {
+                    return 0;
+                }
+
+                int record = 0;
+                if (last) {
+                    record = IndexTree.getRecordCount(data, recordSize) - 1;
+                }
+                block = IndexTree.getChild(data, record, recordSize);
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+
+        if ((block < 1) || (block > this.targetBlocks)) {
+            return 0;
+        }
+        return block;
+    }
+
+    /**
+     * Reads the leading key of the first or the last record in a block. The file must have the block layout of the
+     * Paradox tables, where the records start with the key.
+     *
+     * @param table the table used to decode the key.
+     * @param file  the file header.
+     * @param block the block to read.
+     * @param key   the key field.
+     * @param last  true to read the last record.
+     * @return the key value, or null if the block is not valid or the key is empty.
+     * @throws SQLException in case of I/O errors.
+     */
+    static FieldValue readEdgeKey(final ParadoxTable table, final ParadoxDataFile file, final int block,
+            final ParadoxField key, final boolean last) throws SQLException {
+        final int recordSize = file.getRecordSize();
+        final int blockSize = file.getBlockSize() * 1_024;
+        if ((block < 1) || (block > file.getTotalBlocks()) || (recordSize < key.getSize())) {
+            return null;
+        }
+
+        try (BlockReader reader = BlockReader.open(file.getFile(), file.getConnection())) {
+            final ByteBuffer data = reader.read(file.getHeaderSize() + ((long) (block - 1) * blockSize),
+                    ByteBuffer.allocate(blockSize));
+            if (data.remaining() < IndexTree.BLOCK_HEADER_SIZE) {
+                return null;
+            }
+
+            int record = 0;
+            if (last) {
+                record = IndexTree.getRecordCount(data, recordSize) - 1;
+            }
+            final int start = IndexTree.BLOCK_HEADER_SIZE + (record * recordSize);
+            if ((start + recordSize) > data.remaining()) {
+                return null;
+            }
+
+            // Empty keys are sorted first, but are not decoded as null.
+            boolean empty = true;
+            for (int loop = 0; empty && (loop < key.getSize()); loop++) {
+                empty = data.get(start + loop) == 0;
+            }
+            if (empty) {
+                return null;
+            }
+
+            final ByteBuffer view = data.duplicate();
+            view.order(ByteOrder.BIG_ENDIAN);
+            position(view, start);
+            return FieldFactory.parse(table, view, key);
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Visits an index block, adding the blocks in range.
+     *
+     * @param reader the index file reader.
+     * @param buffer the block buffer.
+     * @param block  the index block to visit.
+     * @param level  the index block level, from one in the root.
+     * @param range  the key range.
+     * @param blocks the indexed file blocks found.
+     * @return false if the index is not valid.
+     * @throws IOException  in case of I/O errors.
+     * @throws SQLException in case of parse errors.
+     */
+    private boolean visit(final BlockReader reader, final ByteBuffer buffer, final int block, final int level,
+            final KeyRange range, final List<Integer> blocks) throws IOException, SQLException {
+        final ByteBuffer data = this.readBlock(reader, buffer, block);
+        if (data == null) {
+            return false;
+        }
+
+        final int recordSize = this.index.getRecordSize();
+        final int count = IndexTree.getRecordCount(data, recordSize);
+
+        // Children are saved after reading the keys, since the recursion reuses the buffer.
+        final List<Integer> children = new ArrayList<>();
+        Number current = this.getKey(data, 0);
+        for (int loop = 0; loop < count; loop++) {
+            if (!range.isAtMostUpper(current)) {
+                break;
+            }
+
+            Number next = null;
+            final boolean last = loop == (count - 1);
+            if (!last) {
+                next = this.getKey(data, loop + 1);
+            }
+
+            // The child keys are between its first key and the first key of the next child.
+            if (last || range.isAtLeastLower(next)) {
+                children.add(IndexTree.getChild(data, loop, recordSize));
+            }
+            current = next;
+        }
+
+        for (final int child : children) {
+            if (level < this.levels) {
+                if (!this.visit(reader, buffer, child, level + 1, range, blocks)) {
+                    return false;
+                }
+            } else if ((child < 1) || (child > this.targetBlocks)) {
+                return false;
+            } else {
+                blocks.add(child);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads an index block.
+     *
+     * @param reader the index file reader.
+     * @param buffer the block buffer.
+     * @param block  the index block to read.
+     * @return the block data in big endian order, or null if the block is not valid.
+     * @throws IOException in case of I/O errors.
+     */
+    private ByteBuffer readBlock(final BlockReader reader, final ByteBuffer buffer, final int block)
+            throws IOException {
+        if ((block < 1) || (block > this.index.getTotalBlocks())) {
+            return null;
+        }
+
+        final ByteBuffer data = reader.read(this.index.getHeaderSize() + ((long) (block - 1) * buffer.capacity()),
+                buffer);
+        if ((data.remaining() < IndexTree.BLOCK_HEADER_SIZE) || ((IndexTree.BLOCK_HEADER_SIZE
+                + (IndexTree.getRecordCount(data, this.index.getRecordSize()) * this.index.getRecordSize()))
+                > data.remaining())) {
+            return null;
+        }
+        data.order(ByteOrder.BIG_ENDIAN);
+        return data;
+    }
+
+    /**
+     * Gets the count of records in a block.
+     *
+     * @param data       the block data.
+     * @param recordSize the record size.
+     * @return the count of records in the block.
+     */
+    private static int getRecordCount(final ByteBuffer data, final int recordSize) {
+        final int size = (data.get(4) & 0xFF) | ((data.get(5) & 0xFF) << 8);
+        return (size / recordSize) + 1;
+    }
+
+    /**
+     * Gets the child block of an index record.
+     *
+     * @param data       the block data, in big endian order.
+     * @param record     the record position in block.
+     * @param recordSize the record size.
+     * @return the child block.
+     */
+    private static int getChild(final ByteBuffer data, final int record, final int recordSize) {
+        final int offset = (IndexTree.BLOCK_HEADER_SIZE + ((record + 1) * recordSize)) - IndexTree.POINTER_SIZE;
+        return (data.getShort(offset) & 0xFFFF) ^ 0x8000;
+    }
+
+    /**
+     * Gets the leading key of an index record.
+     *
+     * @param data   the block data.
+     * @param record the record position in block.
+     * @return the key value or null if the key is empty.
+     * @throws SQLException in case of parse errors.
+     */
+    private Number getKey(final ByteBuffer data, final int record) throws SQLException {
+        final int start = IndexTree.BLOCK_HEADER_SIZE + (record * this.index.getRecordSize());
+        boolean empty = true;
+        for (int loop = 0; empty && (loop < this.key.getSize()); loop++) {
+            empty = data.get(start + loop) == 0;
+        }
+        if (empty) {
+            return null;
+        }
+
+        final ByteBuffer view = data.duplicate();
+        position(view, start);
+        return (Number) FieldFactory.parse(this.table, view, this.key).getValue();
+    }
+}
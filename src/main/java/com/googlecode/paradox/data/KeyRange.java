@@ -0,0 +1,146 @@
+/*
+ * KeyRange.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+
+/**
+ * A range of numeric index keys, with inclusive bounds. The index lookups return a superset of the rows in range, so
+ * the query conditions must still be checked on the rows read.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class KeyRange {
+
+    /**
+     * The range of all keys.
+     */
+    public static final KeyRange ALL = new KeyRange(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+
+    /**
+     * The lower bound.
+     */
+    private final double lower;
+
+    /**
+     * The upper bound.
+     */
+    private final double upper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param lower the lower bound, inclusive.
+     * @param upper the upper bound, inclusive.
+     */
+    public KeyRange(final double lower, final double upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Gets if the field can be used as an index key in a range lookup. Only the numeric fields are supported, since
+     * the alpha fields are sorted by the table language driver.
+     *
+     * @param field the field to check.
+     * @return true if the field can be used as an index key.
+     */
+    public static boolean isSupported(final ParadoxField field) {
+        switch (field.getType()) {
+            case 3:
+            case 4:
+            case 5:
+            case 6:
+            case 0x16:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Gets the keys in both ranges.
+     *
+     * @param other the other range.
+     * @return the keys in both ranges.
+     */
+    public KeyRange intersect(final KeyRange other) {
+        return new KeyRange(Math.max(this.lower, other.lower), Math.min(this.upper, other.upper));
+    }
+
+    /**
+     * Gets if this range has no keys.
+     *
+     * @return true if this range has no keys.
+     */
+    public boolean isEmpty() {
+        return this.lower > this.upper;
+    }
+
+    /**
+     * Gets the lower bound.
+     *
+     * @return the lower bound.
+     */
+    public double getLower() {
+        return this.lower;
+    }
+
+    /**
+     * Gets the upper bound.
+     *
+     * @return the upper bound.
+     */
+    public double getUpper() {
+        return this.upper;
+    }
+
+    /**
+     * Gets if a key is not below the lower bound. Null keys are sorted first.
+     *
+     * @param key the key.
+     * @return true if the key is not below the lower bound.
+     */
+    boolean isAtLeastLower(final Number key) {
+        if (key == null) {
+            return this.lower == Double.NEGATIVE_INFINITY;
+        }
+        return key.doubleValue() >= this.lower;
+    }
+
+    /**
+     * Gets if a key is not above the upper bound. Null keys are sorted first.
+     *
+     * @param key the key.
+     * @return true if the key is not above the upper bound.
+     */
+    boolean isAtMostUpper(final Number key) {
+        return (key == null) || (key.doubleValue() <= this.upper);
+    }
+
+    /**
+     * Gets if a key is in this range.
+     *
+     * @param key the key.
+     * @return true if the key is in this range.
+     */
+    boolean contains(final Number key) {
+        return this.isAtLeastLower(key) && this.isAtMostUpper(key);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        return "[" + this.lower + ", " + this.upper + "]";
+    }
+}
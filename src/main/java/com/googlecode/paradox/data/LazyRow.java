@@ -0,0 +1,131 @@
+/*
+ * LazyRow.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.AbstractList;
+
+/**
+ * A row that keeps the raw record bytes and decodes each field only on first access. The decoded values are kept for
+ * the next accesses.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class LazyRow extends AbstractList<FieldValue> {
+
+    /**
+     * The record decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The record bytes.
+     */
+    private final ByteBuffer record;
+
+    /**
+     * The table position of each field read.
+     */
+    private final int[] indexes;
+
+    /**
+     * The decoded values, by field read. Shared by all views of this record.
+     */
+    private final FieldValue[] values;
+
+    /**
+     * The field read of each row position.
+     */
+    private final int[] map;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param decoder the record decoder.
+     * @param record  the record bytes.
+     * @param indexes the table position of each field read.
+     * @param map     the field read of each row position.
+     */
+    LazyRow(final RowDecoder decoder, final byte[] record, final int[] indexes, final int[] map) {
+        this(decoder, ByteBuffer.wrap(record), indexes, new FieldValue[indexes.length], map);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param decoder the record decoder.
+     * @param record  the record bytes.
+     * @param indexes the table position of each field read.
+     * @param values  the decoded values.
+     * @param map     the field read of each row position.
+     */
+    private LazyRow(final RowDecoder decoder, final ByteBuffer record, final int[] indexes,
+            final FieldValue[] values, final int[] map) {
+        this.decoder = decoder;
+        this.record = record;
+        this.indexes = indexes;
+        this.values = values;
+        this.map = map;
+    }
+
+    /**
+     * Creates a view of this record with other field order. The decoded values are shared.
+     *
+     * @param fieldMap the field read of each row position.
+     * @return the new view.
+     */
+    LazyRow view(final int[] fieldMap) {
+        return new LazyRow(this.decoder, this.record, this.indexes, this.values, fieldMap);
+    }
+
+    /**
+     * Gets a value, decoding it if needed.
+     *
+     * @param index the row position.
+     * @return the value.
+     * @throws SQLException in case of parse errors.
+     */
+    public FieldValue getValue(final int index) throws SQLException {
+        final int field = this.map[index];
+        FieldValue value = this.values[field];
+        if (value == null) {
+            value = this.decoder.decode(this.record, 0, this.indexes[field]);
+            this.values[field] = value;
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Parse errors are thrown as {@link IllegalStateException} with the {@link SQLException} as cause. Use
+     * {@link #getValue(int)} to get the checked exception.
+     */
+    @Override
+    public FieldValue get(final int index) {
+        try {
+            return this.getValue(index);
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int size() {
+        return this.map.length;
+    }
+}
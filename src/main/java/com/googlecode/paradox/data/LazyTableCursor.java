@@ -0,0 +1,210 @@
+/*
+ * LazyTableCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads a table keeping each row as the raw record bytes. The fields are decoded only when a value is read.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.1
+ */
+public final class LazyTableCursor implements SkippableCursor {
+
+    /**
+     * The record source.
+     */
+    private final TableCursor records;
+
+    /**
+     * The record decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The positions of the fields to read, in table order.
+     */
+    private final int[] indexes;
+
+    /**
+     * The field read of each filter row position, in the order the fields are read.
+     */
+    private final int[] fieldMap;
+
+    /**
+     * The field read of each result column.
+     */
+    private final int[] columnMap;
+
+    /**
+     * The row filter, or null to accept all rows.
+     */
+    private final RowFilter filter;
+
+    /**
+     * The record size in bytes.
+     */
+    private final int recordSize;
+
+    /**
+     * The current row.
+     */
+    private LazyRow row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table     the table to read.
+     * @param fields    the fields to read.
+     * @param columnMap the position in the fields read of each result column.
+     * @param filter    the row filter, or null to accept all rows.
+     */
+    public LazyTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter) {
+        this(table, fields, columnMap, filter, null);
+    }
+
+    /**
+     * Creates a new instance that reads only some table blocks.
+     *
+     * @param table     the table to read.
+     * @param fields    the fields to read.
+     * @param columnMap the position in the fields read of each result column.
+     * @param filter    the row filter, or null to accept all rows.
+     * @param blocks    the table blocks to read, or null to read the whole table.
+     */
+    public LazyTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter, final int[] blocks) {
+        this(table, fields, columnMap, filter, blocks, null);
+    }
+
+    /**
+     * Creates a new instance that reads only some table blocks, skipping the records rejected before decoding.
+     *
+     * @param table        the table to read.
+     * @param fields       the fields to read.
+     * @param columnMap    the position in the fields read of each result column.
+     * @param filter       the row filter, or null to accept all rows.
+     * @param blocks       the table blocks to read, or null to read the whole table.
+     * @param recordFilter the filter checked before decoding the records, or null to decode all records.
+     */
+    public LazyTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] columnMap,
+            final RowFilter filter, final int[] blocks, final RecordFilter recordFilter) {
+        if (blocks == null) {
+            this.records = new TableCursor(table, fields, null, 0, 0, recordFilter);
+        } else {
+            this.records = new TableCursor(table, fields, blocks, 0, blocks.length, recordFilter);
+        }
+        this.decoder = table.getRowDecoder();
+        this.indexes = this.records.getIndexes();
+        this.columnMap = columnMap;
+        this.filter = filter;
+        this.recordSize = table.getRecordSize();
+        this.fieldMap = new int[this.indexes.length];
+        for (int loop = 0; loop < this.fieldMap.length; loop++) {
+            this.fieldMap[loop] = loop;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        this.row = null;
+        ByteBuffer record = this.records.nextRecord();
+        while (record != null) {
+            final byte[] bytes = new byte[this.recordSize];
+            record.get(bytes);
+
+            final LazyRow current = new LazyRow(this.decoder, bytes, this.indexes, this.fieldMap);
+            if (this.accept(current)) {
+                this.row = current.view(this.columnMap);
+                return true;
+            }
+            record = this.records.nextRecord();
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Without a filter, the rows are skipped by the record source, that does not decode them.
+     */
+    @Override
+    public long skip(final long count) throws SQLException {
+        this.row = null;
+        if (this.filter == null) {
+            return this.records.skip(count);
+        }
+
+        long left = count;
+        while ((left > 0) && this.next()) {
+            left--;
+        }
+        this.row = null;
+        return count - left;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.records.reset();
+        this.row = null;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.records.close();
+    }
+
+    /**
+     * Applies the filter to a row.
+     *
+     * @param current the row in the order the fields are read.
+     * @return true if the row is accepted.
+     * @throws SQLException in case of parse errors.
+     */
+    private boolean accept(final LazyRow current) throws SQLException {
+        if (this.filter == null) {
+            return true;
+        }
+        try {
+            return this.filter.accept(current);
+        } catch (final IllegalStateException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MappedBlockReader.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.utils.Utils;
+
+import java.nio.ByteBuffer;
+
+import static com.googlecode.paradox.utils.Utils.limit;
+
+/**
+ * Reads the file from a shared memory mapping. Blocks are returned as views of the mapping, without copies.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class MappedBlockReader extends BlockReader {
+
+    /**
+     * The file mapping.
+     */
+    private final MappedFiles.MappedFile mapped;
+
+    /**
+     * The view of the mapping used by this reader.
+     */
+    private final ByteBuffer data;
+
+    /**
+     * If this reader is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param mapped the file mapping.
+     */
+    MappedBlockReader(final MappedFiles.MappedFile mapped) {
+        this.mapped = mapped;
+        this.data = mapped.getBuffer().duplicate();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long size() {
+        return this.data.capacity();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public long position() {
+        return this.data.position();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void position(final long newPosition) {
+        Utils.position(this.data, (int) Math.min(newPosition, this.data.capacity()));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int read(final ByteBuffer dst) {
+        final int length = Math.min(dst.remaining(), this.data.remaining());
+        if (length == 0 && dst.hasRemaining()) {
+            return -1;
+        }
+
+        final ByteBuffer source = this.data.duplicate();
+        limit(source, source.position() + length);
+        dst.put(source);
+        Utils.position(this.data, this.data.position() + length);
+        return length;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public ByteBuffer read(final long position, final ByteBuffer buffer) {
+        final int start = (int) Math.min(position, this.data.capacity());
+        final int end = (int) Math.min(position + buffer.capacity(), this.data.capacity());
+        final ByteBuffer view = this.data.duplicate();
+        limit(view, end);
+        Utils.position(view, start);
+        Utils.position(this.data, end);
+        return view.slice();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            MappedFiles.release(this.mapped);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * MappedFiles.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared read only mappings of the Paradox files.
+ * <p>
+ * All readers of the same file share one mapping while the file is not changed. The mapping is dropped when the last
+ * reader releases it.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class MappedFiles {
+
+    /**
+     * The current mappings, by file path.
+     */
+    private static final Map<String, MappedFile> MAPPINGS = new HashMap<>();
+
+    /**
+     * Utility class.
+     */
+    private MappedFiles() {
+        // Utility class.
+    }
+
+    /**
+     * Gets a mapping of the file, sharing the current one if the file is not changed.
+     *
+     * @param file the file to map.
+     * @return the file mapping or null if the file is too large to be mapped.
+     * @throws IOException in case of I/O errors.
+     */
+    static MappedFile acquire(final File file) throws IOException {
+        final String key = file.getCanonicalPath();
+        final long length = file.length();
+        final long lastModified = file.lastModified();
+
+        synchronized (MappedFiles.MAPPINGS) {
+            MappedFile mapped = MappedFiles.MAPPINGS.get(key);
+            if ((mapped != null) && (mapped.length == length) && (mapped.lastModified == lastModified)) {
+                mapped.references++;
+                return mapped;
+            }
+
+            if (length > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            try (FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
+                mapped = new MappedFile(key, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), length,
+                        lastModified);
+            }
+            // The old mapping, if any, stays valid for its current readers.
+            MappedFiles.MAPPINGS.put(key, mapped);
+            return mapped;
+        }
+    }
+
+    /**
+     * Releases a mapping.
+     *
+     * @param mapped the mapping to release.
+     */
+    static void release(final MappedFile mapped) {
+        synchronized (MappedFiles.MAPPINGS) {
+            mapped.references--;
+            if ((mapped.references == 0) && (MappedFiles.MAPPINGS.get(mapped.key) == mapped)) {
+                MappedFiles.MAPPINGS.remove(mapped.key);
+            }
+        }
+    }
+
+    /**
+     * Gets the count of files currently mapped.
+     *
+     * @return the count of files currently mapped.
+     */
+    static int size() {
+        synchronized (MappedFiles.MAPPINGS) {
+            return MappedFiles.MAPPINGS.size();
+        }
+    }
+
+    /**
+     * A file mapping shared by its readers.
+     */
+    static final class MappedFile {
+
+        /**
+         * The file path.
+         */
+        private final String key;
+
+        /**
+         * The mapped data.
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The file length when mapped.
+         */
+        private final long length;
+
+        /**
+         * The file modification time when mapped.
+         */
+        private final long lastModified;
+
+        /**
+         * How many readers use this mapping.
+         */
+        private int references = 1;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key          the file path.
+         * @param buffer       the mapped data.
+         * @param length       the file length.
+         * @param lastModified the file modification time.
+         */
+        MappedFile(final String key, final MappedByteBuffer buffer, final long length, final long lastModified) {
+            this.key = key;
+            this.buffer = buffer;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Gets the mapped data.
+         *
+         * @return the mapped data.
+         */
+        MappedByteBuffer getBuffer() {
+            return this.buffer;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * ParallelTableCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reads the table rows in parallel. The block chain is split in ranges that are decoded in a fork/join pool.
+ * <p>
+ * In ordered mode the rows are returned in chain order, the same order as {@link TableCursor}. In unordered mode the
+ * ranges are returned as they are decoded. Only a few ranges are decoded ahead of the reader, so the memory used is
+ * bounded.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.1
+ */
+public final class ParallelTableCursor implements RowCursor {
+
+    /**
+     * How many ranges each worker gets, to balance the work between them.
+     */
+    private static final int RANGES_PER_WORKER = 4;
+
+    /**
+     * How many ranges each worker may decode ahead of the reader.
+     */
+    private static final int PENDING_PER_WORKER = 2;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The fields to read.
+     */
+    private final Collection<ParadoxField> fields;
+
+    /**
+     * The worker pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * If the rows must be returned in chain order.
+     */
+    private final boolean ordered;
+
+    /**
+     * The filter checked before decoding the records, or null to read all records. Shared by the workers.
+     */
+    private final RecordFilter filter;
+
+    /**
+     * The pending ranges, in submission order.
+     */
+    private final Deque<Future<List<List<FieldValue>>>> pending = new ArrayDeque<>();
+
+    /**
+     * Receives the ranges as they are decoded, in unordered mode.
+     */
+    private CompletionService<List<List<FieldValue>>> completion;
+
+    /**
+     * The table blocks in chain order.
+     */
+    private int[] blocks;
+
+    /**
+     * The blocks in each range.
+     */
+    private int rangeSize;
+
+    /**
+     * The start of the next range to submit.
+     */
+    private int nextRange;
+
+    /**
+     * The rows of the current range.
+     */
+    private Iterator<List<FieldValue>> rows = Collections.<List<FieldValue>>emptyList().iterator();
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table   the table to read.
+     * @param fields  the fields to read.
+     * @param pool    the worker pool.
+     * @param ordered if the rows must be returned in chain order.
+     */
+    public ParallelTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final ForkJoinPool pool, final boolean ordered) {
+        this(table, fields, pool, ordered, null);
+    }
+
+    /**
+     * Creates a new instance that skips the records rejected by a filter.
+     *
+     * @param table   the table to read.
+     * @param fields  the fields to read.
+     * @param pool    the worker pool.
+     * @param ordered if the rows must be returned in chain order.
+     * @param filter  the filter checked before decoding the records, or null to read all records.
+     */
+    public ParallelTableCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final ForkJoinPool pool, final boolean ordered, final RecordFilter filter) {
+        this.table = table;
+        this.filter = filter;
+        this.fields = fields;
+        this.pool = pool;
+        this.ordered = ordered;
+
+        // Shared by the workers, so it must be created before them.
+        table.getRowDecoder();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (this.blocks == null) {
+            this.start();
+        }
+
+        while (!this.rows.hasNext()) {
+            if (this.pending.isEmpty()) {
+                this.row = null;
+                return false;
+            }
+            this.rows = this.take().iterator();
+            this.submit();
+        }
+
+        this.row = this.rows.next();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.cancel();
+        this.row = null;
+        this.rows = Collections.<List<FieldValue>>emptyList().iterator();
+        this.nextRange = 0;
+        if (this.blocks != null) {
+            this.submit();
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() {
+        this.cancel();
+    }
+
+    /**
+     * Reads the block chain and starts the first ranges.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void start() throws SQLException {
+        this.blocks = BlockDirectory.get(this.table).getBlocks();
+
+        final int ranges = this.pool.getParallelism() * ParallelTableCursor.RANGES_PER_WORKER;
+        this.rangeSize = Math.max(1, (this.blocks.length + ranges - 1) / ranges);
+        this.submit();
+    }
+
+    /**
+     * Submits ranges until the pending limit.
+     */
+    private void submit() {
+        final int limit = this.pool.getParallelism() * ParallelTableCursor.PENDING_PER_WORKER;
+        while ((this.pending.size() < limit) && (this.nextRange < this.blocks.length)) {
+            final int to = Math.min(this.nextRange + this.rangeSize, this.blocks.length);
+            final RangeTask task = new RangeTask(this.nextRange, to);
+            if (this.ordered) {
+                this.pending.add(this.pool.submit((ForkJoinTask<List<List<FieldValue>>>) task));
+            } else {
+                if (this.completion == null) {
+                    this.completion = new ExecutorCompletionService<>(this.pool);
+                }
+                this.pending.add(this.completion.submit(task));
+            }
+            this.nextRange = to;
+        }
+    }
+
+    /**
+     * Waits for the next range.
+     *
+     * @return the range rows.
+     * @throws SQLException in case of decoding errors.
+     */
+    private List<List<FieldValue>> take() throws SQLException {
+        try {
+            final Future<List<List<FieldValue>>> future;
+            if (this.ordered) {
+                future = this.pending.removeFirst();
+            } else {
+                future = this.completion.take();
+                this.pending.remove(future);
+            }
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.cancel();
+            throw new SQLException(e.getMessage(), SQLStates.LOAD_DATA.getValue(), e);
+        } catch (final ExecutionException e) {
+            this.cancel();
+            Throwable cause = e.getCause();
+            if (cause instanceof RangeException) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException(e.getMessage(), SQLStates.LOAD_DATA.getValue(), cause);
+        }
+    }
+
+    /**
+     * Cancels the pending ranges.
+     */
+    private void cancel() {
+        for (final Future<List<List<FieldValue>>> future : this.pending) {
+            future.cancel(false);
+        }
+        this.pending.clear();
+        this.completion = null;
+    }
+
+    /**
+     * Decodes a range of blocks.
+     */
+    private final class RangeTask extends RecursiveTask<List<List<FieldValue>>>
+            implements Callable<List<List<FieldValue>>> {
+
+        /**
+         * Serial version ID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first block position, inclusive.
+         */
+        private final int from;
+
+        /**
+         * The last block position, exclusive.
+         */
+        private final int to;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param from the first block position, inclusive.
+         * @param to   the last block position, exclusive.
+         */
+        RangeTask(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        protected List<List<FieldValue>> compute() {
+            final List<List<FieldValue>> ret = new ArrayList<>();
+            try (TableCursor cursor = new TableCursor(ParallelTableCursor.this.table,
+                    ParallelTableCursor.this.fields, ParallelTableCursor.this.blocks, this.from, this.to,
+                    ParallelTableCursor.this.filter)) {
+                // The ranges are already read in parallel.
+                cursor.setPrefetch(0);
+                while (cursor.next()) {
+                    ret.add(cursor.getRow());
+                }
+            } catch (final SQLException e) {
+                throw new RangeException(e);
+            }
+            return ret;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<List<FieldValue>> call() {
+            return this.invoke();
+        }
+    }
+
+    /**
+     * Carries a decoding error out of a worker.
+     */
+    private static final class RangeException extends RuntimeException {
+
+        /**
+         * Serial version ID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param cause the decoding error.
+         */
+        RangeException(final SQLException cause) {
+            super(cause);
+        }
+    }
+}
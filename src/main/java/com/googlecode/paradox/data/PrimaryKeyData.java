@@ -9,26 +9,25 @@
 package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxPK;
 import com.googlecode.paradox.metadata.ParadoxTable;
 import com.googlecode.paradox.utils.filefilters.PrimaryKeyFilter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 
-import static com.googlecode.paradox.utils.Utils.flip;
 import static com.googlecode.paradox.utils.Utils.position;
 
 /**
  * Reads primary key data fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.4
  * @since 1.0
  */
 public final class PrimaryKeyData {
@@ -64,6 +63,100 @@ public final class PrimaryKeyData {
         return null;
     }
 
+    /**
+     * Gets the primary key index of a table. The index is loaded once and kept in the table.
+     *
+     * @param table the table.
+     * @return the primary key index or null if the table has none.
+     * @throws SQLException in case of load failures.
+     */
+    public static ParadoxPK getPrimaryKey(final ParadoxTable table) throws SQLException {
+        synchronized (table) {
+            if (!table.isPrimaryKeyIndexLoaded()) {
+                ParadoxPK pk = null;
+                if ((table.getFile() != null) && (table.getPrimaryFieldCount() > 0)) {
+                    pk = PrimaryKeyData.getPrimaryKey(table.getFile().getParentFile(), table,
+                            table.getConnection());
+                }
+                table.setPrimaryKeyIndex(pk);
+            }
+            return table.getPrimaryKeyIndex();
+        }
+    }
+
+    /**
+     * Finds the table blocks that may have rows with the leading primary key field in a range, descending the
+     * primary key index tree.
+     *
+     * @param table the table.
+     * @param range the range of the leading primary key field.
+     * @return the table blocks in key order, or null if the primary key index can not be used.
+     * @throws SQLException in case of load failures.
+     */
+    public static int[] findBlocks(final ParadoxTable table, final KeyRange range) throws SQLException {
+        final IndexTree tree = PrimaryKeyData.getIndexTree(table);
+        if (tree == null) {
+            return null;
+        }
+        return tree.findBlocks(range);
+    }
+
+    /**
+     * Gets the lowest or the highest value of the leading primary key field. Only the index blocks in the tree edge
+     * and one table block are read: the last index record points to the table block with the highest keys, but
+     * has only the first key of that block.
+     *
+     * @param table   the table.
+     * @param highest true to get the highest value.
+     * @return the value, or null if the primary key index can not be used or the value is empty.
+     * @throws SQLException in case of load failures.
+     */
+    public static FieldValue findBound(final ParadoxTable table, final boolean highest) throws SQLException {
+        final IndexTree tree = PrimaryKeyData.getIndexTree(table);
+        if (tree == null) {
+            return null;
+        }
+
+        final int block = tree.findEdgeBlock(highest);
+        if (block == 0) {
+            return null;
+        }
+
+        final ParadoxField key = table.getFields().get(0);
+        final FieldValue value = IndexTree.readEdgeKey(table, table, block, key, highest);
+        if (value != null) {
+            value.setField(key);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the primary key index tree, over the leading primary key field.
+     *
+     * @param table the table.
+     * @return the index tree or null if the primary key index can not be used.
+     * @throws SQLException in case of load failures.
+     */
+    private static IndexTree getIndexTree(final ParadoxTable table) throws SQLException {
+        final ParadoxPK pk = PrimaryKeyData.getPrimaryKey(table);
+        if ((pk == null) || table.getFields().isEmpty() || !KeyRange.isSupported(table.getFields().get(0))) {
+            return null;
+        }
+
+        // The index records must have the key fields and the block pointer.
+        int keySize = 0;
+        for (int loop = 0; loop < table.getPrimaryFieldCount(); loop++) {
+            final ParadoxField field = table.getFields().get(loop);
+            keySize += field.getSize();
+        }
+        if (pk.getRecordSize() != (keySize + 6)) {
+            return null;
+        }
+
+        return new IndexTree(table, pk, table.getFields().get(0), pk.getRootBlock(), pk.getIndexLevels(),
+                table.getTotalBlocks());
+    }
+
     /**
      * Gets the {@link ParadoxPK} from a PK file.
      *
@@ -73,13 +166,11 @@ public final class PrimaryKeyData {
      * @throws IOException in case of I/O exceptions.
      */
     private static ParadoxPK loadPKHeader(final File file, final ParadoxConnection connection) throws IOException {
-        final ByteBuffer buffer = ByteBuffer.allocate(2048);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        final ParadoxPK pk = new ParadoxPK(connection);
+        final ParadoxPK pk = new ParadoxPK(file, connection);
 
-        try (final FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
-            flip(buffer);
+        try (final BlockReader reader = BlockReader.open(file, connection)) {
+            final ByteBuffer buffer = reader.read(0, ByteBuffer.allocate(2048));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
 
             pk.setName(file.getName());
             pk.setRecordSize(buffer.getShort());
@@ -95,6 +186,11 @@ public final class PrimaryKeyData {
             position(buffer, 0x15);
             pk.setIndexFieldNumber(buffer.get());
 
+            position(buffer, 0x1E);
+            pk.setRootBlock(buffer.getShort() & 0xFFFF);
+            pk.setIndexLevels(buffer.get() & 0xFF);
+            pk.setKeyFieldCount(buffer.get() & 0xFF);
+
             position(buffer, 0x38);
             pk.setWriteProtected(buffer.get());
             pk.setVersionId(buffer.get());
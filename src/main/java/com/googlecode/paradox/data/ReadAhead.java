@@ -0,0 +1,255 @@
+/*
+ * ReadAhead.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads the block windows of a table ahead of the decoding, in a background thread.
+ * <p>
+ * The windows are read in sequence from a start position, growing like the windows read by {@link TableCursor}, while
+ * up to the prefetch depth of windows wait to be decoded. The windows are recycled: a window is read again only after
+ * the decoding thread gives it back, so the memory used does not depend on the table size.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+final class ReadAhead implements Runnable {
+
+    /**
+     * Marks the end of the windows, given to the decoding thread when a read fails and to the reading thread when
+     * cancelled.
+     */
+    private static final BlockWindow END = new BlockWindow(0, 0, 0);
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The block list.
+     */
+    private final int[] blocks;
+
+    /**
+     * The list position after the last block to read.
+     */
+    private final int end;
+
+    /**
+     * The largest count of blocks in a window.
+     */
+    private final int maxBlocks;
+
+    /**
+     * The windows ready to be read.
+     */
+    private final BlockingQueue<BlockWindow> free;
+
+    /**
+     * The windows read, in list order.
+     */
+    private final BlockingQueue<BlockWindow> filled;
+
+    /**
+     * The list position of the first block to read.
+     */
+    private final int start;
+
+    /**
+     * The list position of the next window given to the decoding thread.
+     */
+    private int next;
+
+    /**
+     * The reading task.
+     */
+    private Future<?> task;
+
+    /**
+     * If the decoding thread does not need more windows.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * The read error.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table     the table to read.
+     * @param blocks    the block list.
+     * @param start     the list position of the first block to read.
+     * @param end       the list position after the last block to read.
+     * @param maxBlocks the largest count of blocks in a window.
+     * @param depth     the count of windows read ahead.
+     */
+    private ReadAhead(final ParadoxTable table, final int[] blocks, final int start, final int end,
+            final int maxBlocks, final int depth) {
+        this.table = table;
+        this.blocks = blocks;
+        this.start = start;
+        this.next = start;
+        this.end = end;
+        this.maxBlocks = maxBlocks;
+
+        // No more windows are kept than the blocks to read can fill.
+        final int windows = Math.min(depth, ReadAhead.countWindows(start, end, maxBlocks));
+
+        // One more window is kept by the decoding thread, and one more place is left to the failure.
+        this.free = new ArrayBlockingQueue<>(windows + 2);
+        this.filled = new ArrayBlockingQueue<>(windows + 2);
+        for (int loop = 0; loop <= windows; loop++) {
+            this.free.add(new BlockWindow(table.getBlockSizeBytes(), table.getHeaderSize(), maxBlocks));
+        }
+    }
+
+    /**
+     * Starts reading the blocks.
+     *
+     * @param executor  the executor of the reading task.
+     * @param table     the table to read.
+     * @param blocks    the block list.
+     * @param start     the list position of the first block to read.
+     * @param end       the list position after the last block to read.
+     * @param maxBlocks the largest count of blocks in a window.
+     * @param depth     the count of windows read ahead.
+     * @return the read-ahead started.
+     */
+    static ReadAhead start(final ExecutorService executor, final ParadoxTable table, final int[] blocks,
+            final int start, final int end, final int maxBlocks, final int depth) {
+        final ReadAhead readAhead = new ReadAhead(table, blocks, start, end, maxBlocks, depth);
+        readAhead.task = executor.submit(readAhead);
+        return readAhead;
+    }
+
+    /**
+     * Counts the windows needed to read a range of blocks. The windows start with one block and double up to the
+     * largest count of blocks.
+     *
+     * @param start     the list position of the first block to read.
+     * @param end       the list position after the last block to read.
+     * @param maxBlocks the largest count of blocks in a window.
+     * @return the count of windows.
+     */
+    static int countWindows(final int start, final int end, final int maxBlocks) {
+        int count = 0;
+        int position = start;
+        int size = 1;
+        while (position < end) {
+            position += Math.min(size, end - position);
+            size = Math.min(size * 2, maxBlocks);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the list position of the next window given by {@link #take()}.
+     *
+     * @return the list position of the next window.
+     */
+    int getNext() {
+        return this.next;
+    }
+
+    /**
+     * Waits for the next window. The window must be given back with {@link #recycle(BlockWindow)} before taking more
+     * windows than the prefetch depth.
+     *
+     * @return the next window.
+     * @throws SQLException in case of read errors.
+     */
+    BlockWindow take() throws SQLException {
+        final BlockWindow window;
+        try {
+            window = this.filled.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+
+        if (window == ReadAhead.END) {
+            throw new SQLException(this.error.getMessage(), SQLStates.INVALID_IO.getValue(), this.error);
+        }
+        this.next = window.getEnd();
+        return window;
+    }
+
+    /**
+     * Gives back a window already decoded, to be read again.
+     *
+     * @param window the window decoded.
+     */
+    void recycle(final BlockWindow window) {
+        this.free.offer(window);
+    }
+
+    /**
+     * Stops reading, waiting for the current read to end.
+     */
+    void cancel() {
+        this.cancelled = true;
+        this.filled.drainTo(this.free);
+        this.free.offer(ReadAhead.END);
+        try {
+            this.task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            // Errors are given in take.
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void run() {
+        try (BlockReader reader = BlockReader.open(this.table.getFile(), this.table.getConnection())) {
+            int position = this.start;
+            int size = 1;
+            while (position < this.end) {
+                final BlockWindow window = this.free.take();
+                if (this.cancelled || (window == ReadAhead.END)) {
+                    break;
+                }
+
+                final int count = Math.min(size, this.end - position);
+                window.read(reader, this.blocks, position, count);
+                this.filled.put(window);
+                position += count;
+                size = Math.min(size * 2, this.maxBlocks);
+            }
+        } catch (final InterruptedException e) {
+            this.error = new IOException("Read-ahead interrupted.", e);
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            this.error = e;
+        } finally {
+            // The decoding thread must always wake up, whatever stopped the reading.
+            if (this.error != null) {
+                this.filled.offer(ReadAhead.END);
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * RecordFilter.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TemporalDecoder;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters the table records before they are decoded.
+ * <p>
+ * The conditions are checked in the encoded record bytes, so rejected records never create a value. Only number and
+ * date fields are supported: their values are read with a sign bit flip or a mask, without parsing, and compared like
+ * the compiled WHERE conditions. All conditions must be true to accept a record.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class RecordFilter {
+
+    /**
+     * The comparison of a condition.
+     */
+    public enum Operator {
+        /**
+         * Value equals to the literal.
+         */
+        EQUALS,
+
+        /**
+         * Value not equals to the literal.
+         */
+        NOT_EQUALS,
+
+        /**
+         * Value greater than the literal.
+         */
+        GREATER,
+
+        /**
+         * Value less than the literal.
+         */
+        LESS,
+
+        /**
+         * Value between two literals, inclusive.
+         */
+        BETWEEN
+    }
+
+    /**
+     * The field offsets inside a record.
+     */
+    private final int[] offsets;
+
+    /**
+     * The conditions to check.
+     */
+    private final List<Condition> conditions = new ArrayList<>();
+
+    /**
+     * If no record can be accepted.
+     */
+    private boolean rejectAll;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table the table to filter.
+     */
+    public RecordFilter(final ParadoxTable table) {
+        this.offsets = table.getFieldOffsets();
+    }
+
+    /**
+     * Adds a condition.
+     *
+     * @param field    the field to compare.
+     * @param operator the comparison.
+     * @param first    the literal compared, or the lower bound in {@link Operator#BETWEEN}.
+     * @param last     the upper bound in {@link Operator#BETWEEN}, or null.
+     * @return false if the condition can not be checked in the encoded record, and was not added.
+     */
+    public boolean add(final ParadoxField field, final Operator operator, final String first, final String last) {
+        final Condition condition = RecordFilter.createCondition(field.getType(), operator, first, last);
+        if (condition == null) {
+            return false;
+        }
+        condition.offset = this.offsets[field.getOrderNum() - 1];
+        this.conditions.add(condition);
+        return true;
+    }
+
+    /**
+     * Adds a condition that is always false.
+     */
+    public void addRejectAll() {
+        this.rejectAll = true;
+    }
+
+    /**
+     * Gets the number of conditions added.
+     *
+     * @return the number of conditions added.
+     */
+    public int size() {
+        if (this.rejectAll) {
+            return this.conditions.size() + 1;
+        }
+        return this.conditions.size();
+    }
+
+    /**
+     * Checks if a record is accepted. The buffer position is not changed.
+     *
+     * @param buffer the buffer positioned in the record start, in big endian order.
+     * @return true if the record is accepted.
+     */
+    public boolean accept(final ByteBuffer buffer) {
+        if (this.rejectAll) {
+            return false;
+        }
+
+        final int start = buffer.position();
+        for (final Condition condition : this.conditions) {
+            if (!condition.accept(buffer, start + condition.offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a condition for a field type.
+     *
+     * @param type     the field type.
+     * @param operator the comparison.
+     * @param first    the literal compared, or the lower bound.
+     * @param last     the upper bound, or null.
+     * @return the condition or null if not supported.
+     */
+    private static Condition createCondition(final int type, final Operator operator, final String first,
+            final String last) {
+        final Condition condition = new Condition(type, operator);
+        try {
+            switch (type) {
+                case 2:
+                    condition.lower = RecordFilter.parseDate(first);
+                    if (last != null) {
+                        condition.upper = RecordFilter.parseDate(last);
+                    }
+                    break;
+                case 3:
+                case 4:
+                case 5:
+                case 6:
+                case 0x16:
+                    condition.lower = Double.parseDouble(first);
+                    if (last != null) {
+                        condition.upper = Double.parseDouble(last);
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        } catch (final IllegalArgumentException e) {
+            if ((operator != Operator.EQUALS) && (operator != Operator.NOT_EQUALS)) {
+                return null;
+            }
+            // Not a value of the field type, so no value is equal to it.
+            condition.never = true;
+        }
+
+        if (Double.isNaN(condition.lower) || Double.isNaN(condition.upper)) {
+            return null;
+        }
+        return condition;
+    }
+
+    /**
+     * Parses a date literal, like {@link java.sql.Date#valueOf(String)}, as a Paradox date.
+     *
+     * @param literal the date literal.
+     * @return the Paradox date, in days, or {@link Double#NaN} if the date is too old to compare.
+     * @throws IllegalArgumentException if the literal is not a date.
+     */
+    private static double parseDate(final String literal) {
+        final long epochDay = RecordFilter.parseEpochDay(Date.valueOf(literal).toString());
+        if (epochDay == Long.MIN_VALUE) {
+            return Double.NaN;
+        }
+        return epochDay - TemporalDecoder.toEpochDay(0);
+    }
+
+    /**
+     * Parses a date in yyyy-mm-dd format, between the years 1583 and 9999, where dates are always Gregorian.
+     *
+     * @param literal the date literal.
+     * @return the days since 01/01/1970, or {@link Long#MIN_VALUE} if the literal is not a valid date.
+     */
+    private static long parseEpochDay(final String literal) {
+        if ((literal.length() != 10) || (literal.charAt(4) != '-') || (literal.charAt(7) != '-')) {
+            return Long.MIN_VALUE;
+        }
+        for (int loop = 0; loop < literal.length(); loop++) {
+            if ((loop != 4) && (loop != 7) && !Character.isDigit(literal.charAt(loop))) {
+                return Long.MIN_VALUE;
+            }
+        }
+
+        final int year = Integer.parseInt(literal.substring(0, 4));
+        final int month = Integer.parseInt(literal.substring(5, 7));
+        final int day = Integer.parseInt(literal.substring(8, 10));
+        if ((year < 1583) || (month < 1) || (month > 12) || (day < 1)
+                || (day > RecordFilter.getMonthDays(year, month))) {
+            return Long.MIN_VALUE;
+        }
+
+        // Days from civil, with years starting in March.
+        final int y = year - (month <= 2 ? 1 : 0);
+        final int era = y / 400;
+        final int yearOfEra = y - (era * 400);
+        final int dayOfYear = (((153 * (month + (month > 2 ? -3 : 9))) + 2) / 5) + day - 1;
+        final int dayOfEra = ((yearOfEra * 365) + (yearOfEra / 4)) - (yearOfEra / 100) + dayOfYear;
+        return ((era * 146_097L) + dayOfEra) - 719_468L;
+    }
+
+    /**
+     * Gets the days of a month.
+     *
+     * @param year  the year.
+     * @param month the month, starting from one.
+     * @return the days of the month.
+     */
+    private static int getMonthDays(final int year, final int month) {
+        if (month == 2) {
+            final boolean leap = ((year % 4) == 0) && (((year % 100) != 0) || ((year % 400) == 0));
+            return leap ? 29 : 28;
+        } else if ((month == 4) || (month == 6) || (month == 9) || (month == 11)) {
+            return 30;
+        }
+        return 31;
+    }
+
+    /**
+     * A condition over a single field.
+     */
+    private static final class Condition {
+
+        /**
+         * The field type.
+         */
+        private final int type;
+
+        /**
+         * The comparison.
+         */
+        private final Operator operator;
+
+        /**
+         * The field offset in record.
+         */
+        private int offset;
+
+        /**
+         * The literal compared, or the lower bound.
+         */
+        private double lower;
+
+        /**
+         * The upper bound.
+         */
+        private double upper;
+
+        /**
+         * If no value is equal to the literal.
+         */
+        private boolean never;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param type     the field type.
+         * @param operator the comparison.
+         */
+        Condition(final int type, final Operator operator) {
+            this.type = type;
+            this.operator = operator;
+        }
+
+        /**
+         * Checks the condition in a record.
+         *
+         * @param buffer   the record buffer.
+         * @param position the field position in buffer.
+         * @return true if the condition is true.
+         */
+        boolean accept(final ByteBuffer buffer, final int position) {
+            final double value = this.read(buffer, position);
+            switch (this.operator) {
+                case EQUALS:
+                    return !this.never && (value == this.lower);
+                case NOT_EQUALS:
+                    return this.never || (value != this.lower);
+                case GREATER:
+                    return value > this.lower;
+                case LESS:
+                    return value < this.lower;
+                default:
+                    return (value >= this.lower) && (value <= this.upper);
+            }
+        }
+
+        /**
+         * Reads the field value without creating objects. Integer values are exact as double.
+         *
+         * @param buffer   the record buffer.
+         * @param position the field position in buffer.
+         * @return the field value.
+         */
+        private double read(final ByteBuffer buffer, final int position) {
+            switch (this.type) {
+                case 3:
+                    return (short) (buffer.getShort(position) ^ 0x8000);
+                case 4:
+                    return buffer.getInt(position) ^ 0x8000_0000;
+                case 5:
+                case 6:
+                    long bits = buffer.getLong(position);
+                    if ((bits >>> 63) == 1) {
+                        bits &= 0x7FFF_FFFF_FFFF_FFFFL;
+                    } else {
+                        bits = ~bits;
+                    }
+                    return Double.longBitsToDouble(bits);
+                default:
+                    // Auto increment and date.
+                    return buffer.getInt(position) & 0x0FFF_FFFF;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * RowCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Forward only cursor over rows, read on demand.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface RowCursor extends AutoCloseable {
+
+    /**
+     * Moves to the next row.
+     *
+     * @return true if there is a current row after moving.
+     * @throws SQLException in case of reading errors.
+     */
+    boolean next() throws SQLException;
+
+    /**
+     * Gets the current row.
+     *
+     * @return the current row or null if the cursor is not positioned in a row.
+     */
+    List<FieldValue> getRow();
+
+    /**
+     * Moves this cursor before the first row.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    void reset() throws SQLException;
+
+    /**
+     * Release the resources used by this cursor.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,192 @@
+/*
+ * RowDecoder.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.ColumnBatch;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Decodes the table records.
+ * <p>
+ * The field parsers and offsets are resolved once per table, so decoding a field does not search the parser list.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public final class RowDecoder {
+
+    /**
+     * The table to decode.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The table fields, in table order.
+     */
+    private final ParadoxField[] fields;
+
+    /**
+     * The parser of each field, null if the field type is unsupported.
+     */
+    private final FieldParser[] parsers;
+
+    /**
+     * The field offsets inside a record.
+     */
+    private final int[] offsets;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table the table to decode.
+     */
+    public RowDecoder(final ParadoxTable table) {
+        this.table = table;
+        this.fields = table.getFields().toArray(new ParadoxField[table.getFields().size()]);
+        this.offsets = table.getFieldOffsets();
+        this.parsers = new FieldParser[this.fields.length];
+        for (int loop = 0; loop < this.fields.length; loop++) {
+            this.parsers[loop] = FieldFactory.getParser(this.fields[loop].getType());
+        }
+    }
+
+    /**
+     * Gets the positions of some fields in the table, in table order.
+     *
+     * @param selected the fields to find.
+     * @return the positions of the fields in the table, in table order.
+     */
+    public int[] getIndexes(final Collection<ParadoxField> selected) {
+        final List<Integer> indexes = new ArrayList<>(selected.size());
+        for (int loop = 0; loop < this.fields.length; loop++) {
+            if (selected.contains(this.fields[loop])) {
+                indexes.add(loop);
+            }
+        }
+
+        final int[] ret = new int[indexes.size()];
+        for (int loop = 0; loop < ret.length; loop++) {
+            ret[loop] = indexes.get(loop);
+        }
+        return ret;
+    }
+
+    /**
+     * Decodes some fields of the record in the current buffer position. After this, the buffer is positioned in the
+     * next record.
+     *
+     * @param buffer  the buffer to read of.
+     * @param indexes the field positions to decode, in table order.
+     * @return the row values.
+     * @throws SQLException in case of parse errors.
+     */
+    public List<FieldValue> decode(final ByteBuffer buffer, final int[] indexes) throws SQLException {
+        final List<FieldValue> row = new ArrayList<>(indexes.length);
+        final int start = buffer.position();
+
+        for (final int index : indexes) {
+            position(buffer, start + this.offsets[index]);
+            final FieldValue fieldValue = this.decode(buffer, index);
+            if (fieldValue != null) {
+                row.add(fieldValue);
+            }
+        }
+
+        position(buffer, start + this.table.getRecordSize());
+        return row;
+    }
+
+    /**
+     * Decodes a single field of the record that starts in a buffer position.
+     *
+     * @param buffer the buffer to read of.
+     * @param start  the record start in buffer.
+     * @param index  the field position in the table.
+     * @return the field value.
+     * @throws SQLException in case of parse errors.
+     */
+    public FieldValue decode(final ByteBuffer buffer, final int start, final int index) throws SQLException {
+        position(buffer, start + this.offsets[index]);
+        return this.decode(buffer, index);
+    }
+
+    /**
+     * Gets the fields in some positions.
+     *
+     * @param indexes the field positions.
+     * @return the fields.
+     */
+    public List<ParadoxField> getFields(final int[] indexes) {
+        final List<ParadoxField> ret = new ArrayList<>(indexes.length);
+        for (final int index : indexes) {
+            ret.add(this.fields[index]);
+        }
+        return ret;
+    }
+
+    /**
+     * Decodes some fields of the record in the current buffer position into a batch row, one column per index. After
+     * this, the buffer is positioned in the next record.
+     *
+     * @param buffer  the buffer to read of.
+     * @param indexes the field positions to decode, in table order.
+     * @param batch   the batch to store the values.
+     * @param row     the row in batch.
+     * @throws SQLException in case of parse errors.
+     */
+    public void decode(final ByteBuffer buffer, final int[] indexes, final ColumnBatch batch, final int row)
+            throws SQLException {
+        final int start = buffer.position();
+
+        for (int loop = 0; loop < indexes.length; loop++) {
+            final int index = indexes[loop];
+            final FieldParser parser = this.parsers[index];
+            if (parser == null) {
+                throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+            }
+            position(buffer, start + this.offsets[index]);
+            parser.parse(this.table, buffer, this.fields[index], batch.getColumn(loop), row);
+        }
+
+        position(buffer, start + this.table.getRecordSize());
+    }
+
+    /**
+     * Decodes a single field in the current buffer position.
+     *
+     * @param buffer the buffer to read of.
+     * @param index  the field position in the table.
+     * @return the field value.
+     * @throws SQLException in case of parse errors.
+     */
+    private FieldValue decode(final ByteBuffer buffer, final int index) throws SQLException {
+        final FieldParser parser = this.parsers[index];
+        if (parser == null) {
+            throw new SQLException("Field type unsupported.", SQLStates.TYPE_NOT_FOUND.getValue());
+        }
+
+        final FieldValue fieldValue = parser.parse(this.table, buffer, this.fields[index]);
+        if (fieldValue != null) {
+            fieldValue.setField(this.fields[index]);
+        }
+        return fieldValue;
+    }
+}
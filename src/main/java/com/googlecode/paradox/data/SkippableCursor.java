@@ -0,0 +1,30 @@
+/*
+ * SkippableCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import java.sql.SQLException;
+
+/**
+ * Cursor that skips rows without decoding them.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public interface SkippableCursor extends RowCursor {
+
+    /**
+     * Skips the next rows, not decoding them.
+     *
+     * @param count the count of rows to skip.
+     * @return the count of rows skipped, less than the count if there are no more rows.
+     * @throws SQLException in case of reading errors.
+     */
+    long skip(long count) throws SQLException;
+}
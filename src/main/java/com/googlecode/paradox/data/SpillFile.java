@@ -0,0 +1,374 @@
+/*
+ * SpillFile.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Temporary file storing rows that do not fit in memory, like the partitions of a large join or aggregation, or the
+ * sorted runs of a large ORDER BY.
+ * <p>
+ * The rows are written once, then read back in the same order. Numbers, strings, dates and booleans are stored in the
+ * file. The other values, like the BLOB descriptors, are small references to the table files and are kept in memory.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class SpillFile implements AutoCloseable {
+
+    /**
+     * Null value tag.
+     */
+    private static final byte NULL = 0;
+
+    /**
+     * Integer value tag.
+     */
+    private static final byte INTEGER = 1;
+
+    /**
+     * Long value tag.
+     */
+    private static final byte LONG = 2;
+
+    /**
+     * Double value tag.
+     */
+    private static final byte DOUBLE = 3;
+
+    /**
+     * String value tag.
+     */
+    private static final byte STRING = 4;
+
+    /**
+     * Date value tag.
+     */
+    private static final byte DATE = 5;
+
+    /**
+     * Time value tag.
+     */
+    private static final byte TIME = 6;
+
+    /**
+     * Timestamp value tag.
+     */
+    private static final byte TIMESTAMP = 7;
+
+    /**
+     * Boolean value tag.
+     */
+    private static final byte BOOLEAN = 8;
+
+    /**
+     * Tag of the values kept in memory.
+     */
+    private static final byte OBJECT = 9;
+
+    /**
+     * Type written in place of the missing values.
+     */
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    /**
+     * Estimated memory used by a row, without its values.
+     */
+    private static final int ROW_SIZE = 48;
+
+    /**
+     * Estimated memory used by a value, without its content.
+     */
+    private static final int VALUE_SIZE = 40;
+
+    /**
+     * The temporary file.
+     */
+    private final File file;
+
+    /**
+     * The values not stored in the file.
+     */
+    private final List<Object> objects = new ArrayList<>();
+
+    /**
+     * The file writer, while writing.
+     */
+    private DataOutputStream output;
+
+    /**
+     * The file reader, while reading.
+     */
+    private DataInputStream input;
+
+    /**
+     * Count of rows written.
+     */
+    private int rowCount;
+
+    /**
+     * Creates a new empty temporary file.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    public SpillFile() throws SQLException {
+        try {
+            this.file = File.createTempFile("paradox", ".tmp");
+            this.file.deleteOnExit();
+            this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Estimates the memory used by a row.
+     *
+     * @param row the row.
+     * @return the estimated size in bytes.
+     */
+    public static long estimateSize(final List<FieldValue> row) {
+        long size = SpillFile.ROW_SIZE + (row.size() * 8L);
+        for (final FieldValue value : row) {
+            size += SpillFile.VALUE_SIZE;
+            if ((value != null) && (value.getValue() instanceof String)) {
+                size += ((String) value.getValue()).length() * 2L;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Writes a row at the end of this file.
+     *
+     * @param row the row to write.
+     * @throws SQLException in case of I/O errors.
+     */
+    public void write(final List<FieldValue> row) throws SQLException {
+        if (this.output == null) {
+            throw new SQLException("Spill file already finished.", SQLStates.INVALID_STATE.getValue());
+        }
+
+        try {
+            this.output.writeInt(row.size());
+            for (final FieldValue value : row) {
+                this.writeValue(value);
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+        this.rowCount++;
+    }
+
+    /**
+     * Gets the count of rows written.
+     *
+     * @return the count of rows written.
+     */
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Ends the writes, releasing the file until it is read.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    public void finish() throws SQLException {
+        try {
+            if (this.output != null) {
+                this.output.close();
+                this.output = null;
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Moves before the first row, ending the writes.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    public void rewind() throws SQLException {
+        this.finish();
+        try {
+            if (this.input != null) {
+                this.input.close();
+            }
+            this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row or null if there are no more rows.
+     * @throws SQLException in case of I/O errors.
+     */
+    public List<FieldValue> read() throws SQLException {
+        if (this.input == null) {
+            this.rewind();
+        }
+
+        try {
+            final int size;
+            try {
+                size = this.input.readInt();
+            } catch (final EOFException e) {
+                return null;
+            }
+            final List<FieldValue> row = new ArrayList<>(size);
+            for (int loop = 0; loop < size; loop++) {
+                row.add(this.readValue());
+            }
+            return row;
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Closes and deletes this file.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (this.output != null) {
+                this.output.close();
+                this.output = null;
+            }
+            if (this.input != null) {
+                this.input.close();
+                this.input = null;
+            }
+        } catch (final IOException e) {
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        } finally {
+            this.objects.clear();
+            if (!this.file.delete()) {
+                this.file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Writes a single value.
+     *
+     * @param fieldValue the value to write.
+     * @throws IOException in case of I/O errors.
+     */
+    private void writeValue(final FieldValue fieldValue) throws IOException {
+        if (fieldValue == null) {
+            this.output.writeInt(SpillFile.MISSING);
+            return;
+        }
+
+        final Object value = fieldValue.getValue();
+        this.output.writeInt(fieldValue.getType());
+        if (value == null) {
+            this.output.writeByte(SpillFile.NULL);
+        } else if (value instanceof Integer) {
+            this.output.writeByte(SpillFile.INTEGER);
+            this.output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            this.output.writeByte(SpillFile.LONG);
+            this.output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            this.output.writeByte(SpillFile.DOUBLE);
+            this.output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            final String text = (String) value;
+            this.output.writeByte(SpillFile.STRING);
+            this.output.writeInt(text.length());
+            this.output.writeChars(text);
+        } else if (value instanceof Date) {
+            this.output.writeByte(SpillFile.DATE);
+            this.output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            this.output.writeByte(SpillFile.TIME);
+            this.output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            this.output.writeByte(SpillFile.TIMESTAMP);
+            this.output.writeLong(((Timestamp) value).getTime());
+            this.output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Boolean) {
+            this.output.writeByte(SpillFile.BOOLEAN);
+            this.output.writeBoolean((Boolean) value);
+        } else {
+            this.output.writeByte(SpillFile.OBJECT);
+            this.output.writeInt(this.objects.size());
+            this.objects.add(value);
+        }
+    }
+
+    /**
+     * Reads a single value.
+     *
+     * @return the value read.
+     * @throws IOException in case of I/O errors.
+     */
+    private FieldValue readValue() throws IOException {
+        final int type = this.input.readInt();
+        if (type == SpillFile.MISSING) {
+            return null;
+        }
+        final byte tag = this.input.readByte();
+        switch (tag) {
+            case INTEGER:
+                return new FieldValue(this.input.readInt(), type);
+            case LONG:
+                return new FieldValue(this.input.readLong(), type);
+            case DOUBLE:
+                return new FieldValue(this.input.readDouble(), type);
+            case STRING:
+                final char[] chars = new char[this.input.readInt()];
+                for (int loop = 0; loop < chars.length; loop++) {
+                    chars[loop] = this.input.readChar();
+                }
+                return new FieldValue(new String(chars), type);
+            case DATE:
+                return new FieldValue(new Date(this.input.readLong()), type);
+            case TIME:
+                return new FieldValue(new Time(this.input.readLong()), type);
+            case TIMESTAMP:
+                final Timestamp timestamp = new Timestamp(this.input.readLong());
+                timestamp.setNanos(this.input.readInt());
+                return new FieldValue(timestamp, type);
+            case BOOLEAN:
+                return new FieldValue(this.input.readBoolean(), type);
+            case OBJECT:
+                return new FieldValue(this.objects.get(this.input.readInt()), type);
+            default:
+                return new FieldValue(type);
+        }
+    }
+}
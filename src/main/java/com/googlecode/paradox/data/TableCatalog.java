@@ -0,0 +1,219 @@
+/*
+ * TableCatalog.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.Utils;
+import com.googlecode.paradox.utils.filefilters.TableFilter;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Caches the table headers of a connection, so a query does not have to list the schema and read every table header.
+ * <p>
+ * The tables are found by name in a map. The schema file list is read again when the directory changes and a table
+ * header is read again when the table file size or modification time changes.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class TableCatalog {
+
+    /**
+     * The connection owner of the tables.
+     */
+    private final ParadoxConnection connection;
+
+    /**
+     * The cached schemas.
+     */
+    private final Map<File, SchemaEntry> schemas = new HashMap<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param connection the connection owner of the tables.
+     */
+    public TableCatalog(final ParadoxConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Gets a table by name.
+     *
+     * @param schema the schema directory.
+     * @param name   the table name, ignoring case.
+     * @return the table or null if there is no table with this name.
+     * @throws SQLException in case of reading errors.
+     */
+    public synchronized ParadoxTable getTable(final File schema, final String name) throws SQLException {
+        SchemaEntry entry = this.schemas.get(schema);
+        boolean listed = false;
+        if ((entry == null) || (entry.modified != schema.lastModified())) {
+            entry = this.list(schema, entry);
+            listed = true;
+        }
+
+        final String key = TableCatalog.getKey(name);
+        File file = entry.files.get(key);
+        if ((file == null) && !listed) {
+            // The directory time may not change for files created in the same instant.
+            entry = this.list(schema, entry);
+            file = entry.files.get(key);
+        }
+        if (file == null) {
+            return null;
+        }
+
+        TableEntry table = entry.tables.get(key);
+        if ((table == null) || !table.isValid(file)) {
+            final long length = file.length();
+            final long modified = file.lastModified();
+            table = new TableEntry(file, length, modified, TableData.loadTableHeader(file, this.connection));
+            entry.tables.put(key, table);
+        }
+        return table.table;
+    }
+
+    /**
+     * Removes all tables from cache.
+     */
+    public synchronized void clear() {
+        this.schemas.clear();
+    }
+
+    /**
+     * Lists the table files of a schema, keeping the tables still valid.
+     *
+     * @param schema the schema directory.
+     * @param old    the current schema entry, or null if none.
+     * @return the new schema entry.
+     */
+    private SchemaEntry list(final File schema, final SchemaEntry old) {
+        final SchemaEntry entry = new SchemaEntry(schema.lastModified());
+        final File[] fileList = schema.listFiles(new TableFilter());
+        if (fileList != null) {
+            for (final File file : fileList) {
+                final String key = TableCatalog.getKey(Utils.removeDb(file.getName()));
+                if (!entry.files.containsKey(key)) {
+                    entry.files.put(key, file);
+                }
+            }
+        }
+
+        if (old != null) {
+            for (final Map.Entry<String, TableEntry> table : old.tables.entrySet()) {
+                if (table.getValue().file.equals(entry.files.get(table.getKey()))) {
+                    entry.tables.put(table.getKey(), table.getValue());
+                }
+            }
+        }
+
+        this.schemas.put(schema, entry);
+        return entry;
+    }
+
+    /**
+     * Gets the cache key of a table name.
+     *
+     * @param name the table name.
+     * @return the cache key.
+     */
+    private static String getKey(final String name) {
+        return name.toUpperCase(Locale.US);
+    }
+
+    /**
+     * The cached files and tables of a schema.
+     */
+    private static final class SchemaEntry {
+
+        /**
+         * The directory modification time when the files were listed.
+         */
+        private final long modified;
+
+        /**
+         * The table files, by name.
+         */
+        private final Map<String, File> files = new HashMap<>();
+
+        /**
+         * The tables already read, by name.
+         */
+        private final Map<String, TableEntry> tables = new HashMap<>();
+
+        /**
+         * Creates a new instance.
+         *
+         * @param modified the directory modification time.
+         */
+        SchemaEntry(final long modified) {
+            this.modified = modified;
+        }
+    }
+
+    /**
+     * A cached table header.
+     */
+    private static final class TableEntry {
+
+        /**
+         * The table file.
+         */
+        private final File file;
+
+        /**
+         * The file size when the header was read.
+         */
+        private final long length;
+
+        /**
+         * The file modification time when the header was read.
+         */
+        private final long modified;
+
+        /**
+         * The table.
+         */
+        private final ParadoxTable table;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param file     the table file.
+         * @param length   the file size when the header was read.
+         * @param modified the file modification time when the header was read.
+         * @param table    the table.
+         */
+        TableEntry(final File file, final long length, final long modified, final ParadoxTable table) {
+            this.file = file;
+            this.length = length;
+            this.modified = modified;
+            this.table = table;
+        }
+
+        /**
+         * Checks if the table file is not changed.
+         *
+         * @param current the current table file.
+         * @return true if the table file is not changed.
+         */
+        boolean isValid(final File current) {
+            return this.file.equals(current) && (this.length == current.length())
+                    && (this.modified == current.lastModified());
+        }
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * TableCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+import static com.googlecode.paradox.utils.Utils.position;
+
+/**
+ * Reads the table rows in block chain order.
+ * <p>
+ * The blocks are read in windows: the blocks of a window are sorted by file position and adjacent blocks are read at
+ * once, then decoded in chain order. The window grows while the rows are read, up to a fixed size, so the table size
+ * does not affect the memory used by this cursor and reading only the first rows does not read ahead. Without a block
+ * list, the chain comes from the {@link BlockDirectory}, and rows are skipped with its row counts, without reading the
+ * skipped blocks.
+ * <p>
+ * If the connection has a prefetch depth, the windows are read by a {@link ReadAhead} in background while the rows
+ * are decoded.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.8
+ * @since 1.4.1
+ */
+public final class TableCursor implements SkippableCursor {
+
+    /**
+     * Size of the block header.
+     */
+    private static final int BLOCK_HEADER_SIZE = 6;
+
+    /**
+     * The largest window, in bytes.
+     */
+    private static final int MAX_WINDOW_SIZE = 256 * 1_024;
+
+    /**
+     * The table to read.
+     */
+    private final ParadoxTable table;
+
+    /**
+     * The record decoder.
+     */
+    private final RowDecoder decoder;
+
+    /**
+     * The positions of the fields to read, in table order.
+     */
+    private final int[] indexes;
+
+    /**
+     * The current block data.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * The table reader.
+     */
+    private BlockReader reader;
+
+    /**
+     * The blocks to read, in order, or null to read the table block chain.
+     */
+    private final int[] blocks;
+
+    /**
+     * The first block position to read in the block list.
+     */
+    private final int from;
+
+    /**
+     * The block position to stop reading in the block list.
+     */
+    private final int to;
+
+    /**
+     * The table block directory, used when there is no block list.
+     */
+    private BlockDirectory directory;
+
+    /**
+     * The position of the next block to read.
+     */
+    private int blockIndex;
+
+    /**
+     * The blocks being read.
+     */
+    private BlockWindow window;
+
+    /**
+     * The count of blocks in the last window.
+     */
+    private int windowBlocks;
+
+    /**
+     * The count of windows read ahead in background, zero to read them when needed.
+     */
+    private int prefetch;
+
+    /**
+     * The windows read ahead, or null if not started.
+     */
+    private ReadAhead readAhead;
+
+    /**
+     * Rows not read yet in the current block.
+     */
+    private int rowsLeft;
+
+    /**
+     * The filter checked before decoding the records, or null to read all records.
+     */
+    private final RecordFilter filter;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read.
+     */
+    public TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields) {
+        this(table, fields, null, 0, 0);
+    }
+
+    /**
+     * Creates a new instance that reads only a range of blocks.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read.
+     * @param blocks the table blocks in chain order.
+     * @param from   the first block position to read, inclusive.
+     * @param to     the last block position to read, exclusive.
+     */
+    public TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] blocks,
+            final int from, final int to) {
+        this(table, fields, blocks, from, to, null);
+    }
+
+    /**
+     * Creates a new instance that reads only a range of blocks, skipping the records rejected by a filter.
+     *
+     * @param table  the table to read.
+     * @param fields the fields to read.
+     * @param blocks the table blocks in chain order, or null to read the table block chain.
+     * @param from   the first block position to read, inclusive.
+     * @param to     the last block position to read, exclusive.
+     * @param filter the filter checked before decoding the records, or null to read all records.
+     */
+    public TableCursor(final ParadoxTable table, final Collection<ParadoxField> fields, final int[] blocks,
+            final int from, final int to, final RecordFilter filter) {
+        this.table = table;
+        this.filter = filter;
+        this.decoder = table.getRowDecoder();
+        table.refreshTemporalDecoder();
+        this.indexes = this.decoder.getIndexes(fields);
+        this.blocks = blocks;
+        this.from = from;
+        this.to = to;
+        if (table.getConnection() != null) {
+            this.prefetch = table.getConnection().getPrefetch();
+        }
+        this.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        final ByteBuffer record = this.nextRecord();
+        if (record == null) {
+            this.row = null;
+            return false;
+        }
+
+        this.row = this.decoder.decode(record, this.indexes);
+        return true;
+    }
+
+    /**
+     * Moves to the next record accepted by the filter without decoding it. The caller must read the whole record
+     * before the next call.
+     *
+     * @return the block buffer positioned in the record start or null if there is no more records.
+     * @throws SQLException in case of I/O errors.
+     */
+    ByteBuffer nextRecord() throws SQLException {
+        while (true) {
+            while (this.rowsLeft == 0) {
+                if (!this.readBlock()) {
+                    this.close();
+                    return null;
+                }
+            }
+
+            this.rowsLeft--;
+            if ((this.filter == null) || this.filter.accept(this.buffer)) {
+                return this.buffer;
+            }
+            position(this.buffer, this.buffer.position() + this.table.getRecordSize());
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     * <p>
+     * Without a block list and a filter, the blocks with only skipped rows are not read: their row count is in the
+     * block directory. With a filter, the records are checked but not decoded.
+     */
+    @Override
+    public long skip(final long count) throws SQLException {
+        this.row = null;
+        long left = count;
+        if (this.filter != null) {
+            while ((left > 0) && (this.nextRecord() != null)) {
+                position(this.buffer, this.buffer.position() + this.table.getRecordSize());
+                left--;
+            }
+            return count - left;
+        }
+
+        // Records left in the current block.
+        final int current = (int) Math.min(left, this.rowsLeft);
+        this.skipRecords(current);
+        left -= current;
+
+        while ((left > 0) && (this.blockIndex < this.getEnd())) {
+            if ((this.blocks == null) && (this.directory.getRows(this.blockIndex) <= left)) {
+                left -= this.directory.getRows(this.blockIndex);
+                this.blockIndex++;
+            } else {
+                // The skip ends in this block.
+                this.readBlock();
+                final int rows = (int) Math.min(left, this.rowsLeft);
+                this.skipRecords(rows);
+                left -= rows;
+            }
+        }
+        return count - left;
+    }
+
+    /**
+     * Skips records in the current block.
+     *
+     * @param count the count of records to skip, at most the records left in block.
+     */
+    private void skipRecords(final int count) {
+        if (count > 0) {
+            position(this.buffer, this.buffer.position() + (count * this.table.getRecordSize()));
+            this.rowsLeft -= count;
+        }
+    }
+
+    /**
+     * Sets the count of windows read ahead in background. Must be set before reading.
+     *
+     * @param prefetch the count of windows read ahead, zero to read them when needed.
+     */
+    void setPrefetch(final int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Gets the positions of the fields to read, in table order.
+     *
+     * @return the positions of the fields to read.
+     */
+    int[] getIndexes() {
+        return this.indexes;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() {
+        this.row = null;
+        this.rowsLeft = 0;
+        this.directory = null;
+        this.windowBlocks = 0;
+        this.stopReadAhead();
+        if (this.window != null) {
+            this.window.clear();
+        }
+        if (this.blocks != null) {
+            this.blockIndex = this.from;
+        } else {
+            this.blockIndex = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.stopReadAhead();
+        if (this.reader != null) {
+            try {
+                this.reader.close();
+            } catch (final IOException e) {
+                throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+            } finally {
+                this.reader = null;
+            }
+        }
+    }
+
+    /**
+     * Moves to the next block, reading a new window if needed.
+     *
+     * @return false if there is no more blocks.
+     * @throws SQLException in case of I/O errors.
+     */
+    private boolean readBlock() throws SQLException {
+        if (this.blockIndex >= this.getEnd()) {
+            return false;
+        }
+        if ((this.window == null) || !this.window.contains(this.blockIndex)) {
+            if (this.prefetch > 0) {
+                this.takeWindow();
+            } else {
+                this.readWindow();
+            }
+        }
+
+        this.buffer = this.window.getBlock(this.blockIndex, TableCursor.BLOCK_HEADER_SIZE);
+        this.blockIndex++;
+        this.rowsLeft = 0;
+        if (this.buffer != null) {
+            this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+            final int addDataSize = this.buffer.getShort(4) & 0xFFFF;
+            this.rowsLeft = (addDataSize / this.table.getRecordSize()) + 1;
+
+            position(this.buffer, TableCursor.BLOCK_HEADER_SIZE);
+            this.buffer.order(ByteOrder.BIG_ENDIAN);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the window starting in the next block.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void readWindow() throws SQLException {
+        final int maxBlocks = this.getMaxBlocks();
+        if (this.window == null) {
+            this.window = new BlockWindow(this.table.getBlockSizeBytes(), this.table.getHeaderSize(), maxBlocks);
+        }
+
+        // Grows while the blocks are read in sequence.
+        if ((this.windowBlocks > 0) && (this.blockIndex == this.window.getEnd())) {
+            this.windowBlocks = Math.min(this.windowBlocks * 2, maxBlocks);
+        } else {
+            this.windowBlocks = 1;
+        }
+
+        final int count = Math.min(this.windowBlocks, this.getEnd() - this.blockIndex);
+        try {
+            if (this.reader == null) {
+                this.reader = BlockReader.open(this.table.getFile(), this.table.getConnection());
+            }
+            this.window.read(this.reader, this.getList(), this.blockIndex, count);
+        } catch (final IOException e) {
+            this.window.clear();
+            this.close();
+            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+        }
+    }
+
+    /**
+     * Takes the window starting in the next block from the read-ahead, starting it again if the blocks were skipped.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void takeWindow() throws SQLException {
+        if ((this.readAhead != null) && (this.readAhead.getNext() != this.blockIndex)) {
+            this.stopReadAhead();
+        }
+
+        if (this.readAhead == null) {
+            this.readAhead = ReadAhead.start(this.table.getConnection().getReadAheadPool(), this.table,
+                    this.getList(), this.blockIndex, this.getEnd(), this.getMaxBlocks(), this.prefetch);
+        } else if (this.window != null) {
+            this.readAhead.recycle(this.window);
+        }
+
+        // The window given back is not used even if the take fails.
+        this.window = null;
+        this.window = this.readAhead.take();
+    }
+
+    /**
+     * Stops the read-ahead, if started.
+     */
+    private void stopReadAhead() {
+        if (this.readAhead != null) {
+            try {
+                this.readAhead.cancel();
+            } finally {
+                this.readAhead = null;
+                this.window = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the largest count of blocks in a window.
+     *
+     * @return the largest count of blocks in a window.
+     */
+    private int getMaxBlocks() {
+        return Math.max(1, TableCursor.MAX_WINDOW_SIZE / this.table.getBlockSizeBytes());
+    }
+
+    /**
+     * Gets the position after the last block to read, loading the block directory if there is no block list.
+     *
+     * @return the position after the last block to read.
+     * @throws SQLException in case of I/O errors.
+     */
+    private int getEnd() throws SQLException {
+        if (this.blocks != null) {
+            return this.to;
+        }
+        if (this.directory == null) {
+            this.directory = BlockDirectory.get(this.table);
+        }
+        return this.directory.size();
+    }
+
+    /**
+     * Gets the block list, from the block directory if there is no block list.
+     *
+     * @return the block list.
+     * @throws SQLException in case of I/O errors.
+     */
+    private int[] getList() throws SQLException {
+        if (this.blocks != null) {
+            return this.blocks;
+        }
+        this.getEnd();
+        return this.directory.getChain();
+    }
+}
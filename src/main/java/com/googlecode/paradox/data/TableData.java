@@ -17,19 +17,16 @@ import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
-import static com.googlecode.paradox.utils.Utils.clear;
 import static com.googlecode.paradox.utils.Utils.flip;
 import static com.googlecode.paradox.utils.Utils.position;
 
@@ -37,7 +34,7 @@ import static com.googlecode.paradox.utils.Utils.position;
  * Utility class for loading table files.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.6
  * @since 1.0
  */
 public final class TableData extends AbstractParadoxData {
@@ -104,42 +101,44 @@ public final class TableData extends AbstractParadoxData {
     public static List<List<FieldValue>> loadData(final ParadoxTable table,
             final Collection<ParadoxField> fields) throws SQLException {
         final List<List<FieldValue>> ret = new ArrayList<>();
-
-        final int blockSize = table.getBlockSizeBytes();
-        final int recordSize = table.getRecordSize();
-        final int headerSize = table.getHeaderSize();
-        final ByteBuffer buffer = ByteBuffer.allocate(blockSize);
-
-        try (FileInputStream fs = new FileInputStream(table.getFile()); FileChannel channel = fs.getChannel()) {
-            if (table.getUsedBlocks() == 0) {
-                return ret;
+        try (RowCursor cursor = TableData.openCursor(table, fields, true)) {
+            while (cursor.next()) {
+                ret.add(cursor.getRow());
             }
-            long nextBlock = table.getFirstBlock();
-            do {
-                buffer.order(ByteOrder.LITTLE_ENDIAN);
-                channel.position(headerSize + ((nextBlock - 1) * blockSize));
-
-                clear(buffer);
-                channel.read(buffer);
-                flip(buffer);
-
-                nextBlock = buffer.getShort();
-                // The block number.
-                buffer.getShort();
-
-                final int addDataSize = buffer.getShort() & 0xFFFF;
-                final int rowsInBlock = (addDataSize / recordSize) + 1;
+        }
+        return ret;
+    }
 
-                buffer.order(ByteOrder.BIG_ENDIAN);
+    /**
+     * Opens a cursor over the table rows. Tables with many blocks are read in parallel if the connection allows it.
+     *
+     * @param table   the table to read.
+     * @param fields  the fields to read.
+     * @param ordered if the rows must be read in the table order.
+     * @return the cursor over the table rows.
+     */
+    public static RowCursor openCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final boolean ordered) {
+        return TableData.openCursor(table, fields, ordered, null);
+    }
 
-                for (int loop = 0; loop < rowsInBlock; loop++) {
-                    ret.add(TableData.readRow(table, fields, buffer));
-                }
-            } while (nextBlock != 0);
-        } catch (final IOException e) {
-            throw new SQLException(e.getMessage(), SQLStates.INVALID_IO.getValue(), e);
+    /**
+     * Opens a cursor over the table rows accepted by a filter, checked before decoding them. Tables with many blocks
+     * are read in parallel if the connection allows it.
+     *
+     * @param table   the table to read.
+     * @param fields  the fields to read.
+     * @param ordered if the rows must be read in the table order.
+     * @param filter  the filter checked before decoding the records, or null to read all records.
+     * @return the cursor over the table rows.
+     */
+    public static RowCursor openCursor(final ParadoxTable table, final Collection<ParadoxField> fields,
+            final boolean ordered, final RecordFilter filter) {
+        final ParadoxConnection connection = table.getConnection();
+        if ((connection != null) && (connection.getParallelism() > 1) && (table.getUsedBlocks() > 1)) {
+            return new ParallelTableCursor(table, fields, connection.getScanPool(), ordered, filter);
         }
-        return ret;
+        return new TableCursor(table, fields, null, 0, 0, filter);
     }
 
     /**
@@ -170,15 +169,13 @@ public final class TableData extends AbstractParadoxData {
      * @return the {@link ParadoxTable}.
      * @throws SQLException in case of reading errors.
      */
-    private static ParadoxTable loadTableHeader(final File file, final ParadoxConnection connection) throws
+    static ParadoxTable loadTableHeader(final File file, final ParadoxConnection connection) throws
             SQLException {
         final ParadoxTable table = new ParadoxTable(file, file.getName(), connection);
-        ByteBuffer buffer = ByteBuffer.allocate(2048);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
 
-        try (FileInputStream fs = new FileInputStream(file); FileChannel channel = fs.getChannel()) {
-            channel.read(buffer);
-            flip(buffer);
+        try (BlockReader reader = BlockReader.open(file, connection)) {
+            ByteBuffer buffer = reader.read(0, ByteBuffer.allocate(2048));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
 
             table.setRecordSize(buffer.getShort());
             table.setHeaderSize(buffer.getShort());
@@ -210,9 +207,7 @@ public final class TableData extends AbstractParadoxData {
             final List<ParadoxField> fields = TableData.parseTableFields(table, buffer);
 
             // Restart the buffer with all table header
-            channel.position(0);
-            buffer = ByteBuffer.allocate(table.getHeaderSize());
-            channel.read(buffer);
+            buffer = reader.read(0, ByteBuffer.allocate(table.getHeaderSize()));
 
             TableData.fixTablePositionByVersion(table, buffer, fields.size());
             TableData.parseTableFieldsName(table, buffer, fields);
@@ -283,29 +278,4 @@ public final class TableData extends AbstractParadoxData {
         }
         table.setFieldsOrder(fieldsOrder);
     }
-
-    /**
-     * Read a entire row.
-     *
-     * @param table  the table to read of.
-     * @param fields the fields to read.
-     * @param buffer the buffer to read of.
-     * @return the row.
-     * @throws SQLException in case of parse errors.
-     */
-    private static List<FieldValue> readRow(final ParadoxTable table, final Collection<ParadoxField> fields,
-            final ByteBuffer buffer) throws SQLException {
-        final List<FieldValue> row = new ArrayList<>();
-
-        for (final ParadoxField field : table.getFields()) {
-            final FieldValue fieldValue = FieldFactory.parse(table, buffer, field);
-
-            // Field filter
-            if (fields.contains(field) && (fieldValue != null)) {
-                fieldValue.setField(field);
-                row.add(fieldValue);
-            }
-        }
-        return row;
-    }
 }
@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses auto increment fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class AutoIncrementField implements FieldParser {
@@ -40,4 +41,13 @@ public final class AutoIncrementField implements FieldParser {
         final int v = buffer.getInt() & 0x0FFF_FFFF;
         return new FieldValue(v, Types.INTEGER);
     }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setInt(row, buffer.getInt() & 0x0FFF_FFFF, Types.INTEGER);
+    }
 }
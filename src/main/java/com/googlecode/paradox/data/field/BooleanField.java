@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -20,7 +21,7 @@ import java.sql.Types;
  * Parses boolean fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class BooleanField implements FieldParser {
@@ -50,5 +51,22 @@ public final class BooleanField implements FieldParser {
             throw new SQLException("Invalid value " + v + ".");
         }
     }
-    
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) throws SQLException {
+        final byte v = buffer.get();
+        if (v == 0) {
+            column.setNull(row, Types.BOOLEAN);
+        } else if (v == -127) {
+            column.setInt(row, 1, Types.BOOLEAN);
+        } else if (v == -128) {
+            column.setInt(row, 0, Types.BOOLEAN);
+        } else {
+            throw new SQLException("Invalid value " + v + ".");
+        }
+    }
 }
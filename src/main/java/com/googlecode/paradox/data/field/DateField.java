@@ -9,10 +9,11 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
-import com.googlecode.paradox.utils.DateUtils;
+import com.googlecode.paradox.utils.TemporalDecoder;
 
 import java.nio.ByteBuffer;
 import java.sql.Date;
@@ -22,7 +23,7 @@ import java.sql.Types;
  * Parses date fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.3
  * @since 1.3
  */
 public final class DateField implements FieldParser {
@@ -40,13 +41,39 @@ public final class DateField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int a1 = buffer.get() & 0xFF;
-        final int a2 = buffer.get() & 0xFF;
-        final int a3 = buffer.get() & 0xFF;
-        final int a4 = buffer.get() & 0xFF;
-        final long days = ((a1 << 24) | (a2 << 16) | (a3 << 8) | a4) & 0x0FFF_FFFFL;
-
-        final Date date = DateUtils.sdnToGregorian(days + 1_721_425);
-        return new FieldValue(date, Types.DATE);
+        final long millis = DateField.getDecoder(table).toDateMillis(DateField.readDays(buffer));
+        return new FieldValue(new Date(millis), Types.DATE);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setLong(row, DateField.getDecoder(table).toDateMillis(DateField.readDays(buffer)), Types.DATE);
+    }
+
+    /**
+     * Reads the days of a date value.
+     *
+     * @param buffer the buffer to read of.
+     * @return the days after the Paradox day zero.
+     */
+    private static int readDays(final ByteBuffer buffer) {
+        return buffer.getInt() & 0x0FFF_FFFF;
+    }
+
+    /**
+     * Gets the date and time decoder of the table scan.
+     *
+     * @param table the table being read, or null outside a table scan.
+     * @return the date and time decoder.
+     */
+    private static TemporalDecoder getDecoder(final ParadoxTable table) {
+        if (table != null) {
+            return table.getTemporalDecoder();
+        }
+        return TemporalDecoder.getInstance();
     }
 }
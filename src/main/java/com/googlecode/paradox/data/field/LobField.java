@@ -2,6 +2,7 @@ package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
 import com.googlecode.paradox.data.table.value.BlobDescriptor;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -48,6 +49,15 @@ public abstract class LobField implements FieldParser {
         return new FieldValue(descriptor, getFieldType());
     }
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setObject(row, this.parse(table, buffer, field).getValue(), this.getFieldType());
+    }
+
     public abstract BlobDescriptor getDescriptor(final ParadoxTable table);
 
     public abstract int getFieldType();
@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -20,7 +21,7 @@ import java.sql.Types;
  * Parses long fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class LongField implements FieldParser {
@@ -41,4 +42,13 @@ public final class LongField implements FieldParser {
         final long l = buffer.getInt() ^ 0x8000_0000;
         return new FieldValue(l, Types.BIGINT);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setLong(row, buffer.getInt() ^ 0x8000_0000, Types.BIGINT);
+    }
 }
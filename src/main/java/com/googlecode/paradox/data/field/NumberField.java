@@ -9,6 +9,7 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
@@ -19,7 +20,7 @@ import java.sql.Types;
  * Parses the numeric fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class NumberField implements FieldParser {
@@ -45,4 +46,19 @@ public final class NumberField implements FieldParser {
         }
         return new FieldValue(Double.longBitsToDouble(value), Types.DOUBLE);
     }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        long value = buffer.getLong();
+        if ((value >>> 63) == 1) {
+            value &= 0x7FFFFFFFFFFFFFFFL;
+        } else {
+            value = ~value;
+        }
+        column.setDouble(row, Double.longBitsToDouble(value));
+    }
 }
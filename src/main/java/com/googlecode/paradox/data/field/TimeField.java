@@ -9,21 +9,21 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TemporalDecoder;
 
 import java.nio.ByteBuffer;
 import java.sql.Time;
 import java.sql.Types;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
 
 /**
  * Parses time fields.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.3
  * @since 1.3
  */
 public final class TimeField implements FieldParser {
@@ -41,18 +41,37 @@ public final class TimeField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final int a1 = buffer.get() & 0xFF;
-        final int a2 = buffer.get() & 0xFF;
-        final int a3 = buffer.get() & 0xFF;
-        final int a4 = buffer.get() & 0xFF;
-        final long timeInMillis = ((a1 << 24) | (a2 << 16) | (a3 << 8) | a4) & 0x0FFF_FFFFL;
-
+        final int timeInMillis = buffer.getInt() & 0x0FFF_FFFF;
         if (timeInMillis != 0) {
-            final Calendar calendar = new GregorianCalendar(1, 0, 0);
-            calendar.add(Calendar.MILLISECOND, (int) timeInMillis);
-            final Time time = new Time(calendar.getTimeInMillis());
-            return new FieldValue(time, Types.TIME);
+            return new FieldValue(new Time(TimeField.getDecoder(table).toTimeMillis(timeInMillis)), Types.TIME);
         }
         return new FieldValue(Types.TIME);
     }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        final int timeInMillis = buffer.getInt() & 0x0FFF_FFFF;
+        if (timeInMillis != 0) {
+            column.setLong(row, TimeField.getDecoder(table).toTimeMillis(timeInMillis), Types.TIME);
+        } else {
+            column.setNull(row, Types.TIME);
+        }
+    }
+
+    /**
+     * Gets the date and time decoder of the table scan.
+     *
+     * @param table the table being read, or null outside a table scan.
+     * @return the date and time decoder.
+     */
+    private static TemporalDecoder getDecoder(final ParadoxTable table) {
+        if (table != null) {
+            return table.getTemporalDecoder();
+        }
+        return TemporalDecoder.getInstance();
+    }
 }
@@ -9,13 +9,14 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TemporalDecoder;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.sql.Types;
-import java.util.Date;
 
 /**
  * Parses timestamp fields.
@@ -24,8 +25,6 @@ import java.util.Date;
  */
 public final class TimestampField implements FieldParser {
 
-    private static final long MILLIS_UNTIL_1970 = 62135683200000L;
-
     /**
      * {@inheritDoc}.
      */
@@ -39,16 +38,15 @@ public final class TimestampField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        long rawValue = buffer.getLong();
-        if ((rawValue >>> 63) == 1) {
-            rawValue &= 0x7FFFFFFFFFFFFFFFL;
-        } else {
-            rawValue = ~rawValue;
-        }
-        long value = (long) Double.longBitsToDouble(rawValue);
+        return new FieldValue(new Timestamp(TemporalDecoder.toTimestampMillis(buffer.getLong())), Types.TIMESTAMP);
+    }
 
-        Date date = new Date();
-        date.setTime(value - MILLIS_UNTIL_1970);
-        return new FieldValue(new Timestamp(date.getTime()), Types.TIMESTAMP);
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setLong(row, TemporalDecoder.toTimestampMillis(buffer.getLong()), Types.TIMESTAMP);
     }
 }
@@ -9,20 +9,18 @@
 package com.googlecode.paradox.data.field;
 
 import com.googlecode.paradox.data.FieldParser;
+import com.googlecode.paradox.data.table.value.ColumnVector;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
 import com.googlecode.paradox.metadata.ParadoxTable;
-import com.googlecode.paradox.utils.Constants;
-import com.googlecode.paradox.utils.Utils;
 import java.nio.ByteBuffer;
 import java.sql.Types;
-import java.util.Arrays;
 
 /**
  * Parses a VARCHAR field.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.2
  * @since 1.3
  */
 public final class VarcharField implements FieldParser {
@@ -40,15 +38,15 @@ public final class VarcharField implements FieldParser {
      */
     @Override
     public FieldValue parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field) {
-        final ByteBuffer valueString = ByteBuffer.allocate(Constants.MAX_STRING_SIZE);
-        
-        // reset buffer to zeros
-        Arrays.fill(valueString.array(), (byte) 0);
-        
-        for (int chars = 0; chars < field.getSize(); chars++) {
-            valueString.put(buffer.get());
-        }
-        return new FieldValue(Utils.parseString(valueString, table.getCharset()), Types.VARCHAR);
+        return new FieldValue(field.getStringDecoder(table).decode(buffer, field.getSize()), Types.VARCHAR);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void parse(final ParadoxTable table, final ByteBuffer buffer, final ParadoxField field,
+            final ColumnVector column, final int row) {
+        column.setString(row, buffer, field.getSize(), field.getStringDecoder(table));
     }
-    
 }
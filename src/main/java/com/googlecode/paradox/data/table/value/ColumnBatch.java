@@ -0,0 +1,144 @@
+/*
+ * ColumnBatch.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores a batch of rows by column.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ColumnBatch {
+
+    /**
+     * The columns.
+     */
+    private final ColumnVector[] columns;
+
+    /**
+     * The row capacity.
+     */
+    private final int capacity;
+
+    /**
+     * The rows in this batch.
+     */
+    private int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fields   the fields of each column.
+     * @param capacity the row capacity.
+     */
+    public ColumnBatch(final List<ParadoxField> fields, final int capacity) {
+        this.capacity = capacity;
+        this.columns = new ColumnVector[fields.size()];
+        for (int loop = 0; loop < this.columns.length; loop++) {
+            this.columns[loop] = new ColumnVector(fields.get(loop), capacity);
+        }
+    }
+
+    /**
+     * Clears this batch, keeping the column arrays for reuse.
+     */
+    public void clear() {
+        this.size = 0;
+        for (final ColumnVector column : this.columns) {
+            column.clear();
+        }
+    }
+
+    /**
+     * Gets a column.
+     *
+     * @param index the column index.
+     * @return the column.
+     */
+    public ColumnVector getColumn(final int index) {
+        return this.columns[index];
+    }
+
+    /**
+     * Gets the column count.
+     *
+     * @return the column count.
+     */
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    /**
+     * Gets the row capacity.
+     *
+     * @return the row capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the rows in this batch.
+     *
+     * @return the rows in this batch.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Sets the rows in this batch.
+     *
+     * @param size the rows in this batch.
+     */
+    public void setSize(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets a copy of a row as field values.
+     *
+     * @param row the row in batch.
+     * @return the row values.
+     */
+    public List<FieldValue> getRow(final int row) {
+        final List<FieldValue> values = new ArrayList<>(this.columns.length);
+        for (final ColumnVector column : this.columns) {
+            values.add(column.getFieldValue(row));
+        }
+        return values;
+    }
+
+    /**
+     * Gets a view of a row that converts only the values read. The view is valid until the row is changed.
+     *
+     * @param row the row in batch.
+     * @return the row view.
+     */
+    public List<FieldValue> getRowView(final int row) {
+        return new AbstractList<FieldValue>() {
+            @Override
+            public FieldValue get(final int index) {
+                return ColumnBatch.this.columns[index].getFieldValue(row);
+            }
+
+            @Override
+            public int size() {
+                return ColumnBatch.this.columns.length;
+            }
+        };
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * ColumnVector.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.utils.SQLStates;
+import com.googlecode.paradox.utils.StringDecoder;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.SQLDataException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Stores the values of a single column for a batch of rows in primitive arrays.
+ * <p>
+ * Integers and booleans are stored in an {@code int} array, big integers, dates and times in a {@code long} array and
+ * numbers in a {@code double} array. Strings are stored in a shared char arena. Only LOB descriptors are kept as
+ * objects. The arrays are reused when the batch is filled again.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class ColumnVector {
+
+    /**
+     * Invalid field message error.
+     */
+    private static final String ERROR_INVALID_TYPE = "Invalid field type.";
+
+    /**
+     * The field stored in this column.
+     */
+    private final ParadoxField field;
+
+    /**
+     * The row capacity.
+     */
+    private final int capacity;
+
+    /**
+     * Null flags, one bit per row.
+     */
+    private final long[] nulls;
+
+    /**
+     * The value type in database.
+     *
+     * @see Types
+     */
+    private int type = Types.NULL;
+
+    /**
+     * Integer and boolean values.
+     */
+    private int[] ints;
+
+    /**
+     * Big integer, date, time and timestamp values, the last three in milliseconds.
+     */
+    private long[] longs;
+
+    /**
+     * Number values.
+     */
+    private double[] doubles;
+
+    /**
+     * The string characters.
+     */
+    private char[] arena;
+
+    /**
+     * Used size of the string arena.
+     */
+    private int arenaSize;
+
+    /**
+     * String start in the arena, by row.
+     */
+    private int[] starts;
+
+    /**
+     * String length, by row.
+     */
+    private int[] lengths;
+
+    /**
+     * Other values.
+     */
+    private Object[] objects;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param field    the field stored in this column.
+     * @param capacity the row capacity.
+     */
+    public ColumnVector(final ParadoxField field, final int capacity) {
+        this.field = field;
+        this.capacity = capacity;
+        this.nulls = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * Clears this column, keeping the arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(this.nulls, 0L);
+        this.arenaSize = 0;
+        if (this.objects != null) {
+            Arrays.fill(this.objects, null);
+        }
+    }
+
+    /**
+     * Gets the field stored in this column.
+     *
+     * @return the field stored in this column.
+     */
+    public ParadoxField getField() {
+        return this.field;
+    }
+
+    /**
+     * Gets the value type in database.
+     *
+     * @return the value type in database.
+     * @see Types
+     */
+    public int getType() {
+        return this.type;
+    }
+
+    /**
+     * Check for null value.
+     *
+     * @param row the row in batch.
+     * @return true if the value is null.
+     */
+    public boolean isNull(final int row) {
+        return (this.nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Sets a null value.
+     *
+     * @param row  the row in batch.
+     * @param type the value type.
+     */
+    public void setNull(final int row, final int type) {
+        this.type = type;
+        this.nulls[row >>> 6] |= 1L << row;
+    }
+
+    /**
+     * Clears the null flag of a row.
+     *
+     * @param row the row in batch.
+     */
+    private void setNotNull(final int row) {
+        this.nulls[row >>> 6] &= ~(1L << row);
+    }
+
+    /**
+     * Sets an integer or boolean value.
+     *
+     * @param row   the row in batch.
+     * @param value the value.
+     * @param type  the value type.
+     */
+    public void setInt(final int row, final int value, final int type) {
+        if (this.ints == null) {
+            this.ints = new int[this.capacity];
+        }
+        this.type = type;
+        this.ints[row] = value;
+        this.setNotNull(row);
+    }
+
+    /**
+     * Sets a big integer, date, time or timestamp value. Dates and times are stored in milliseconds.
+     *
+     * @param row   the row in batch.
+     * @param value the value.
+     * @param type  the value type.
+     */
+    public void setLong(final int row, final long value, final int type) {
+        if (this.longs == null) {
+            this.longs = new long[this.capacity];
+        }
+        this.type = type;
+        this.longs[row] = value;
+        this.setNotNull(row);
+    }
+
+    /**
+     * Sets a number value.
+     *
+     * @param row   the row in batch.
+     * @param value the value.
+     */
+    public void setDouble(final int row, final double value) {
+        if (this.doubles == null) {
+            this.doubles = new double[this.capacity];
+        }
+        this.type = Types.DOUBLE;
+        this.doubles[row] = value;
+        this.setNotNull(row);
+    }
+
+    /**
+     * Sets a string value, decoding the bytes into the arena. The trailing zeros are ignored.
+     *
+     * @param row     the row in batch.
+     * @param buffer  the buffer to read of. It is advanced by the length.
+     * @param length  the value length in bytes.
+     * @param decoder the string decoder.
+     */
+    public void setString(final int row, final ByteBuffer buffer, final int length, final StringDecoder decoder) {
+        if (this.starts == null) {
+            this.starts = new int[this.capacity];
+            this.lengths = new int[this.capacity];
+            this.arena = new char[this.capacity * 16];
+        }
+        this.type = Types.VARCHAR;
+
+        int size;
+        if (decoder.isSingleByte()) {
+            this.ensureArena(length);
+            size = decoder.decode(buffer, length, this.arena, this.arenaSize);
+        } else {
+            final String value = decoder.decode(buffer, length);
+            size = value.length();
+            this.ensureArena(size);
+            value.getChars(0, size, this.arena, this.arenaSize);
+        }
+
+        this.starts[row] = this.arenaSize;
+        this.lengths[row] = size;
+        this.arenaSize += size;
+        this.setNotNull(row);
+    }
+
+    /**
+     * Grows the string arena, if needed, to have room for more chars.
+     *
+     * @param chars the chars to add.
+     */
+    private void ensureArena(final int chars) {
+        if ((this.arenaSize + chars) > this.arena.length) {
+            this.arena = Arrays.copyOf(this.arena, Math.max(this.arena.length * 2, this.arenaSize + chars));
+        }
+    }
+
+    /**
+     * Sets an object value.
+     *
+     * @param row   the row in batch.
+     * @param value the value.
+     * @param type  the value type.
+     */
+    public void setObject(final int row, final Object value, final int type) {
+        if (this.objects == null) {
+            this.objects = new Object[this.capacity];
+        }
+        this.type = type;
+        this.objects[row] = value;
+        this.setNotNull(row);
+    }
+
+    /**
+     * Gets a value as integer.
+     *
+     * @param row the row in batch.
+     * @return the value, zero if null.
+     * @throws SQLDataException if this is not a numeric value.
+     */
+    public int getInt(final int row) throws SQLDataException {
+        if (this.isNull(row)) {
+            return 0;
+        }
+        switch (this.type) {
+            case Types.INTEGER:
+                return this.ints[row];
+            case Types.BIGINT:
+                return (int) this.longs[row];
+            case Types.DOUBLE:
+                return (int) this.doubles[row];
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets a value as long.
+     *
+     * @param row the row in batch.
+     * @return the value, zero if null.
+     * @throws SQLDataException if this is not a numeric value.
+     */
+    public long getLong(final int row) throws SQLDataException {
+        if (this.isNull(row)) {
+            return 0L;
+        }
+        switch (this.type) {
+            case Types.INTEGER:
+                return this.ints[row];
+            case Types.BIGINT:
+                return this.longs[row];
+            case Types.DOUBLE:
+                return (long) this.doubles[row];
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets a value as double.
+     *
+     * @param row the row in batch.
+     * @return the value, zero if null.
+     * @throws SQLDataException if this is not a numeric value.
+     */
+    public double getDouble(final int row) throws SQLDataException {
+        if (this.isNull(row)) {
+            return 0D;
+        }
+        switch (this.type) {
+            case Types.INTEGER:
+                return this.ints[row];
+            case Types.BIGINT:
+                return this.longs[row];
+            case Types.DOUBLE:
+                return this.doubles[row];
+            default:
+                throw new SQLDataException(ColumnVector.ERROR_INVALID_TYPE, SQLStates.INVALID_FIELD_VALUE.getValue());
+        }
+    }
+
+    /**
+     * Gets a value in Java format.
+     *
+     * @param row the row in batch.
+     * @return the value or null.
+     */
+    public Object getObject(final int row) {
+        if (this.isNull(row)) {
+            return null;
+        }
+        switch (this.type) {
+            case Types.BOOLEAN:
+                return this.ints[row] != 0;
+            case Types.INTEGER:
+                return this.ints[row];
+            case Types.BIGINT:
+                return this.longs[row];
+            case Types.DOUBLE:
+                return this.doubles[row];
+            case Types.DATE:
+                return new Date(this.longs[row]);
+            case Types.TIME:
+                return new Time(this.longs[row]);
+            case Types.TIMESTAMP:
+                return new Timestamp(this.longs[row]);
+            case Types.VARCHAR:
+                return new String(this.arena, this.starts[row], this.lengths[row]);
+            default:
+                return this.objects[row];
+        }
+    }
+
+    /**
+     * Gets a value as a {@link FieldValue}.
+     *
+     * @param row the row in batch.
+     * @return the field value.
+     */
+    public FieldValue getFieldValue(final int row) {
+        final FieldValue value;
+        if (this.isNull(row)) {
+            value = new FieldValue(this.type);
+        } else {
+            value = new FieldValue(this.getObject(row), this.type);
+        }
+        value.setField(this.field);
+        return value;
+    }
+}
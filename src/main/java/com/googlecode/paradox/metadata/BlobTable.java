@@ -9,6 +9,7 @@
 package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.BlockReader;
 import com.googlecode.paradox.utils.AllBlockCache;
 import com.googlecode.paradox.utils.BlockOffset;
 import com.googlecode.paradox.utils.ClobBlock;
@@ -18,12 +19,9 @@ import com.googlecode.paradox.utils.Utils;
 import com.googlecode.paradox.utils.filefilters.TableFilter;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.channels.FileChannel;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,7 +35,7 @@ import static com.googlecode.paradox.utils.Utils.flip;
  *
  * @author Leonardo Alves da Costa
  * @author Andre Mikhaylov
- * @version 1.1
+ * @version 1.2
  * @since 1.2
  */
 public final class BlobTable extends ParadoxDataFile {
@@ -68,14 +66,9 @@ public final class BlobTable extends ParadoxDataFile {
     private final IBlockCache cache;
 
     /**
-     * Channel to read of.
+     * The LOB file reader.
      */
-    private FileChannel channel;
-
-    /**
-     * This LOB {@link InputStream}.
-     */
-    private FileInputStream fs;
+    private BlockReader reader;
 
     /**
      * If this LOB is already parsed.
@@ -103,8 +96,7 @@ public final class BlobTable extends ParadoxDataFile {
      */
     public void close() throws SQLException {
         try {
-            this.channel.close();
-            this.fs.close();
+            this.reader.close();
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
@@ -163,8 +155,7 @@ public final class BlobTable extends ParadoxDataFile {
     private void open() throws SQLException {
         try {
             final File blobFile = this.openBlob();
-            this.fs = new FileInputStream(blobFile);
-            this.channel = this.fs.getChannel();
+            this.reader = BlockReader.open(blobFile, this.getConnection());
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
         }
@@ -198,11 +189,11 @@ public final class BlobTable extends ParadoxDataFile {
     private void parse() throws SQLException {
         try {
             // First block - always 4k bytes
-            this.channel.position(0);
+            this.reader.position(0);
             final ByteBuffer buffer = ByteBuffer.allocate(1);
             buffer.order(ByteOrder.LITTLE_ENDIAN);
             clear(buffer);
-            this.channel.read(buffer);
+            this.reader.read(buffer);
             flip(buffer);
             final byte headerType = buffer.get();
             if (headerType != 0) {
@@ -210,7 +201,7 @@ public final class BlobTable extends ParadoxDataFile {
                         SQLStates.LOAD_DATA.getValue());
             }
             // No read header (while not necessary)
-            this.channel.position(BlobTable.HEADER_BLOCK_SIZE);
+            this.reader.position(BlobTable.HEADER_BLOCK_SIZE);
             this.parsed = true;
         } catch (final IOException ex) {
             throw new SQLException(ex.getMessage(), SQLStates.LOAD_DATA.getValue(), ex);
@@ -225,7 +216,7 @@ public final class BlobTable extends ParadoxDataFile {
      * @throws IOException in case of reading errors.
      */
     private void parseFreeBlock(final long startBlockAddress, final int blockSize) throws IOException {
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
+        this.reader.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
     }
 
     /**
@@ -241,7 +232,7 @@ public final class BlobTable extends ParadoxDataFile {
         final ByteBuffer blockHead = ByteBuffer.allocate(6);
         blockHead.order(ByteOrder.LITTLE_ENDIAN);
         clear(blockHead);
-        this.channel.read(blockHead);
+        this.reader.read(blockHead);
         flip(blockHead);
         final int blobLength = blockHead.getInt();
         // Modifier.
@@ -250,11 +241,11 @@ public final class BlobTable extends ParadoxDataFile {
         final ByteBuffer blockData = ByteBuffer.allocate(blobLength);
         blockData.order(ByteOrder.LITTLE_ENDIAN);
         clear(blockData);
-        this.channel.read(blockData);
+        this.reader.read(blockData);
         flip(blockData);
         final byte[] values = new byte[blobLength];
         blockData.get(values);
-        this.channel.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
+        this.reader.position(startBlockAddress + (blockSize * BlobTable.HEADER_BLOCK_SIZE));
         return new ClobBlock(headerType, new BlockOffset(startBlockAddress, 0), values);
     }
 
@@ -269,7 +260,7 @@ public final class BlobTable extends ParadoxDataFile {
     throws IOException {
         // There are nine more bytes in the header. I have no idea
         // what they contain.
-        this.channel.position(this.channel.position() + 9);
+        this.reader.position(this.reader.position() + 9);
         // 0 - this is header block
         int n = 0;
         List<ClobBlock> ret = new ArrayList<>();
@@ -277,7 +268,7 @@ public final class BlobTable extends ParadoxDataFile {
             final ByteBuffer blockPointer = ByteBuffer.allocate(5);
             blockPointer.order(ByteOrder.LITTLE_ENDIAN);
             clear(blockPointer);
-            this.channel.read(blockPointer);
+            this.reader.read(blockPointer);
             flip(blockPointer);
             // Data offset divided by 16.
             final int offset = blockPointer.get() * 0x10;
@@ -290,24 +281,24 @@ public final class BlobTable extends ParadoxDataFile {
             // If offset is zero, then the blob was deleted and
             // the space has been reused for another blob.
             if (offset != 0) {
-                final long position = this.channel.position();
+                final long position = this.reader.position();
                 final long start = offset + startBlockAddress;
                 ln = (ln - 0x10) + mdl;
                 final ByteBuffer blockData = ByteBuffer.allocate(ln);
                 blockData.order(ByteOrder.LITTLE_ENDIAN);
                 clear(blockData);
-                this.channel.position(start);
-                this.channel.read(blockData);
+                this.reader.position(start);
+                this.reader.read(blockData);
                 flip(blockData);
                 final byte[] values = new byte[ln];
                 blockData.get(values);
 
                 ret.add(new ClobBlock(headerType, new BlockOffset(startBlockAddress, n), values));
-                this.channel.position(position);
+                this.reader.position(position);
             }
             n++;
         }
-        this.channel.position(startBlockAddress + BlobTable.HEADER_BLOCK_SIZE);
+        this.reader.position(startBlockAddress + BlobTable.HEADER_BLOCK_SIZE);
         return ret;
     }
 
@@ -340,14 +331,14 @@ public final class BlobTable extends ParadoxDataFile {
     private List<ClobBlock> readNextBlock() throws SQLException {
         final List<ClobBlock> blocks = new ArrayList<>();
         try {
-            if (this.channel.position() == this.channel.size()) {
+            if (this.reader.position() == this.reader.size()) {
                 return Collections.emptyList();
             }
-            final long startBlockAddress = this.channel.position();
+            final long startBlockAddress = this.reader.position();
             final ByteBuffer header = ByteBuffer.allocate(3);
             header.order(ByteOrder.LITTLE_ENDIAN);
             clear(header);
-            this.channel.read(header);
+            this.reader.read(header);
             flip(header);
             final byte headerType = header.get();
             final int blockSize = header.getShort();
@@ -10,7 +10,9 @@ package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.results.Column;
 import com.googlecode.paradox.results.ParadoxFieldType;
+import com.googlecode.paradox.utils.StringDecoder;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Locale;
@@ -19,7 +21,7 @@ import java.util.Locale;
  * Stores a field from a table.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.0
  */
 public final class ParadoxField {
@@ -79,6 +81,11 @@ public final class ParadoxField {
      */
     private byte type;
 
+    /**
+     * The string decoder, created on first use.
+     */
+    private StringDecoder stringDecoder;
+
     /**
      * Creates a new instance. it starts with {@link #getOrderNum()} with one.
      */
@@ -190,6 +197,26 @@ public final class ParadoxField {
         return this.table;
     }
 
+    /**
+     * Gets the decoder of the string values of this field, created on first use.
+     *
+     * @param owner the table to read, with the values charset.
+     * @return the string decoder.
+     */
+    public StringDecoder getStringDecoder(final ParadoxTable owner) {
+        final Charset charset = owner.getCharset();
+        StringDecoder decoder = this.stringDecoder;
+        if ((decoder == null) || !decoder.getCharset().equals(charset)) {
+            int cacheSize = 0;
+            if (owner.getConnection() != null) {
+                cacheSize = owner.getConnection().getStringCacheSize();
+            }
+            decoder = new StringDecoder(charset, cacheSize);
+            this.stringDecoder = decoder;
+        }
+        return decoder;
+    }
+
     /**
      * Gets the tables name.
      *
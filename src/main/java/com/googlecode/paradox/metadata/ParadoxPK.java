@@ -10,11 +10,13 @@ package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.ParadoxConnection;
 
+import java.io.File;
+
 /**
  * Stores a primary key definition..
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ParadoxPK extends ParadoxDataFile {
@@ -24,6 +26,21 @@ public final class ParadoxPK extends ParadoxDataFile {
      */
     private int indexFieldNumber;
 
+    /**
+     * The root block of the index tree.
+     */
+    private int rootBlock;
+
+    /**
+     * The count of levels in the index tree.
+     */
+    private int indexLevels;
+
+    /**
+     * The count of key fields.
+     */
+    private int keyFieldCount;
+
     /**
      * Creates a new instance.
      *
@@ -33,6 +50,16 @@ public final class ParadoxPK extends ParadoxDataFile {
         super(null, null, connection);
     }
 
+    /**
+     * Creates a new instance from an index file.
+     *
+     * @param file       the index file.
+     * @param connection the database connection.
+     */
+    public ParadoxPK(final File file, final ParadoxConnection connection) {
+        super(file, file.getName(), connection);
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -60,6 +87,60 @@ public final class ParadoxPK extends ParadoxDataFile {
         this.indexFieldNumber = indexFieldNumber;
     }
 
+    /**
+     * Gets the root block of the index tree.
+     *
+     * @return the root block of the index tree.
+     */
+    public int getRootBlock() {
+        return this.rootBlock;
+    }
+
+    /**
+     * Sets the root block of the index tree.
+     *
+     * @param rootBlock the root block of the index tree.
+     */
+    public void setRootBlock(final int rootBlock) {
+        this.rootBlock = rootBlock;
+    }
+
+    /**
+     * Gets the count of levels in the index tree.
+     *
+     * @return the count of levels in the index tree.
+     */
+    public int getIndexLevels() {
+        return this.indexLevels;
+    }
+
+    /**
+     * Sets the count of levels in the index tree.
+     *
+     * @param indexLevels the count of levels in the index tree.
+     */
+    public void setIndexLevels(final int indexLevels) {
+        this.indexLevels = indexLevels;
+    }
+
+    /**
+     * Gets the count of key fields.
+     *
+     * @return the count of key fields.
+     */
+    public int getKeyFieldCount() {
+        return this.keyFieldCount;
+    }
+
+    /**
+     * Sets the count of key fields.
+     *
+     * @param keyFieldCount the count of key fields.
+     */
+    public void setKeyFieldCount(final int keyFieldCount) {
+        this.keyFieldCount = keyFieldCount;
+    }
+
     /**
      * {@inheritDoc}.
      */
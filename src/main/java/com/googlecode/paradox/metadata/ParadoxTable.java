@@ -9,6 +9,9 @@
 package com.googlecode.paradox.metadata;
 
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.BlockDirectory;
+import com.googlecode.paradox.data.RowDecoder;
+import com.googlecode.paradox.utils.TemporalDecoder;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -18,7 +21,7 @@ import java.util.List;
  * Stores a table data file.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.7
  * @since 1.0
  */
 public final class ParadoxTable extends ParadoxDataFile {
@@ -28,6 +31,41 @@ public final class ParadoxTable extends ParadoxDataFile {
      */
     private BlobTable blobFile;
 
+    /**
+     * The field offsets inside a record, by field order.
+     */
+    private int[] fieldOffsets;
+
+    /**
+     * The record decoder.
+     */
+    private RowDecoder rowDecoder;
+
+    /**
+     * The date and time decoder, resolved once per scan.
+     */
+    private TemporalDecoder temporalDecoder;
+
+    /**
+     * The primary key index, loaded on demand.
+     */
+    private ParadoxPK primaryKeyIndex;
+
+    /**
+     * If the primary key index was already searched.
+     */
+    private boolean primaryKeyIndexLoaded;
+
+    /**
+     * The secondary indexes, loaded on demand.
+     */
+    private List<ParadoxIndex> indexes;
+
+    /**
+     * The block directory, built on demand.
+     */
+    private BlockDirectory blockDirectory;
+
     /**
      * Creates a new instance.
      *
@@ -61,6 +99,59 @@ public final class ParadoxTable extends ParadoxDataFile {
         return this.getBlockSize() * 1_024;
     }
 
+    /**
+     * Gets the field offsets inside a record. Records have fixed length, so the offsets are computed only once.
+     *
+     * @return the field offsets inside a record, by field order.
+     */
+    public int[] getFieldOffsets() {
+        if (this.fieldOffsets == null) {
+            final List<ParadoxField> fields = this.getFields();
+            final int[] offsets = new int[fields.size()];
+            int offset = 0;
+            for (int loop = 0; loop < offsets.length; loop++) {
+                offsets[loop] = offset;
+                offset += fields.get(loop).getPhysicsSize();
+            }
+            this.fieldOffsets = offsets;
+        }
+        return this.fieldOffsets;
+    }
+
+    /**
+     * Gets the record decoder, shared by all reads of this table.
+     *
+     * @return the record decoder.
+     */
+    public RowDecoder getRowDecoder() {
+        if (this.rowDecoder == null) {
+            this.rowDecoder = new RowDecoder(this);
+        }
+        return this.rowDecoder;
+    }
+
+    /**
+     * Gets the date and time decoder of the current scan.
+     *
+     * @return the date and time decoder.
+     */
+    public TemporalDecoder getTemporalDecoder() {
+        TemporalDecoder decoder = this.temporalDecoder;
+        if (decoder == null) {
+            decoder = TemporalDecoder.getInstance();
+            this.temporalDecoder = decoder;
+        }
+        return decoder;
+    }
+
+    /**
+     * Resolves the date and time decoder again, following changes in the default time zone. Called once per scan, so
+     * the time zone is not checked for each decoded value.
+     */
+    public void refreshTemporalDecoder() {
+        this.temporalDecoder = TemporalDecoder.getInstance();
+    }
+
     /**
      * Gets the table name.
      *
@@ -71,6 +162,70 @@ public final class ParadoxTable extends ParadoxDataFile {
         return this.getName();
     }
 
+    /**
+     * Gets the primary key index.
+     *
+     * @return the primary key index or null if not loaded or if the table has none.
+     */
+    public ParadoxPK getPrimaryKeyIndex() {
+        return this.primaryKeyIndex;
+    }
+
+    /**
+     * Sets the primary key index.
+     *
+     * @param primaryKeyIndex the primary key index, or null if the table has none.
+     */
+    public void setPrimaryKeyIndex(final ParadoxPK primaryKeyIndex) {
+        this.primaryKeyIndex = primaryKeyIndex;
+        this.primaryKeyIndexLoaded = true;
+    }
+
+    /**
+     * Gets if the primary key index was already searched.
+     *
+     * @return true if the primary key index was already searched.
+     */
+    public boolean isPrimaryKeyIndexLoaded() {
+        return this.primaryKeyIndexLoaded;
+    }
+
+    /**
+     * Gets the secondary indexes.
+     *
+     * @return the secondary indexes or null if not loaded.
+     */
+    public List<ParadoxIndex> getIndexes() {
+        return this.indexes;
+    }
+
+    /**
+     * Sets the secondary indexes.
+     *
+     * @param indexes the secondary indexes.
+     */
+    public void setIndexes(final List<ParadoxIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * Gets the block directory.
+     *
+     * @return the block directory or null if not built.
+     */
+    public BlockDirectory getBlockDirectory() {
+        return this.blockDirectory;
+    }
+
+    /**
+     * Sets the block directory.
+     *
+     * @param blockDirectory the block directory.
+     */
+    public void setBlockDirectory(final BlockDirectory blockDirectory) {
+        this.blockDirectory = blockDirectory;
+    }
+
     /**
      * Gets the primary keys list.
      *
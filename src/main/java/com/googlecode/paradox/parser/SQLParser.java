@@ -9,6 +9,8 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.IdentifierNode;
 import com.googlecode.paradox.parser.nodes.JoinNode;
 import com.googlecode.paradox.parser.nodes.JoinType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
@@ -40,7 +42,7 @@ import java.util.List;
  * Parses a SQL statement.
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.8
  * @since 1.0
  */
 public final class SQLParser {
@@ -201,6 +203,7 @@ public final class SQLParser {
      */
     private SQLNode parseCondition() throws SQLException {
         if (this.token.getType() == TokenType.NOT) {
+            this.expect(TokenType.NOT);
             return new NOTNode(this.parseCondition());
         } else if (this.token.isOperator()) {
             return this.parseOperators();
@@ -390,7 +393,9 @@ public final class SQLParser {
         this.expect(TokenType.FROM);
         boolean firstField = true;
         do {
-            if (this.token.getType() == TokenType.WHERE) {
+            if ((this.token.getType() == TokenType.WHERE) || (this.token.getType() == TokenType.ORDER)
+                    || (this.token.getType() == TokenType.GROUP) || (this.token.getType() == TokenType.LIMIT)
+                    || (this.token.getType() == TokenType.OFFSET)) {
                 break;
             }
             if (!firstField) {
@@ -406,6 +411,122 @@ public final class SQLParser {
             this.expect(TokenType.WHERE);
             select.setConditions(this.parseConditionList());
         }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.GROUP)) {
+            this.parseGroupBy(select);
+        }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.ORDER)) {
+            this.parseOrderBy(select);
+        }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.LIMIT)) {
+            this.expect(TokenType.LIMIT);
+            select.setLimit(this.parseRowCount());
+        }
+
+        if ((this.token != null) && (this.token.getType() == TokenType.OFFSET)) {
+            this.expect(TokenType.OFFSET);
+            select.setOffset(this.parseRowCount());
+        }
+    }
+
+    /**
+     * Parse the GROUP BY keyword.
+     *
+     * @param select the select node.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseGroupBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.GROUP);
+        this.expect(TokenType.BY, "BY expected.");
+        boolean firstField = true;
+        do {
+            if (!firstField) {
+                this.expect(TokenType.COMMA, "Missing comma.");
+            }
+            final FieldNode field = this.parseField();
+            select.addGroupBy(new IdentifierNode(field.toString()));
+            firstField = false;
+        } while ((this.token != null) && (this.token.getType() == TokenType.COMMA));
+    }
+
+    /**
+     * Parse the ORDER BY keyword.
+     *
+     * @param select the select node.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseOrderBy(final SelectNode select) throws SQLException {
+        this.expect(TokenType.ORDER);
+        this.expect(TokenType.BY, "BY expected.");
+        boolean firstField = true;
+        do {
+            if (!firstField) {
+                this.expect(TokenType.COMMA, "Missing comma.");
+            }
+            final FieldNode field = this.parseField();
+            boolean ascending = true;
+            if ((this.token != null) && (this.token.getType() == TokenType.DESC)) {
+                this.expect(TokenType.DESC);
+                ascending = false;
+            } else if ((this.token != null) && (this.token.getType() == TokenType.ASC)) {
+                this.expect(TokenType.ASC);
+            }
+            select.addOrderBy(new IdentifierNode(field.toString()), ascending);
+            firstField = false;
+        } while ((this.token != null) && (this.token.getType() == TokenType.COMMA));
+    }
+
+    /**
+     * Parse the row count of LIMIT, TOP or OFFSET.
+     *
+     * @return the row count.
+     * @throws SQLException in case of parse errors.
+     */
+    private int parseRowCount() throws SQLException {
+        if (this.token == null) {
+            throw new SQLException("Row count expected.", SQLStates.INVALID_SQL.getValue());
+        }
+
+        final String value = this.token.getValue();
+        this.expect(TokenType.NUMERIC, "Row count expected.");
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException e) {
+            throw new SQLException(String.format("Invalid row count: %s.", value), SQLStates.INVALID_SQL.getValue(),
+                    e);
+        }
+    }
+
+    /**
+     * Parse a function call in the field list, like COUNT(*) or SUM(field).
+     *
+     * @param select the select node.
+     * @param name   the function name.
+     * @throws SQLException in case of parse errors.
+     */
+    private void parseFunction(final SelectNode select, final String name) throws SQLException {
+        this.expect(TokenType.LPAREN);
+        final SQLNode argument;
+        if (this.token.getType() == TokenType.ASTERISK) {
+            this.expect(TokenType.ASTERISK);
+            argument = new AsteriskNode();
+        } else {
+            argument = this.parseField();
+        }
+        this.expect(TokenType.RPAREN, "Right parenthesis expected.");
+
+        String alias = null;
+        if ((this.token != null) && (this.token.getType() == TokenType.AS)) {
+            this.expect(TokenType.AS);
+            alias = this.token.getValue();
+            this.expect(TokenType.CHARACTER, TokenType.IDENTIFIER);
+        } else if ((this.token != null) && (this.token.getType() == TokenType.IDENTIFIER)) {
+            alias = this.token.getValue();
+            this.expect(TokenType.IDENTIFIER);
+        }
+        select.addField(new FunctionNode(name, argument, alias));
     }
 
     /**
@@ -423,6 +544,11 @@ public final class SQLParser {
         String newFieldName = fieldName;
         this.expect(TokenType.IDENTIFIER);
 
+        if (this.token.getType() == TokenType.LPAREN) {
+            this.parseFunction(select, fieldName);
+            return;
+        }
+
         if ((this.token.getType() == TokenType.IDENTIFIER) || (this.token.getType() == TokenType.AS)
                 || (this.token.getType() == TokenType.PERIOD)) {
             // If it has a Table Name
@@ -457,10 +583,12 @@ public final class SQLParser {
      */
     private void parseJoin(final TableNode table) throws SQLException {
         while (this.scanner.hasNext() && (this.token.getType() != TokenType.COMMA)
-                && (this.token.getType() != TokenType.WHERE)) {
+                && (this.token.getType() != TokenType.WHERE) && (this.token.getType() != TokenType.ORDER)
+                && (this.token.getType() != TokenType.GROUP) && (this.token.getType() != TokenType.LIMIT)
+                && (this.token.getType() != TokenType.OFFSET)) {
             final JoinNode join = new JoinNode();
+            join.setType(JoinType.INNER);
 
-            // Inner join
             if (this.token.getType() == TokenType.LEFT) {
                 join.setType(JoinType.LEFT);
                 this.expect(TokenType.LEFT);
@@ -623,6 +751,11 @@ public final class SQLParser {
             this.expect(TokenType.DISTINCT);
         }
 
+        if (this.token.getType() == TokenType.TOP) {
+            this.expect(TokenType.TOP);
+            select.setLimit(this.parseRowCount());
+        }
+
         // Field loop
         this.parseFields(select);
 
@@ -12,7 +12,7 @@ package com.googlecode.paradox.parser;
  * SQL Tokens
  *
  * @author Leonardo Alves da Costa
- * @version 1.2
+ * @version 1.7
  * @since 1.0
  */
 public enum TokenType {
@@ -26,6 +26,11 @@ public enum TokenType {
      */
     AS,
     
+    /**
+     * Ascending order token.
+     */
+    ASC,
+    
     /**
      * All fields token.
      */
@@ -56,6 +61,11 @@ public enum TokenType {
      */
     DELETE,
     
+    /**
+     * Descending order token.
+     */
+    DESC,
+    
     /**
      * Distinct token.
      */
@@ -76,6 +86,11 @@ public enum TokenType {
      */
     FROM,
     
+    /**
+     * Group token.
+     */
+    GROUP,
+    
     /**
      * Having token.
      */
@@ -116,6 +131,11 @@ public enum TokenType {
      */
     LESS("<"),
     
+    /**
+     * Limit token.
+     */
+    LIMIT,
+    
     /**
      * Left parenthesis token.
      */
@@ -156,6 +176,11 @@ public enum TokenType {
      */
     NUMERIC(null),
     
+    /**
+     * Offset token.
+     */
+    OFFSET,
+    
     /**
      * ON token.
      */
@@ -206,6 +231,11 @@ public enum TokenType {
      */
     SEMI(";"),
     
+    /**
+     * Top token.
+     */
+    TOP,
+    
     /**
      * Update token.
      */
@@ -224,7 +254,8 @@ public enum TokenType {
     /**
      * Stores the conditional break values.
      */
-    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, HAVING, RPAREN, LEFT, RIGHT, OUTER, INNER, JOIN };
+    private static final TokenType[] CONDITIONAL_BREAKS = { ORDER, HAVING, RPAREN, LEFT, RIGHT, OUTER, INNER, JOIN,
+            WHERE, COMMA, GROUP, LIMIT, OFFSET };
     
     /**
      * Stores the operator values.
@@ -0,0 +1,95 @@
+/*
+ * FunctionNode.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.parser.nodes;
+
+import com.googlecode.paradox.parser.nodes.values.AsteriskNode;
+
+import java.util.Locale;
+
+/**
+ * Stores a function call in the SELECT field list, like COUNT(*).
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class FunctionNode extends SQLNode {
+    
+    /**
+     * The function argument.
+     */
+    private final SQLNode argument;
+    
+    /**
+     * Creates a new instance.
+     *
+     * @param name
+     *            the function name.
+     * @param argument
+     *            the function argument, a field or an asterisk.
+     * @param alias
+     *            the column alias, or null.
+     */
+    public FunctionNode(final String name, final SQLNode argument, final String alias) {
+        super(name, alias);
+        this.argument = argument;
+    }
+    
+    /**
+     * Gets the function argument.
+     *
+     * @return the function argument, a field or an asterisk.
+     */
+    public SQLNode getArgument() {
+        return this.argument;
+    }
+    
+    /**
+     * Gets if the argument is an asterisk.
+     *
+     * @return true if the argument is an asterisk.
+     */
+    public boolean isAllRows() {
+        return this.argument instanceof AsteriskNode;
+    }
+    
+    /**
+     * Gets the function call text, without the alias.
+     *
+     * @return the function call text.
+     */
+    public String getCall() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(this.getName().toUpperCase(Locale.US));
+        builder.append('(');
+        if (this.isAllRows()) {
+            builder.append('*');
+        } else {
+            final FieldNode field = (FieldNode) this.argument;
+            if (field.getTableName() != null) {
+                builder.append(field.getTableName());
+                builder.append('.');
+            }
+            builder.append(field.getName());
+        }
+        builder.append(')');
+        return builder.toString();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String toString() {
+        if (this.alias != null) {
+            return this.getCall() + " AS " + this.alias;
+        }
+        return this.getCall();
+    }
+}
@@ -15,7 +15,7 @@ import java.util.List;
  * Stores a join node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class JoinNode extends SQLNode {
@@ -116,9 +116,12 @@ public final class JoinNode extends SQLNode {
     /**
      * Gets the conditions.
      *
-     * @return the conditions.
+     * @return the conditions, empty if there are none.
      */
-    List<SQLNode> getConditions() {
+    public List<SQLNode> getConditions() {
+        if (this.conditions == null) {
+            return Collections.emptyList();
+        }
         return Collections.unmodifiableList(this.conditions);
     }
     
@@ -17,7 +17,7 @@ import java.util.List;
  * Stores a select node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.5
  * @since 1.0
  */
 public final class SelectNode extends StatementNode {
@@ -42,11 +42,26 @@ public final class SelectNode extends StatementNode {
      * Order by values.
      */
     private final ArrayList<IdentifierNode> order = new ArrayList<>();
+    
+    /**
+     * If each order by value is ascending.
+     */
+    private final ArrayList<Boolean> orderAscending = new ArrayList<>();
     /**
      * The tables in from token.
      */
     private final ArrayList<TableNode> tables = new ArrayList<>();
     
+    /**
+     * The maximum count of rows, or -1 if not limited.
+     */
+    private int limit = -1;
+    
+    /**
+     * The count of rows skipped.
+     */
+    private int offset;
+    
     /**
      * Create a new instance.
      */
@@ -104,6 +119,17 @@ public final class SelectNode extends StatementNode {
         return Collections.unmodifiableList(this.order);
     }
     
+    /**
+     * Gets if an order by value is ascending.
+     *
+     * @param index
+     *            the order by value position.
+     * @return true if the order by value is ascending.
+     */
+    public boolean isOrderAscending(final int index) {
+        return this.orderAscending.get(index);
+    }
+    
     /**
      * Gets the table list.
      *
@@ -147,6 +173,14 @@ public final class SelectNode extends StatementNode {
         this.buildWhere(builder);
         this.buildGroupBy(builder);
         this.buildOrderBy(builder);
+        if (this.limit >= 0) {
+            builder.append(" LIMIT ");
+            builder.append(this.limit);
+        }
+        if (this.offset > 0) {
+            builder.append(" OFFSET ");
+            builder.append(this.offset);
+        }
         return builder.toString();
     }
     
@@ -219,17 +253,16 @@ public final class SelectNode extends StatementNode {
      *            builder to ORDER BY fields.
      */
     private void buildOrderBy(final StringBuilder builder) {
-        boolean first;
         if (!this.order.isEmpty()) {
             builder.append(" ORDER BY ");
-            first = true;
-            for (final IdentifierNode identifier : this.order) {
-                if (first) {
-                    first = false;
-                } else {
+            for (int loop = 0; loop < this.order.size(); loop++) {
+                if (loop > 0) {
                     builder.append(", ");
                 }
-                builder.append(identifier);
+                builder.append(this.order.get(loop));
+                if (!this.orderAscending.get(loop)) {
+                    builder.append(" DESC");
+                }
             }
         }
     }
@@ -262,7 +295,7 @@ public final class SelectNode extends StatementNode {
      * @param identifier
      *            the group by identifier to add.
      */
-    void addGroupBy(final IdentifierNode identifier) {
+    public void addGroupBy(final IdentifierNode identifier) {
         this.groups.add(identifier);
     }
     
@@ -273,7 +306,20 @@ public final class SelectNode extends StatementNode {
      *            the order by identifier to add.
      */
     void addOrderBy(final IdentifierNode identifier) {
+        this.addOrderBy(identifier, true);
+    }
+    
+    /**
+     * Adds the order by identifier.
+     *
+     * @param identifier
+     *            the order by identifier to add.
+     * @param ascending
+     *            if the order is ascending.
+     */
+    public void addOrderBy(final IdentifierNode identifier, final boolean ascending) {
         this.order.add(identifier);
+        this.orderAscending.add(ascending);
     }
     
     /**
@@ -281,10 +327,48 @@ public final class SelectNode extends StatementNode {
      *
      * @return the group list.
      */
-    List<IdentifierNode> getGroups() {
+    public List<IdentifierNode> getGroups() {
         return Collections.unmodifiableList(this.groups);
     }
     
+    /**
+     * Gets the maximum count of rows, from LIMIT or TOP.
+     *
+     * @return the maximum count of rows, or -1 if not limited.
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+    
+    /**
+     * Sets the maximum count of rows.
+     *
+     * @param limit
+     *            the maximum count of rows, or -1 if not limited.
+     */
+    public void setLimit(final int limit) {
+        this.limit = limit;
+    }
+    
+    /**
+     * Gets the count of rows skipped, from OFFSET.
+     *
+     * @return the count of rows skipped.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+    
+    /**
+     * Sets the count of rows skipped.
+     *
+     * @param offset
+     *            the count of rows skipped.
+     */
+    public void setOffset(final int offset) {
+        this.offset = offset;
+    }
+    
     /**
      * Get if this select has a distinct token.
      *
@@ -0,0 +1,82 @@
+/*
+ * ComparisonPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.List;
+
+/**
+ * Compares a field value with literals converted once to the field type. Null values are never accepted.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+abstract class ComparisonPredicate implements RowFilter {
+
+    /**
+     * The field position in the row.
+     */
+    private final int position;
+
+    /**
+     * The comparison.
+     */
+    final RecordFilter.Operator operator;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     */
+    ComparisonPredicate(final int position, final RecordFilter.Operator operator) {
+        this.position = position;
+        this.operator = operator;
+    }
+
+    /**
+     * Gets the field value in a row.
+     *
+     * @param row the row.
+     * @return the field value, or null if the value is null.
+     */
+    final Object getValue(final List<FieldValue> row) {
+        final FieldValue value = row.get(this.position);
+        if (value == null) {
+            return null;
+        }
+        return value.getValue();
+    }
+
+    /**
+     * Checks the operator against the result of a comparison between the value and the literals.
+     *
+     * @param lower the value compared to the literal, or to the lower bound.
+     * @param upper the value compared to the upper bound, only used in {@link RecordFilter.Operator#BETWEEN}.
+     * @return true if the value satisfies the operator.
+     */
+    final boolean check(final int lower, final int upper) {
+        switch (this.operator) {
+            case EQUALS:
+                return lower == 0;
+            case NOT_EQUALS:
+                return lower != 0;
+            case GREATER:
+                return lower > 0;
+            case LESS:
+                return lower < 0;
+            default:
+                return (lower >= 0) && (upper <= 0);
+        }
+    }
+}
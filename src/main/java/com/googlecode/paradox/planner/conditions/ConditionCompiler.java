@@ -0,0 +1,472 @@
+/*
+ * ConditionCompiler.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.SQLNode;
+import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
+import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
+import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.LessThanNode;
+import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
+import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
+import com.googlecode.paradox.parser.nodes.conditional.ORNode;
+import com.googlecode.paradox.parser.nodes.conditional.XORNode;
+import com.googlecode.paradox.utils.SQLStates;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the WHERE conditions of a table scan into a tree of typed predicates.
+ * <p>
+ * The fields are resolved to row positions and the literals are converted to the field type once, so checking a row
+ * only compares values. The parser returns the conditions as a list of comparisons separated by AND, OR and XOR, and
+ * they are grouped by precedence: NOT first, then AND, XOR and OR.
+ * <p>
+ * The rows may join several tables, each one starting at its own position. A comparison between two fields, like a
+ * join condition, compares the values of both fields in the same row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public final class ConditionCompiler {
+
+    /**
+     * Resolves the field names used in conditions.
+     */
+    public interface FieldResolver {
+
+        /**
+         * Finds a field by its name, with optional table alias.
+         *
+         * @param name the field name.
+         * @return the field.
+         * @throws SQLException if the field does not exist or is ambiguous.
+         */
+        ParadoxField findField(String name) throws SQLException;
+    }
+
+    /**
+     * The field resolver.
+     */
+    private final FieldResolver resolver;
+
+    /**
+     * The tables in the rows.
+     */
+    private final ParadoxTable[] tables;
+
+    /**
+     * The position of each table field in the rows read, by table, -1 if the field is not read.
+     */
+    private final int[][] positions;
+
+    /**
+     * If the value compared may be a field name without the table alias, as in join conditions.
+     */
+    private final boolean joinCondition;
+
+    /**
+     * The conditions being compiled.
+     */
+    private List<SQLNode> conditions;
+
+    /**
+     * The next condition to compile.
+     */
+    private int current;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param resolver  the field resolver.
+     * @param table     the table scanned.
+     * @param positions the position of each table field in the rows read, -1 if the field is not read.
+     */
+    public ConditionCompiler(final FieldResolver resolver, final ParadoxTable table, final int[] positions) {
+        this(resolver, new ParadoxTable[]{table}, new int[][]{positions}, false);
+    }
+
+    /**
+     * Creates a new instance for rows joining several tables.
+     *
+     * @param resolver      the field resolver.
+     * @param tables        the tables in the rows.
+     * @param positions     the position of each table field in the rows read, by table, -1 if the field is not read.
+     * @param joinCondition if the value compared may be a field name without the table alias, as in join conditions.
+     */
+    public ConditionCompiler(final FieldResolver resolver, final ParadoxTable[] tables, final int[][] positions,
+            final boolean joinCondition) {
+        this.resolver = resolver;
+        this.tables = tables;
+        this.positions = positions;
+        this.joinCondition = joinCondition;
+    }
+
+    /**
+     * Compiles the conditions. Conditions over fields of other tables never accept a row.
+     *
+     * @param conditions the comparisons separated by AND, OR and XOR.
+     * @return the compiled conditions or null if there are no conditions.
+     * @throws SQLException in case of invalid conditions.
+     */
+    public RowFilter compile(final List<SQLNode> conditions) throws SQLException {
+        if (conditions.isEmpty()) {
+            return null;
+        }
+
+        this.conditions = conditions;
+        this.current = 0;
+        final RowFilter ret = this.parseOr();
+        if (this.current < conditions.size()) {
+            throw new SQLException("Invalid condition.", SQLStates.INVALID_SQL.getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * Compiles a single comparison.
+     *
+     * @param condition the comparison.
+     * @return the compiled comparison.
+     * @throws SQLException in case of invalid comparison.
+     */
+    public RowFilter compileComparison(final SQLNode condition) throws SQLException {
+        final String name = ConditionCompiler.getFieldName(condition);
+        if (name == null) {
+            // Unsupported conditions, like EXISTS.
+            return ConstantPredicate.FALSE;
+        }
+
+        final ParadoxField field = this.resolver.findField(name);
+        final int position = this.getPosition(field);
+        if (position < 0) {
+            return ConstantPredicate.FALSE;
+        }
+
+        final RecordFilter.Operator operator = ConditionCompiler.getOperator(condition);
+        final ParadoxField other = ConditionCompiler.getComparedField(this.resolver, condition, this.joinCondition);
+        if (other != null) {
+            final int otherPosition = this.getPosition(other);
+            if (otherPosition < 0) {
+                return ConstantPredicate.FALSE;
+            }
+            return new FieldComparisonPredicate(position, operator, otherPosition);
+        }
+
+        final String lower = ConditionCompiler.getLiteral(condition);
+        String upper = null;
+        if (condition instanceof BetweenNode) {
+            upper = ((BetweenNode) condition).getLast().toString();
+        }
+
+        switch (field.getType()) {
+            case 2:
+                return ConditionCompiler.compileDate(position, operator, lower, upper);
+            case 3:
+            case 4:
+            case 5:
+            case 6:
+            case 0x16:
+                return ConditionCompiler.compileNumber(position, operator, lower, upper);
+            default:
+                return new TextPredicate(position, operator, lower, upper);
+        }
+    }
+
+    /**
+     * Gets the name of the field used in a condition.
+     *
+     * @param condition the condition.
+     * @return the field name or null if the condition is not a comparison.
+     */
+    public static String getFieldName(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return ((EqualsNode) condition).getFirst().toString();
+        } else if (condition instanceof NotEqualsNode) {
+            return ((NotEqualsNode) condition).getFirst().toString();
+        } else if (condition instanceof GreaterThanNode) {
+            return ((GreaterThanNode) condition).getFirst().toString();
+        } else if (condition instanceof LessThanNode) {
+            return ((LessThanNode) condition).getFirst().toString();
+        } else if (condition instanceof BetweenNode) {
+            return ((BetweenNode) condition).getField().toString();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the field compared in a condition, if the value compared is a field name. Outside the join conditions,
+     * only the names with table alias are fields, so the other names are still compared as text.
+     *
+     * @param resolver      the field resolver.
+     * @param condition     the condition.
+     * @param joinCondition if the names without table alias may be fields.
+     * @return the field compared or null if the condition compares a literal.
+     */
+    public static ParadoxField getComparedField(final FieldResolver resolver, final SQLNode condition,
+            final boolean joinCondition) {
+        final FieldNode value = ConditionCompiler.getValueNode(condition);
+        if ((value == null) || (!joinCondition && (value.getTableName() == null))) {
+            return null;
+        }
+
+        try {
+            return resolver.findField(value.toString());
+        } catch (final SQLException e) {
+            // Not a field name.
+            return null;
+        }
+    }
+
+    /**
+     * Gets the value compared in a condition.
+     *
+     * @param condition the condition.
+     * @return the value compared, the lower bound in BETWEEN or null if the condition is not a comparison.
+     */
+    public static String getLiteral(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return ((EqualsNode) condition).getLast().toString();
+        } else if (condition instanceof NotEqualsNode) {
+            return ((NotEqualsNode) condition).getLast().toString();
+        } else if (condition instanceof GreaterThanNode) {
+            return ((GreaterThanNode) condition).getLast().toString();
+        } else if (condition instanceof LessThanNode) {
+            return ((LessThanNode) condition).getLast().toString();
+        } else if (condition instanceof BetweenNode) {
+            return ((BetweenNode) condition).getFirst().toString();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the node compared with the field in a condition, except in BETWEEN.
+     *
+     * @param condition the condition.
+     * @return the node compared or null if the condition is not a comparison between two values.
+     */
+    private static FieldNode getValueNode(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return ((EqualsNode) condition).getLast();
+        } else if (condition instanceof NotEqualsNode) {
+            return ((NotEqualsNode) condition).getLast();
+        } else if (condition instanceof GreaterThanNode) {
+            return ((GreaterThanNode) condition).getLast();
+        } else if (condition instanceof LessThanNode) {
+            return ((LessThanNode) condition).getLast();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the row position of a field.
+     *
+     * @param field the field.
+     * @return the row position or -1 if the field is not read.
+     */
+    private int getPosition(final ParadoxField field) {
+        for (int loop = 0; loop < this.tables.length; loop++) {
+            if (this.tables[loop] == field.getTable()) {
+                return this.positions[loop][field.getOrderNum() - 1];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the operator of a comparison.
+     *
+     * @param condition the comparison.
+     * @return the operator or null if the condition is not a comparison.
+     */
+    public static RecordFilter.Operator getOperator(final SQLNode condition) {
+        if (condition instanceof EqualsNode) {
+            return RecordFilter.Operator.EQUALS;
+        } else if (condition instanceof NotEqualsNode) {
+            return RecordFilter.Operator.NOT_EQUALS;
+        } else if (condition instanceof GreaterThanNode) {
+            return RecordFilter.Operator.GREATER;
+        } else if (condition instanceof LessThanNode) {
+            return RecordFilter.Operator.LESS;
+        } else if (condition instanceof BetweenNode) {
+            return RecordFilter.Operator.BETWEEN;
+        }
+        return null;
+    }
+
+    /**
+     * Compiles a number comparison.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound, or null.
+     * @return the compiled comparison.
+     * @throws SQLException if the literals are not numbers.
+     */
+    private static RowFilter compileNumber(final int position, final RecordFilter.Operator operator,
+            final String lower, final String upper) throws SQLException {
+        try {
+            double upperValue = 0;
+            if (upper != null) {
+                upperValue = Double.parseDouble(upper);
+            }
+            return new NumberPredicate(position, operator, Double.parseDouble(lower), upperValue);
+        } catch (final NumberFormatException e) {
+            return ConditionCompiler.compileInvalid(operator, lower, upper);
+        }
+    }
+
+    /**
+     * Compiles a date comparison. The literals must be in yyyy-mm-dd format.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound, or null.
+     * @return the compiled comparison.
+     * @throws SQLException if the literals are not dates.
+     */
+    private static RowFilter compileDate(final int position, final RecordFilter.Operator operator,
+            final String lower, final String upper) throws SQLException {
+        try {
+            long upperValue = 0;
+            if (upper != null) {
+                upperValue = Date.valueOf(upper).getTime();
+            }
+            return new DatePredicate(position, operator, Date.valueOf(lower).getTime(), upperValue);
+        } catch (final IllegalArgumentException e) {
+            return ConditionCompiler.compileInvalid(operator, lower, upper);
+        }
+    }
+
+    /**
+     * Compiles a comparison with a literal that can not be converted to the field type. No value is equal to it,
+     * but it can not be ordered.
+     *
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound, or null.
+     * @return the compiled comparison.
+     * @throws SQLException if the comparison orders the values.
+     */
+    private static RowFilter compileInvalid(final RecordFilter.Operator operator, final String lower,
+            final String upper) throws SQLException {
+        if (operator == RecordFilter.Operator.EQUALS) {
+            return ConstantPredicate.FALSE;
+        } else if (operator == RecordFilter.Operator.NOT_EQUALS) {
+            return ConstantPredicate.TRUE;
+        }
+
+        String value = lower;
+        if (upper != null) {
+            value += " AND " + upper;
+        }
+        throw new SQLException(String.format("Invalid value to compare: %s", value),
+                SQLStates.INVALID_FIELD_VALUE.getValue());
+    }
+
+    /**
+     * Compiles the OR operands.
+     *
+     * @return the compiled conditions.
+     * @throws SQLException in case of invalid conditions.
+     */
+    private RowFilter parseOr() throws SQLException {
+        final List<RowFilter> children = new ArrayList<>();
+        children.add(this.parseXor());
+        while ((this.current < this.conditions.size()) && (this.conditions.get(this.current) instanceof ORNode)) {
+            this.current++;
+            children.add(this.parseXor());
+        }
+
+        if (children.size() == 1) {
+            return children.get(0);
+        }
+        return new OrPredicate(children);
+    }
+
+    /**
+     * Compiles the XOR operands.
+     *
+     * @return the compiled conditions.
+     * @throws SQLException in case of invalid conditions.
+     */
+    private RowFilter parseXor() throws SQLException {
+        RowFilter ret = this.parseAnd();
+        while ((this.current < this.conditions.size()) && (this.conditions.get(this.current) instanceof XORNode)) {
+            this.current++;
+            ret = new XorPredicate(ret, this.parseAnd());
+        }
+        return ret;
+    }
+
+    /**
+     * Compiles the AND operands.
+     *
+     * @return the compiled conditions.
+     * @throws SQLException in case of invalid conditions.
+     */
+    private RowFilter parseAnd() throws SQLException {
+        final List<RowFilter> children = new ArrayList<>();
+        children.add(this.parseOperand());
+        while ((this.current < this.conditions.size()) && (this.conditions.get(this.current) instanceof ANDNode)) {
+            this.current++;
+            children.add(this.parseOperand());
+        }
+
+        if (children.size() == 1) {
+            return children.get(0);
+        }
+        return new AndPredicate(children);
+    }
+
+    /**
+     * Compiles a single condition.
+     *
+     * @return the compiled condition.
+     * @throws SQLException in case of invalid conditions.
+     */
+    private RowFilter parseOperand() throws SQLException {
+        if (this.current >= this.conditions.size()) {
+            throw new SQLException("Invalid condition.", SQLStates.INVALID_SQL.getValue());
+        }
+
+        final SQLNode condition = this.conditions.get(this.current);
+        if ((condition instanceof ANDNode) || (condition instanceof ORNode) || (condition instanceof XORNode)) {
+            throw new SQLException("Invalid condition.", SQLStates.INVALID_SQL.getValue());
+        }
+        this.current++;
+        return this.compileCondition(condition);
+    }
+
+    /**
+     * Compiles a comparison or a negated condition.
+     *
+     * @param condition the condition.
+     * @return the compiled condition.
+     * @throws SQLException in case of invalid conditions.
+     */
+    private RowFilter compileCondition(final SQLNode condition) throws SQLException {
+        if (condition instanceof NOTNode) {
+            return new NotPredicate(this.compileCondition(condition.getChildhood().iterator().next()));
+        }
+        return this.compileComparison(condition);
+    }
+}
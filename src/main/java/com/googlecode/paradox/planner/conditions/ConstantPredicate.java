@@ -0,0 +1,56 @@
+/*
+ * ConstantPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.List;
+
+/**
+ * A condition with the same result for all rows.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ConstantPredicate implements RowFilter {
+
+    /**
+     * Accepts all rows.
+     */
+    static final ConstantPredicate TRUE = new ConstantPredicate(true);
+
+    /**
+     * Rejects all rows.
+     */
+    static final ConstantPredicate FALSE = new ConstantPredicate(false);
+
+    /**
+     * The result for all rows.
+     */
+    private final boolean value;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param value the result for all rows.
+     */
+    private ConstantPredicate(final boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        return this.value;
+    }
+}
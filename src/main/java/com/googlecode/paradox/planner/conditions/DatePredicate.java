@@ -0,0 +1,63 @@
+/*
+ * DatePredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compares date fields by their milliseconds.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class DatePredicate extends ComparisonPredicate {
+
+    /**
+     * The literal compared, or the lower bound, in milliseconds.
+     */
+    private final long lower;
+
+    /**
+     * The upper bound, in milliseconds.
+     */
+    private final long upper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound, in milliseconds.
+     * @param upper    the upper bound, in milliseconds.
+     */
+    DatePredicate(final int position, final RecordFilter.Operator operator, final long lower, final long upper) {
+        super(position, operator);
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        final Object value = this.getValue(row);
+        if (!(value instanceof Date)) {
+            return false;
+        }
+
+        final long millis = ((Date) value).getTime();
+        return this.check(Long.compare(millis, this.lower), Long.compare(millis, this.upper));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * FieldComparisonPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software:
+ * you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compares the values of two fields of the same row, like the join conditions. Numbers are compared by value and
+ * dates by time. The other values are compared by their text, ignoring case.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class FieldComparisonPredicate extends ComparisonPredicate {
+
+    /**
+     * The position of the other field in the row.
+     */
+    private final int otherPosition;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param position      the field position in the row.
+     * @param operator      the comparison, except {@link RecordFilter.Operator#BETWEEN}.
+     * @param otherPosition the position of the other field in the row.
+     */
+    FieldComparisonPredicate(final int position, final RecordFilter.Operator operator, final int otherPosition) {
+        super(position, operator);
+        this.otherPosition = otherPosition;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        final Object value = this.getValue(row);
+        final FieldValue other = row.get(this.otherPosition);
+        if ((value == null) || (other == null) || (other.getValue() == null)) {
+            return false;
+        }
+        return this.check(FieldComparisonPredicate.compare(value, other.getValue()), 0);
+    }
+
+    /**
+     * Compares two values.
+     *
+     * @param value the first value.
+     * @param other the second value.
+     * @return a negative number, zero or a positive number if the first value is less than, equal to or greater than
+     * the second.
+     */
+    private static int compare(final Object value, final Object other) {
+        if ((value instanceof Number) && (other instanceof Number)) {
+            // Adding zero turns the negative zero into zero, so they are equal.
+            return Double.compare(((Number) value).doubleValue() + 0D, ((Number) other).doubleValue() + 0D);
+        } else if ((value instanceof Date) && (other instanceof Date)) {
+            final long time = ((Date) value).getTime();
+            final long otherTime = ((Date) other).getTime();
+            return (time < otherTime) ? -1 : ((time == otherTime) ? 0 : 1);
+        }
+        return String.CASE_INSENSITIVE_ORDER.compare(value.toString(), other.toString());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * NumberPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.List;
+
+/**
+ * Compares number fields as double.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class NumberPredicate extends ComparisonPredicate {
+
+    /**
+     * The literal compared, or the lower bound.
+     */
+    private final double lower;
+
+    /**
+     * The upper bound.
+     */
+    private final double upper;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound.
+     */
+    NumberPredicate(final int position, final RecordFilter.Operator operator, final double lower,
+            final double upper) {
+        super(position, operator);
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        final Object value = this.getValue(row);
+        if (!(value instanceof Number)) {
+            return false;
+        }
+
+        final double number = ((Number) value).doubleValue();
+        switch (this.operator) {
+            case EQUALS:
+                return number == this.lower;
+            case NOT_EQUALS:
+                return number != this.lower;
+            case GREATER:
+                return number > this.lower;
+            case LESS:
+                return number < this.lower;
+            default:
+                return (number >= this.lower) && (number <= this.upper);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * OrPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accepts the rows accepted by any condition. Stops in the first condition that accepts the row.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class OrPredicate implements RowFilter {
+
+    /**
+     * The conditions, in evaluation order.
+     */
+    private final RowFilter[] children;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param children the conditions, in evaluation order.
+     */
+    OrPredicate(final List<RowFilter> children) {
+        this.children = children.toArray(new RowFilter[children.size()]);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        for (final RowFilter child : this.children) {
+            if (child.accept(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
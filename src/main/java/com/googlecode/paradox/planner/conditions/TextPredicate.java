@@ -0,0 +1,111 @@
+/*
+ * TextPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.List;
+
+/**
+ * Compares the text of the field values, ignoring case. Values are compared as numbers if the literals of an order
+ * comparison are numbers, so text fields holding numbers keep their numeric order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class TextPredicate extends ComparisonPredicate {
+
+    /**
+     * The literal compared, or the lower bound.
+     */
+    private final String lower;
+
+    /**
+     * The upper bound.
+     */
+    private final String upper;
+
+    /**
+     * The numeric literals, or null to compare as text.
+     */
+    private final double[] numbers;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param position the field position in the row.
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound, or null.
+     */
+    TextPredicate(final int position, final RecordFilter.Operator operator, final String lower,
+            final String upper) {
+        super(position, operator);
+        this.lower = lower;
+        this.upper = upper;
+        this.numbers = TextPredicate.parseNumbers(operator, lower, upper);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) {
+        final Object value = this.getValue(row);
+        if (value == null) {
+            return false;
+        }
+
+        final String text = value.toString();
+        if (this.numbers == null) {
+            final int lowerResult = String.CASE_INSENSITIVE_ORDER.compare(text, this.lower);
+            int upperResult = 0;
+            if (this.upper != null) {
+                upperResult = String.CASE_INSENSITIVE_ORDER.compare(text, this.upper);
+            }
+            return this.check(lowerResult, upperResult);
+        }
+
+        final double number;
+        try {
+            number = Double.parseDouble(text);
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+        return this.check(Double.compare(number, this.numbers[0]), Double.compare(number, this.numbers[1]));
+    }
+
+    /**
+     * Parses the literals of an order comparison as numbers.
+     *
+     * @param operator the comparison.
+     * @param lower    the literal compared, or the lower bound.
+     * @param upper    the upper bound, or null.
+     * @return the literals as numbers, or null if they must be compared as text.
+     */
+    private static double[] parseNumbers(final RecordFilter.Operator operator, final String lower,
+            final String upper) {
+        if ((operator == RecordFilter.Operator.EQUALS) || (operator == RecordFilter.Operator.NOT_EQUALS)) {
+            return null;
+        }
+
+        try {
+            final double[] ret = new double[2];
+            ret[0] = Double.parseDouble(lower);
+            if (upper != null) {
+                ret[1] = Double.parseDouble(upper);
+            }
+            return ret;
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
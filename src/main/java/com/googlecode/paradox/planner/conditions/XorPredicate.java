@@ -0,0 +1,54 @@
+/*
+ * XorPredicate.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Accepts the rows accepted by exactly one of two conditions.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class XorPredicate implements RowFilter {
+
+    /**
+     * The first condition.
+     */
+    private final RowFilter left;
+
+    /**
+     * The second condition.
+     */
+    private final RowFilter right;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left  the first condition.
+     * @param right the second condition.
+     */
+    XorPredicate(final RowFilter left, final RowFilter right) {
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean accept(final List<FieldValue> row) throws SQLException {
+        return this.left.accept(row) != this.right.accept(row);
+    }
+}
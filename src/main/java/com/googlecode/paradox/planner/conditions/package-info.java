@@ -0,0 +1,6 @@
+/**
+ * Compiled WHERE conditions.
+ *
+ * @since 1.4.1
+ */
+package com.googlecode.paradox.planner.conditions;
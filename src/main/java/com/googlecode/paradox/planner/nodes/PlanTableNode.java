@@ -9,12 +9,17 @@
 package com.googlecode.paradox.planner.nodes;
 
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import com.googlecode.paradox.parser.nodes.SQLNode;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Stores the execution plan table node.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
 public final class PlanTableNode {
@@ -29,6 +34,16 @@ public final class PlanTableNode {
      */
     private ParadoxTable table;
     
+    /**
+     * How this table is joined to the previous tables.
+     */
+    private JoinType joinType = JoinType.CROSS;
+    
+    /**
+     * The join conditions.
+     */
+    private List<SQLNode> conditions = Collections.emptyList();
+    
     /**
      * Gets the plan alias.
      *
@@ -38,6 +53,24 @@ public final class PlanTableNode {
         return this.alias;
     }
     
+    /**
+     * Gets how this table is joined to the previous tables.
+     *
+     * @return the join type.
+     */
+    public JoinType getJoinType() {
+        return this.joinType;
+    }
+    
+    /**
+     * Gets the join conditions.
+     *
+     * @return the join conditions, empty if there are none.
+     */
+    public List<SQLNode> getConditions() {
+        return this.conditions;
+    }
+    
     /**
      * Gets the table plan.
      *
@@ -57,6 +90,19 @@ public final class PlanTableNode {
         this.alias = alias;
     }
     
+    /**
+     * Sets how this table is joined to the previous tables.
+     *
+     * @param joinType
+     *            the join type.
+     * @param conditions
+     *            the join conditions.
+     */
+    public void setJoin(final JoinType joinType, final List<SQLNode> conditions) {
+        this.joinType = joinType;
+        this.conditions = conditions;
+    }
+    
     /**
      * Sets the plan table.
      *
@@ -0,0 +1,420 @@
+/*
+ * HashAggregateCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.SpillFile;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups the rows of a cursor and computes the aggregate functions of each group through a hash table.
+ * <p>
+ * The groups are found by the binary {@link SortKey} of their GROUP BY values, and each aggregate function keeps the
+ * state of all groups in its accumulator. Each result row has the GROUP BY values followed by the function values.
+ * Without GROUP BY values, all rows are a single group, returned even if there are no rows.
+ * <p>
+ * If the groups do not fit in the work memory, the groups already found are still aggregated in memory, and the rows
+ * of new groups are split by the hash of their key in temporary files. Each file is aggregated after the groups in
+ * memory are returned, and split again if it is still too large.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class HashAggregateCursor implements RowCursor {
+
+    /**
+     * The count of temporary files created each time the groups do not fit in memory.
+     */
+    private static final int PARTITIONS = 16;
+
+    /**
+     * How many times the rows can be split. The groups of the last split are aggregated in memory.
+     */
+    private static final int MAX_DEPTH = 4;
+
+    /**
+     * Estimated memory used by a group, besides its key and values.
+     */
+    private static final int GROUP_SIZE = 96;
+
+    /**
+     * Estimated memory used by a group in each accumulator.
+     */
+    private static final int ACCUMULATOR_SIZE = 16;
+
+    /**
+     * The cursor to aggregate.
+     */
+    private final RowCursor source;
+
+    /**
+     * The positions of the GROUP BY values.
+     */
+    private final int[] groupPositions;
+
+    /**
+     * The position of each function argument, or -1 to count the rows.
+     */
+    private final int[] arguments;
+
+    /**
+     * The state of each function.
+     */
+    private final AbstractAccumulator[] accumulators;
+
+    /**
+     * The group key encoder.
+     */
+    private final SortKey groupKey;
+
+    /**
+     * The work memory size in bytes.
+     */
+    private final long memory;
+
+    /**
+     * The group numbers by key.
+     */
+    private final Map<ByteBuffer, Integer> groupNumbers = new HashMap<>();
+
+    /**
+     * The GROUP BY values of each group.
+     */
+    private final List<List<FieldValue>> groups = new ArrayList<>();
+
+    /**
+     * The temporary files still to aggregate.
+     */
+    private final Deque<Partition> pending = new ArrayDeque<>();
+
+    /**
+     * The temporary files receiving the rows of new groups, or null if all groups are kept in memory.
+     */
+    private List<SpillFile> partitions;
+
+    /**
+     * How many times the rows being aggregated were split.
+     */
+    private int depth;
+
+    /**
+     * The memory used by the groups.
+     */
+    private long size;
+
+    /**
+     * If the source was already read.
+     */
+    private boolean started;
+
+    /**
+     * The next group returned.
+     */
+    private int position;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source         the cursor to aggregate.
+     * @param groupPositions the positions of the GROUP BY values.
+     * @param functions      the aggregate functions.
+     * @param arguments      the position of each function argument, or -1 to count the rows.
+     * @param types          the SQL type of each function argument.
+     * @param memory         the work memory size in bytes.
+     */
+    HashAggregateCursor(final RowCursor source, final int[] groupPositions,
+            final AbstractAggregateProcedure[] functions, final int[] arguments, final int[] types,
+            final long memory) {
+        this.source = source;
+        this.groupPositions = groupPositions.clone();
+        this.arguments = arguments.clone();
+        this.memory = memory;
+        this.accumulators = new AbstractAccumulator[functions.length];
+        for (int loop = 0; loop < functions.length; loop++) {
+            this.accumulators[loop] = functions[loop].createAccumulator(types[loop]);
+        }
+
+        final boolean[] ascending = new boolean[groupPositions.length];
+        Arrays.fill(ascending, true);
+        this.groupKey = new SortKey(groupPositions, ascending);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.started) {
+            this.started = true;
+            this.clearGroups();
+            while (this.source.next()) {
+                this.add(this.source.getRow());
+            }
+            this.endSpill();
+        }
+
+        while (this.position >= this.groups.size()) {
+            if (!this.nextPartition()) {
+                this.row = null;
+                return false;
+            }
+        }
+
+        final List<FieldValue> values = new ArrayList<>(this.groups.get(this.position));
+        for (final AbstractAccumulator accumulator : this.accumulators) {
+            values.add(accumulator.getValue(this.position));
+        }
+        this.position++;
+        this.row = values;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.clear();
+        this.source.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.clear();
+        } finally {
+            this.source.close();
+        }
+    }
+
+    /**
+     * Discards the groups and the temporary files.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void clear() throws SQLException {
+        this.started = false;
+        this.row = null;
+        this.depth = 0;
+        this.clearGroups();
+        SQLException error = null;
+        final List<SpillFile> files = new ArrayList<>();
+        if (this.partitions != null) {
+            files.addAll(this.partitions);
+            this.partitions = null;
+        }
+        for (final Partition partition : this.pending) {
+            files.add(partition.file);
+        }
+        this.pending.clear();
+        for (final SpillFile file : files) {
+            try {
+                file.close();
+            } catch (final SQLException e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Discards the groups in memory. Without GROUP BY values, the single group is created.
+     */
+    private void clearGroups() {
+        this.groupNumbers.clear();
+        this.groups.clear();
+        for (final AbstractAccumulator accumulator : this.accumulators) {
+            accumulator.clear();
+        }
+        this.size = 0;
+        this.position = 0;
+        if (this.groupPositions.length == 0) {
+            this.createGroup(new byte[0], new ArrayList<FieldValue>());
+        }
+    }
+
+    /**
+     * Adds a row to its group, or to a temporary file if its group is not in memory and the memory is full.
+     *
+     * @param values the row.
+     * @throws SQLException in case of invalid values or I/O errors.
+     */
+    private void add(final List<FieldValue> values) throws SQLException {
+        final byte[] key = this.groupKey.encode(values);
+        Integer group = this.groupNumbers.get(ByteBuffer.wrap(key));
+        if (group == null) {
+            if (this.partitions != null) {
+                this.partitions.get(this.getPartition(key)).write(values);
+                return;
+            }
+
+            group = this.createGroup(key, values);
+            if ((this.size > this.memory) && (this.depth < HashAggregateCursor.MAX_DEPTH)) {
+                this.partitions = new ArrayList<>(HashAggregateCursor.PARTITIONS);
+                for (int loop = 0; loop < HashAggregateCursor.PARTITIONS; loop++) {
+                    this.partitions.add(new SpillFile());
+                }
+            }
+        }
+
+        for (int loop = 0; loop < this.accumulators.length; loop++) {
+            FieldValue value = null;
+            if (this.arguments[loop] >= 0) {
+                value = values.get(this.arguments[loop]);
+            }
+            this.accumulators[loop].add(group, value);
+        }
+    }
+
+    /**
+     * Creates a group.
+     *
+     * @param key    the group key.
+     * @param values a row of the group.
+     * @return the group number.
+     */
+    private int createGroup(final byte[] key, final List<FieldValue> values) {
+        final List<FieldValue> groupValues = new ArrayList<>(this.groupPositions.length);
+        for (final int groupPosition : this.groupPositions) {
+            groupValues.add(values.get(groupPosition));
+        }
+
+        final int group = this.groups.size();
+        this.groups.add(groupValues);
+        this.groupNumbers.put(ByteBuffer.wrap(key), group);
+        this.size += key.length + SpillFile.estimateSize(groupValues) + HashAggregateCursor.GROUP_SIZE
+                + ((long) HashAggregateCursor.ACCUMULATOR_SIZE * this.accumulators.length);
+        return group;
+    }
+
+    /**
+     * Gets the temporary file of a group key. Each split uses different hash bits, so a split file is split again in
+     * new groups.
+     *
+     * @param key the group key.
+     * @return the temporary file index.
+     */
+    private int getPartition(final byte[] key) {
+        int hash = Arrays.hashCode(key) ^ (this.depth * 0x9E3779B9);
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return (hash >>> 1) % HashAggregateCursor.PARTITIONS;
+    }
+
+    /**
+     * Ends the writes in the temporary files of the current split, keeping the files with rows to aggregate later.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void endSpill() throws SQLException {
+        if (this.partitions == null) {
+            return;
+        }
+
+        final List<SpillFile> files = this.partitions;
+        this.partitions = null;
+        for (final SpillFile file : files) {
+            if (file.getRowCount() > 0) {
+                file.finish();
+                this.pending.add(new Partition(file, this.depth + 1));
+            } else {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * Aggregates the next temporary file.
+     *
+     * @return true if there is another temporary file.
+     * @throws SQLException in case of I/O errors.
+     */
+    private boolean nextPartition() throws SQLException {
+        final Partition partition = this.pending.poll();
+        if (partition == null) {
+            return false;
+        }
+
+        this.depth = partition.depth;
+        this.clearGroups();
+        try {
+            partition.file.rewind();
+            List<FieldValue> values = partition.file.read();
+            while (values != null) {
+                this.add(values);
+                values = partition.file.read();
+            }
+        } finally {
+            partition.file.close();
+        }
+        this.endSpill();
+        return true;
+    }
+
+    /**
+     * A temporary file with rows to aggregate.
+     */
+    private static final class Partition {
+
+        /**
+         * The temporary file.
+         */
+        private final SpillFile file;
+
+        /**
+         * How many times the rows were split.
+         */
+        private final int depth;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param file  the temporary file.
+         * @param depth how many times the rows were split.
+         */
+        Partition(final SpillFile file, final int depth) {
+            this.file = file;
+            this.depth = depth;
+        }
+    }
+}
@@ -0,0 +1,516 @@
+/*
+ * HashJoinCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.SpillFile;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joins the rows of two cursors through a hash table.
+ * <p>
+ * The rows of the smaller side, the build side, are loaded in a hash table by their join values, and the rows of the
+ * other side, the probe side, are read one at a time and looked up in the table. Each result row has the left values
+ * followed by the right values, and the outer joins fill the missing side with null values.
+ * <p>
+ * If the build side does not fit in the work memory, both sides are split by the hash of their join values in
+ * temporary files, and each pair of files is joined in memory (grace hash join).
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class HashJoinCursor implements RowCursor {
+
+    /**
+     * The maximum count of temporary files by side.
+     */
+    private static final int MAX_PARTITIONS = 64;
+
+    /**
+     * The build side cursor.
+     */
+    private final RowCursor build;
+
+    /**
+     * The probe side cursor.
+     */
+    private final RowCursor probe;
+
+    /**
+     * The positions of the join values in build rows.
+     */
+    private final int[] buildKeys;
+
+    /**
+     * The positions of the join values in probe rows.
+     */
+    private final int[] probeKeys;
+
+    /**
+     * The null values used when no build row matches.
+     */
+    private final List<FieldValue> buildNulls;
+
+    /**
+     * The null values used when no probe row matches.
+     */
+    private final List<FieldValue> probeNulls;
+
+    /**
+     * The other join conditions, checked in the joined rows, or null if there are none.
+     */
+    private final RowFilter residual;
+
+    /**
+     * If the build side is the left side.
+     */
+    private final boolean buildLeft;
+
+    /**
+     * If the probe rows without match are returned.
+     */
+    private final boolean preserveProbe;
+
+    /**
+     * If the build rows without match are returned.
+     */
+    private final boolean preserveBuild;
+
+    /**
+     * The memory in bytes available to the build rows.
+     */
+    private final long memory;
+
+    /**
+     * The estimated count of build rows.
+     */
+    private final long estimatedRows;
+
+    /**
+     * The build rows in memory.
+     */
+    private final List<List<FieldValue>> buildRows = new ArrayList<>();
+
+    /**
+     * The build row positions by join values.
+     */
+    private final Map<RowKey, List<Integer>> table = new HashMap<>();
+
+    /**
+     * The build rows already joined.
+     */
+    private final BitSet matched = new BitSet();
+
+    /**
+     * The joined rows not returned yet.
+     */
+    private final Deque<List<FieldValue>> pending = new ArrayDeque<>();
+
+    /**
+     * The build side files, or null if the build side fits in memory.
+     */
+    private List<SpillFile> buildPartitions;
+
+    /**
+     * The probe side files, or null if the build side fits in memory.
+     */
+    private List<SpillFile> probePartitions;
+
+    /**
+     * The current partition.
+     */
+    private int partition;
+
+    /**
+     * If the build side was read.
+     */
+    private boolean started;
+
+    /**
+     * If all probe rows of the current partition were read.
+     */
+    private boolean probeFinished;
+
+    /**
+     * The next build row to check for matches, after the probe side is read.
+     */
+    private int unmatchedPosition;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param left          the left side cursor.
+     * @param right         the right side cursor.
+     * @param leftKeys      the positions of the join values in left rows.
+     * @param rightKeys     the positions of the join values in right rows.
+     * @param leftNulls     the null values of the left side.
+     * @param rightNulls    the null values of the right side.
+     * @param residual      the other join conditions, checked in the joined rows, or null if there are none.
+     * @param type          the join type.
+     * @param buildLeft     if the left side is loaded in memory.
+     * @param memory        the memory in bytes available to the build rows.
+     * @param estimatedRows the estimated count of build rows.
+     */
+    HashJoinCursor(final RowCursor left, final RowCursor right, final int[] leftKeys, final int[] rightKeys,
+            final List<FieldValue> leftNulls, final List<FieldValue> rightNulls, final RowFilter residual,
+            final JoinType type, final boolean buildLeft, final long memory, final long estimatedRows) {
+        this.residual = residual;
+        this.buildLeft = buildLeft;
+        this.memory = memory;
+        this.estimatedRows = estimatedRows;
+        if (buildLeft) {
+            this.build = left;
+            this.probe = right;
+            this.buildKeys = leftKeys;
+            this.probeKeys = rightKeys;
+            this.buildNulls = leftNulls;
+            this.probeNulls = rightNulls;
+        } else {
+            this.build = right;
+            this.probe = left;
+            this.buildKeys = rightKeys;
+            this.probeKeys = leftKeys;
+            this.buildNulls = rightNulls;
+            this.probeNulls = leftNulls;
+        }
+        this.preserveProbe = ((type == JoinType.LEFT) && !buildLeft) || ((type == JoinType.RIGHT) && buildLeft);
+        this.preserveBuild = ((type == JoinType.LEFT) && buildLeft) || ((type == JoinType.RIGHT) && !buildLeft);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.started) {
+            this.started = true;
+            this.loadBuildSide();
+        }
+
+        while (this.pending.isEmpty()) {
+            if (!this.probeFinished) {
+                final List<FieldValue> probeRow = this.nextProbeRow();
+                if (probeRow == null) {
+                    this.probeFinished = true;
+                } else {
+                    this.join(probeRow);
+                }
+            } else if (this.preserveBuild && (this.unmatchedPosition < this.buildRows.size())) {
+                this.addUnmatched();
+            } else if (!this.nextPartition()) {
+                this.row = null;
+                return false;
+            }
+        }
+
+        this.row = this.pending.poll();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.clear();
+        this.build.reset();
+        this.probe.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.clear();
+        } finally {
+            try {
+                this.build.close();
+            } finally {
+                this.probe.close();
+            }
+        }
+    }
+
+    /**
+     * Discards the rows read and the temporary files.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void clear() throws SQLException {
+        this.started = false;
+        this.probeFinished = false;
+        this.row = null;
+        this.partition = 0;
+        this.clearTable();
+        this.pending.clear();
+        try {
+            HashJoinCursor.closeAll(this.buildPartitions);
+        } finally {
+            HashJoinCursor.closeAll(this.probePartitions);
+            this.buildPartitions = null;
+            this.probePartitions = null;
+        }
+    }
+
+    /**
+     * Closes the temporary files.
+     *
+     * @param files the files to close, may be null.
+     * @throws SQLException in case of I/O errors.
+     */
+    private static void closeAll(final List<SpillFile> files) throws SQLException {
+        if (files != null) {
+            for (final SpillFile file : files) {
+                file.close();
+            }
+        }
+    }
+
+    /**
+     * Discards the build rows in memory.
+     */
+    private void clearTable() {
+        this.buildRows.clear();
+        this.table.clear();
+        this.matched.clear();
+        this.unmatchedPosition = 0;
+    }
+
+    /**
+     * Reads the build side, loading it in memory or splitting it in temporary files if it is too large.
+     *
+     * @throws SQLException in case of read errors.
+     */
+    private void loadBuildSide() throws SQLException {
+        long size = 0;
+        while (this.build.next()) {
+            final List<FieldValue> buildRow = this.build.getRow();
+            if (this.buildPartitions != null) {
+                this.spill(this.buildPartitions, buildRow, this.buildKeys);
+            } else {
+                this.addBuildRow(buildRow);
+                size += SpillFile.estimateSize(buildRow);
+                if ((size > this.memory) && (this.buildKeys.length > 0)) {
+                    this.startSpill(size);
+                }
+            }
+        }
+
+        if (this.buildPartitions != null) {
+            while (this.probe.next()) {
+                this.spill(this.probePartitions, this.probe.getRow(), this.probeKeys);
+            }
+            this.loadPartition();
+        }
+    }
+
+    /**
+     * Moves the build rows in memory to temporary files, split by the hash of their join values.
+     *
+     * @param size the memory used by the build rows.
+     * @throws SQLException in case of I/O errors.
+     */
+    private void startSpill(final long size) throws SQLException {
+        final long rowSize = Math.max(1, size / this.buildRows.size());
+        final long expected = Math.max(this.estimatedRows, this.buildRows.size() * 2L) * rowSize;
+        final int count = (int) Math.min(HashJoinCursor.MAX_PARTITIONS, Math.max(2, (expected / this.memory) + 1));
+
+        this.buildPartitions = new ArrayList<>(count);
+        this.probePartitions = new ArrayList<>(count);
+        for (int loop = 0; loop < count; loop++) {
+            this.buildPartitions.add(new SpillFile());
+            this.probePartitions.add(new SpillFile());
+        }
+
+        for (final List<FieldValue> buildRow : this.buildRows) {
+            this.spill(this.buildPartitions, buildRow, this.buildKeys);
+        }
+        this.clearTable();
+    }
+
+    /**
+     * Writes a row in the temporary file of its join values.
+     *
+     * @param partitions the temporary files of the row side.
+     * @param values     the row.
+     * @param keys       the positions of the join values.
+     * @throws SQLException in case of I/O errors.
+     */
+    private void spill(final List<SpillFile> partitions, final List<FieldValue> values, final int[] keys)
+            throws SQLException {
+        final RowKey key = RowKey.create(values, keys);
+        int index = 0;
+        if (key != null) {
+            // Mixes the hash bits, since the hash table uses the lower ones.
+            index = ((key.hashCode() * 0x9E3779B9) >>> 1) % partitions.size();
+        }
+        partitions.get(index).write(values);
+    }
+
+    /**
+     * Loads the build rows of the current partition in memory.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void loadPartition() throws SQLException {
+        final SpillFile file = this.buildPartitions.get(this.partition);
+        file.rewind();
+        List<FieldValue> buildRow = file.read();
+        while (buildRow != null) {
+            this.addBuildRow(buildRow);
+            buildRow = file.read();
+        }
+        this.probePartitions.get(this.partition).rewind();
+    }
+
+    /**
+     * Moves to the next partition, if the sides were split in temporary files.
+     *
+     * @return true if there is another partition to join.
+     * @throws SQLException in case of I/O errors.
+     */
+    private boolean nextPartition() throws SQLException {
+        if (this.buildPartitions == null) {
+            return false;
+        }
+
+        this.buildPartitions.get(this.partition).close();
+        this.probePartitions.get(this.partition).close();
+        this.clearTable();
+        this.partition++;
+        if (this.partition >= this.buildPartitions.size()) {
+            this.buildPartitions = null;
+            this.probePartitions = null;
+            return false;
+        }
+
+        this.probeFinished = false;
+        this.loadPartition();
+        return true;
+    }
+
+    /**
+     * Adds a row in the hash table.
+     *
+     * @param buildRow the build row.
+     */
+    private void addBuildRow(final List<FieldValue> buildRow) {
+        final int position = this.buildRows.size();
+        this.buildRows.add(buildRow);
+        final RowKey key = RowKey.create(buildRow, this.buildKeys);
+        if (key != null) {
+            List<Integer> positions = this.table.get(key);
+            if (positions == null) {
+                positions = new ArrayList<>(1);
+                this.table.put(key, positions);
+            }
+            positions.add(position);
+        }
+    }
+
+    /**
+     * Reads the next probe row of the current partition.
+     *
+     * @return the next probe row or null if there are no more rows.
+     * @throws SQLException in case of read errors.
+     */
+    private List<FieldValue> nextProbeRow() throws SQLException {
+        if (this.probePartitions != null) {
+            return this.probePartitions.get(this.partition).read();
+        } else if (this.probe.next()) {
+            return this.probe.getRow();
+        }
+        return null;
+    }
+
+    /**
+     * Joins a probe row with the matching build rows.
+     *
+     * @param probeRow the probe row.
+     * @throws SQLException in case of condition errors.
+     */
+    private void join(final List<FieldValue> probeRow) throws SQLException {
+        boolean found = false;
+        final RowKey key = RowKey.create(probeRow, this.probeKeys);
+        if (key != null) {
+            final List<Integer> positions = this.table.get(key);
+            if (positions != null) {
+                for (final Integer position : positions) {
+                    final List<FieldValue> joined = this.combine(probeRow, this.buildRows.get(position));
+                    if ((this.residual == null) || this.residual.accept(joined)) {
+                        this.pending.add(joined);
+                        this.matched.set(position);
+                        found = true;
+                    }
+                }
+            }
+        }
+
+        if (!found && this.preserveProbe) {
+            this.pending.add(this.combine(probeRow, this.buildNulls));
+        }
+    }
+
+    /**
+     * Adds the next build row without match, filled with null probe values.
+     */
+    private void addUnmatched() {
+        final int position = this.matched.nextClearBit(this.unmatchedPosition);
+        if (position < this.buildRows.size()) {
+            this.pending.add(this.combine(this.probeNulls, this.buildRows.get(position)));
+        }
+        this.unmatchedPosition = position + 1;
+    }
+
+    /**
+     * Creates a joined row, with the left values followed by the right values.
+     *
+     * @param probeRow the probe values.
+     * @param buildRow the build values.
+     * @return the joined row.
+     */
+    private List<FieldValue> combine(final List<FieldValue> probeRow, final List<FieldValue> buildRow) {
+        final List<FieldValue> joined = new ArrayList<>(probeRow.size() + buildRow.size());
+        if (this.buildLeft) {
+            joined.addAll(buildRow);
+            joined.addAll(probeRow);
+        } else {
+            joined.addAll(probeRow);
+            joined.addAll(buildRow);
+        }
+        return joined;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * LimitCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.ColumnarCursor;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.SkippableCursor;
+import com.googlecode.paradox.data.table.value.ColumnVector;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Returns a page of the rows of a cursor: the rows before the offset are skipped, then the rows up to the limit are
+ * returned. The source is not moved after the last row returned, so the table blocks after it are never read, and
+ * the skipped rows are not decoded if the source can skip them. Columnar cursors are still read by column.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+class LimitCursor implements RowCursor {
+
+    /**
+     * The cursor limited.
+     */
+    private final RowCursor source;
+
+    /**
+     * The count of rows skipped.
+     */
+    private final int offset;
+
+    /**
+     * The maximum count of rows returned, or -1 if not limited.
+     */
+    private final int limit;
+
+    /**
+     * If the rows before the offset were skipped.
+     */
+    private boolean skipped;
+
+    /**
+     * The count of rows returned.
+     */
+    private int count;
+
+    /**
+     * If the cursor is positioned in a row.
+     */
+    private boolean positioned;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source the cursor limited.
+     * @param offset the count of rows skipped.
+     * @param limit  the maximum count of rows returned, or -1 if not limited.
+     */
+    private LimitCursor(final RowCursor source, final int offset, final int limit) {
+        this.source = source;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Limits the rows of a cursor.
+     *
+     * @param source the cursor limited.
+     * @param offset the count of rows skipped.
+     * @param limit  the maximum count of rows returned, or -1 if not limited.
+     * @return the cursor over the page rows, columnar if the source is columnar.
+     */
+    static RowCursor create(final RowCursor source, final int offset, final int limit) {
+        if (source instanceof ColumnarCursor) {
+            return new Columnar((ColumnarCursor) source, offset, limit);
+        }
+        return new LimitCursor(source, offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.skipped) {
+            this.skipped = true;
+            this.skip();
+        }
+
+        if (((this.limit < 0) || (this.count < this.limit)) && this.source.next()) {
+            this.count++;
+            this.positioned = true;
+            return true;
+        }
+        this.positioned = false;
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        if (!this.positioned) {
+            return null;
+        }
+        return this.source.getRow();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.count = 0;
+        this.positioned = false;
+        this.skipped = false;
+        this.source.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.source.close();
+    }
+
+    /**
+     * Skips the rows before the offset.
+     *
+     * @throws SQLException in case of reading errors.
+     */
+    private void skip() throws SQLException {
+        if (this.source instanceof SkippableCursor) {
+            ((SkippableCursor) this.source).skip(this.offset);
+        } else {
+            for (int loop = 0; (loop < this.offset) && this.source.next(); loop++) {
+                // Only moves the source.
+            }
+        }
+    }
+
+    /**
+     * Limits the rows of a columnar cursor.
+     */
+    private static final class Columnar extends LimitCursor implements ColumnarCursor {
+
+        /**
+         * The cursor limited.
+         */
+        private final ColumnarCursor source;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param source the cursor limited.
+         * @param offset the count of rows skipped.
+         * @param limit  the maximum count of rows returned, or -1 if not limited.
+         */
+        Columnar(final ColumnarCursor source, final int offset, final int limit) {
+            super(source, offset, limit);
+            this.source = source;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public ColumnVector getColumn(final int column) {
+            return this.source.getColumn(column);
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public int getBatchRow() {
+            return this.source.getBatchRow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * RowKey.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can redistribute
+ * it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version. This program is distributed in the hope that
+ * it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A
+ * PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a copy of the GNU
+ * General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Some values of a row used as a hash key, like the join fields.
+ * <p>
+ * The values are normalized so the keys are equal when the rows compare equal: numbers are compared by value, even if
+ * their types differ, dates by their time and strings ignoring the case.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class RowKey {
+
+    /**
+     * The normalized values.
+     */
+    private final Object[] values;
+
+    /**
+     * The hash code, computed once.
+     */
+    private final int hash;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param values the normalized values.
+     */
+    private RowKey(final Object[] values) {
+        this.values = values;
+        this.hash = Arrays.hashCode(values);
+    }
+
+    /**
+     * Creates the key of a row.
+     *
+     * @param row       the row.
+     * @param positions the positions of the key values.
+     * @return the row key, or null if some value is null, since a null value is not equal to any value.
+     */
+    static RowKey create(final List<FieldValue> row, final int[] positions) {
+        final Object[] values = new Object[positions.length];
+        for (int loop = 0; loop < positions.length; loop++) {
+            final FieldValue value = row.get(positions[loop]);
+            if ((value == null) || (value.getValue() == null)) {
+                return null;
+            }
+            values[loop] = RowKey.normalize(value.getValue());
+        }
+        return new RowKey(values);
+    }
+
+    /**
+     * Normalizes a value, so the equal values have the same representation.
+     *
+     * @param value the value.
+     * @return the normalized value.
+     */
+    private static Object normalize(final Object value) {
+        if (value instanceof Number) {
+            final double number = ((Number) value).doubleValue();
+            if (number == 0) {
+                // Negative zero is equal to zero.
+                return 0D;
+            }
+            return number;
+        } else if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        } else if (value instanceof String) {
+            return ((String) value).toUpperCase(Locale.US);
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof RowKey)) {
+            return false;
+        }
+        return Arrays.equals(this.values, ((RowKey) obj).values);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
@@ -8,23 +8,44 @@
  */
 package com.googlecode.paradox.planner.plan;
 
+import com.googlecode.paradox.data.BatchTableCursor;
+import com.googlecode.paradox.data.IndexData;
+import com.googlecode.paradox.data.KeyRange;
+import com.googlecode.paradox.data.LazyTableCursor;
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.PrimaryKeyData;
+import com.googlecode.paradox.data.RecordFilter;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.TableCursor;
 import com.googlecode.paradox.data.TableData;
 import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxIndex;
 import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.nodes.JoinType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
+import com.googlecode.paradox.parser.nodes.comparisons.BetweenNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.GreaterThanNode;
-import com.googlecode.paradox.parser.nodes.comparisons.LessThanNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
-import com.googlecode.paradox.parser.nodes.conditional.ORNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
+import com.googlecode.paradox.planner.conditions.ConditionCompiler;
 import com.googlecode.paradox.planner.nodes.PlanTableNode;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+import com.googlecode.paradox.procedures.math.Count;
+import com.googlecode.paradox.procedures.math.Max;
+import com.googlecode.paradox.procedures.math.Min;
 import com.googlecode.paradox.results.Column;
+import com.googlecode.paradox.results.ResultMode;
 import com.googlecode.paradox.utils.SQLStates;
 
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -32,11 +53,17 @@ import java.util.List;
  * Creates a SELECT plan for execution.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 2.7
  * @since 1.1
  */
 public final class SelectPlan implements Plan {
 
+    /**
+     * The largest limit sorted through a bounded heap. Larger limits are sorted in runs that may spill to temporary
+     * files.
+     */
+    private static final int MAX_TOP_ROWS = 10_000;
+
     /**
      * The columns in this plan.
      */
@@ -48,15 +75,75 @@ public final class SelectPlan implements Plan {
     private final List<PlanTableNode> tables = new ArrayList<>();
 
     /**
-     * The data values.
+     * The data values, loaded on demand.
+     */
+    private List<List<FieldValue>> values;
+
+    /**
+     * The cursor over the plan results.
      */
-    private final List<List<FieldValue>> values = new ArrayList<>();
+    private RowCursor cursor;
 
     /**
      * The conditions to filter values
      */
     private final List<SQLNode> conditions;
 
+    /**
+     * Resolves the fields used in conditions.
+     */
+    private final ConditionCompiler.FieldResolver resolver = new ConditionCompiler.FieldResolver() {
+        @Override
+        public ParadoxField findField(final String name) throws SQLException {
+            return SelectPlan.this.findField(name);
+        }
+    };
+
+    /**
+     * The ORDER BY values.
+     */
+    private final List<OrderItem> order = new ArrayList<>();
+
+    /**
+     * Count of columns returned, or -1 if all columns are returned. The other columns are read only to sort.
+     */
+    private int visibleColumns = -1;
+
+    /**
+     * If the rows are sorted after read.
+     */
+    private boolean sorted;
+
+    /**
+     * The table blocks in the ORDER BY sequence, if the primary key index provides the order.
+     */
+    private int[] orderedBlocks;
+
+    /**
+     * The GROUP BY fields.
+     */
+    private final List<ParadoxField> groups = new ArrayList<>();
+
+    /**
+     * The aggregate functions in SELECT order.
+     */
+    private final List<AggregateItem> aggregates = new ArrayList<>();
+
+    /**
+     * The columns read from the tables. They are the plan columns, unless the rows are aggregated.
+     */
+    private List<Column> scanColumns = this.columns;
+
+    /**
+     * The maximum count of rows returned, or -1 if not limited.
+     */
+    private int limit = -1;
+
+    /**
+     * The count of rows skipped before the rows returned.
+     */
+    private int offset;
+
     /**
      * Creates a new instance.
      */
@@ -100,6 +187,97 @@ public final class SelectPlan implements Plan {
         }
     }
 
+    /**
+     * Adds an aggregate function column.
+     *
+     * @param function the aggregate function.
+     * @param argument the argument field name, or null to count the rows.
+     * @param name     the column name.
+     * @throws SQLException in case of invalid field.
+     */
+    public void addAggregate(final AbstractAggregateProcedure function, final String argument, final String name)
+            throws SQLException {
+        final AggregateItem item = new AggregateItem(function);
+        if (argument != null) {
+            item.field = this.findField(argument);
+            item.type = item.field.getColumn().getType();
+        }
+        this.aggregates.add(item);
+        this.columns.add(new Column(name, function.getResultType(item.type)));
+        item.column = this.columns.size() - 1;
+    }
+
+    /**
+     * Adds a GROUP BY value.
+     *
+     * @param name the field name.
+     * @throws SQLException in case of invalid field.
+     */
+    public void addGroupBy(final String name) throws SQLException {
+        this.groups.add(this.findField(name));
+    }
+
+    /**
+     * Adds an ORDER BY value.
+     *
+     * @param name      the field name or the column position, starting from one.
+     * @param ascending if the order is ascending.
+     * @throws SQLException in case of invalid field.
+     */
+    public void addOrderBy(final String name, final boolean ascending) throws SQLException {
+        final OrderItem item = new OrderItem(ascending);
+        if (isPosition(name)) {
+            final int position = Integer.parseInt(name);
+            if ((position < 1) || (position > this.columns.size())) {
+                throw new SQLException(String.format("Invalid ORDER BY position: %s", name),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+            item.column = position - 1;
+            item.field = this.columns.get(item.column).getField();
+        } else {
+            item.field = this.findField(name);
+        }
+        this.order.add(item);
+    }
+
+    /**
+     * Gets the maximum count of rows returned.
+     *
+     * @return the maximum count of rows returned, or -1 if not limited.
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Sets the maximum count of rows returned. The tables are read only until the rows are found, unless the rows
+     * must be sorted or aggregated first.
+     *
+     * @param limit the maximum count of rows returned, or -1 if not limited.
+     */
+    public void setLimit(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the count of rows skipped before the rows returned.
+     *
+     * @return the count of rows skipped.
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Sets the count of rows skipped before the rows returned. If the rows are not sorted nor aggregated, the table
+     * blocks with only skipped rows are not decoded.
+     *
+     * @param offset the count of rows skipped.
+     */
+    public void setOffset(final int offset) {
+        this.offset = offset;
+    }
+
     /**
      * Adds a table to this plan.
      *
@@ -118,142 +296,665 @@ public final class SelectPlan implements Plan {
             return;
         }
 
-        for (final Column column : this.columns) {
-            for (final PlanTableNode table : this.tables) {
-                final ParadoxTable pTable = table.getTable();
-                if (column.getTableName().equalsIgnoreCase(pTable.getName())) {
-                    this.loadTableData(column, pTable);
+        final boolean aggregated = this.isAggregated();
+        if (aggregated) {
+            this.scanColumns = this.getAggregateInputs();
+            this.findGroupedOrderColumns();
+            this.sorted = !this.order.isEmpty();
+        } else if (!this.order.isEmpty() && (this.visibleColumns < 0)) {
+            this.orderedBlocks = this.findOrderedBlocks();
+            this.sorted = this.orderedBlocks == null;
+            if (this.sorted) {
+                this.addOrderColumns();
+            }
+        }
+
+        List<FieldValue> metadataRow = null;
+        if (aggregated) {
+            metadataRow = this.getMetadataRow();
+        }
+
+        int pageOffset = this.offset;
+        if (metadataRow != null) {
+            this.cursor = new ListCursor(Collections.singletonList(metadataRow));
+        } else if (this.tables.size() == 1) {
+            final ParadoxTable table = this.tables.get(0).getTable();
+            final int[] columnIndexes = this.getColumnIndexes(table, new boolean[this.scanColumns.size()]);
+            final TableScan scan = this.createScan(table, columnIndexes, this.conditions);
+            if (scan.direct) {
+                // The table cursor already returns the columns in SELECT order.
+                this.cursor = scan.cursor;
+            } else {
+                RowCursor rows = scan.cursor;
+                if ((pageOffset > 0) && (scan.filter == null) && this.isStreamed()) {
+                    // The table cursor skips the rows without decoding them.
+                    rows = LimitCursor.create(rows, pageOffset, -1);
+                    pageOffset = 0;
                 }
+                this.cursor = new SelectCursor(rows, scan.filter, scan.fieldOrders);
             }
+        } else {
+            this.cursor = this.createJoin();
+        }
+
+        if (aggregated && (metadataRow == null)) {
+            this.cursor = this.aggregate(this.cursor);
+        }
+        if (this.sorted) {
+            this.cursor = this.sort(this.cursor);
+        }
+        if ((pageOffset > 0) || (this.limit >= 0)) {
+            this.cursor = LimitCursor.create(this.cursor, pageOffset, this.limit);
         }
     }
 
     /**
-     * Gets the columns in SELECT statement.
+     * Joins the plan tables in FROM order. Each table is joined to the rows of the previous ones through a hash
+     * table, loading the smaller side in memory. The WHERE conditions over a single table are checked while reading
+     * the table, if the outer joins do not fill it with null values; the other conditions are checked in the joined
+     * rows.
      *
-     * @return the columns in SELECT statement.
+     * @return the cursor over the joined rows, with the plan columns.
+     * @throws SQLException in case of invalid conditions or read errors.
      */
-    public List<Column> getColumns() {
-        return Collections.unmodifiableList(this.columns);
+    private RowCursor createJoin() throws SQLException {
+        final int count = this.tables.size();
+        final ParadoxTable[] joined = new ParadoxTable[count];
+        final boolean[] nullable = new boolean[count];
+        for (int loop = 0; loop < count; loop++) {
+            final PlanTableNode node = this.tables.get(loop);
+            joined[loop] = node.getTable();
+            for (int index = 0; index < loop; index++) {
+                if (joined[index] == joined[loop]) {
+                    throw new SQLFeatureNotSupportedException(
+                            String.format("Table %s used more than once.", joined[loop].getName()),
+                            SQLStates.INVALID_SQL.getValue());
+                }
+            }
+            if (node.getJoinType() == JoinType.LEFT) {
+                nullable[loop] = true;
+            } else if (node.getJoinType() == JoinType.RIGHT) {
+                Arrays.fill(nullable, 0, loop, true);
+            }
+        }
+
+        // Splits the WHERE conditions between the tables.
+        final List<List<SQLNode>> scanConditions = new ArrayList<>(count);
+        for (int loop = 0; loop < count; loop++) {
+            scanConditions.add(new ArrayList<SQLNode>());
+        }
+        List<SQLNode> joinConditions = this.conditions;
+        if (SelectPlan.isConjunction(this.conditions)) {
+            joinConditions = new ArrayList<>();
+            for (int loop = 0; loop < this.conditions.size(); loop += 2) {
+                final SQLNode condition = this.conditions.get(loop);
+                final int index = this.getConditionTable(condition, joined);
+                List<SQLNode> target = joinConditions;
+                if ((index >= 0) && !nullable[index]) {
+                    target = scanConditions.get(index);
+                }
+                if (!target.isEmpty()) {
+                    target.add(this.conditions.get(loop - 1));
+                }
+                target.add(condition);
+            }
+        }
+
+        final boolean[] loaded = new boolean[this.scanColumns.size()];
+        final int[] columnPositions = new int[this.scanColumns.size()];
+        final int[][] positions = new int[count][];
+        final List<FieldValue> nulls = new ArrayList<>();
+        RowCursor ret = null;
+        long estimatedRows = 0;
+        int offset = 0;
+        for (int loop = 0; loop < count; loop++) {
+            final ParadoxTable table = joined[loop];
+            final TableScan scan = this.createScan(table, this.getColumnIndexes(table, loaded),
+                    scanConditions.get(loop));
+            for (int index = 0; index < scan.columnIndexes.length; index++) {
+                columnPositions[scan.columnIndexes[index]] = offset + scan.fieldOrders[index];
+            }
+            positions[loop] = new int[scan.positions.length];
+            for (int index = 0; index < scan.positions.length; index++) {
+                positions[loop][index] = scan.positions[index] < 0 ? -1 : (offset + scan.positions[index]);
+            }
+
+            final List<FieldValue> tableNulls = new ArrayList<>(scan.fields.size());
+            for (final ParadoxField field : scan.fields) {
+                tableNulls.add(new FieldValue(field.getColumn().getType()));
+            }
+
+            final RowCursor tableCursor = new SelectCursor(scan.cursor, scan.filter, null);
+            if (ret == null) {
+                ret = tableCursor;
+                estimatedRows = table.getRowCount();
+            } else {
+                final JoinKeys keys = new JoinKeys();
+                final PlanTableNode node = this.tables.get(loop);
+                this.findJoinKeys(node.getConditions(), true, joined, positions, loop, offset, keys);
+                if ((node.getJoinType() == JoinType.CROSS) && SelectPlan.isConjunction(joinConditions)) {
+                    // The WHERE equalities of a table list are join keys too, but still checked after the join.
+                    this.findJoinKeys(joinConditions, false, joined, positions, loop, offset, keys);
+                }
+                final RowFilter residual = new ConditionCompiler(this.resolver, Arrays.copyOf(joined, loop + 1),
+                        Arrays.copyOf(positions, loop + 1), true).compile(keys.residual);
+
+                // Loads the smaller side in memory.
+                final long tableRows = table.getRowCount();
+                final boolean buildLeft = estimatedRows < tableRows;
+                ret = new HashJoinCursor(ret, tableCursor, keys.getLeft(), keys.getRight(), new ArrayList<>(nulls),
+                        tableNulls, residual, node.getJoinType(), buildLeft, SelectPlan.getWorkMemory(table),
+                        buildLeft ? estimatedRows : tableRows);
+                if (keys.left.isEmpty()) {
+                    estimatedRows *= tableRows;
+                } else {
+                    estimatedRows = Math.max(estimatedRows, tableRows);
+                }
+            }
+            nulls.addAll(tableNulls);
+            offset += scan.fields.size();
+        }
+
+        final RowFilter filter = new ConditionCompiler(this.resolver, joined, positions, false)
+                .compile(joinConditions);
+        return new SelectCursor(ret, filter, columnPositions);
     }
 
     /**
-     * Gets the tables in this plan.
+     * Gets the memory available to each join.
      *
-     * @return the tables in this plan.
+     * @param table the table read.
+     * @return the memory in bytes.
      */
-    public List<PlanTableNode> getTables() {
-        return Collections.unmodifiableList(this.tables);
+    private static long getWorkMemory(final ParadoxTable table) {
+        if (table.getConnection() != null) {
+            return table.getConnection().getWorkMemory();
+        }
+        return Long.MAX_VALUE;
     }
 
     /**
-     * Values from tables in column order.
+     * Finds the equality conditions usable as hash join keys, between a field of the previous tables and a field of
+     * the joined table. The conditions are used only if they are joined by AND.
      *
-     * @return array of array of values/ Can be null (empty result set);
+     * @param conditions    the conditions.
+     * @param joinCondition if the conditions are the join conditions, checked while joining, or the WHERE conditions.
+     * @param joined        the plan tables.
+     * @param positions     the position of each table field in the joined rows, by table.
+     * @param table         the joined table index.
+     * @param offset        the first position of the joined table fields.
+     * @param keys          the join keys found.
+     * @throws SQLException in case of invalid field.
      */
-    public List<List<FieldValue>> getValues() {
-        return Collections.unmodifiableList(this.values);
+    private void findJoinKeys(final List<SQLNode> conditions, final boolean joinCondition,
+            final ParadoxTable[] joined, final int[][] positions, final int table, final int offset,
+            final JoinKeys keys) throws SQLException {
+        if (!SelectPlan.isConjunction(conditions)) {
+            keys.residual.addAll(conditions);
+            return;
+        }
+
+        for (int loop = 0; loop < conditions.size(); loop += 2) {
+            final SQLNode condition = conditions.get(loop);
+            if (condition instanceof EqualsNode) {
+                final ParadoxField first = this.findField(ConditionCompiler.getFieldName(condition));
+                final ParadoxField second = ConditionCompiler.getComparedField(this.resolver, condition,
+                        joinCondition);
+                if (second != null) {
+                    final int firstTable = SelectPlan.indexOf(joined, first.getTable(), table + 1);
+                    final int secondTable = SelectPlan.indexOf(joined, second.getTable(), table + 1);
+                    // The right rows have only the joined table fields.
+                    if ((firstTable == table) && (secondTable >= 0) && (secondTable < table)) {
+                        keys.add(positions[secondTable][second.getOrderNum() - 1],
+                                positions[table][first.getOrderNum() - 1] - offset);
+                        continue;
+                    } else if ((secondTable == table) && (firstTable >= 0) && (firstTable < table)) {
+                        keys.add(positions[firstTable][first.getOrderNum() - 1],
+                                positions[table][second.getOrderNum() - 1] - offset);
+                        continue;
+                    }
+                }
+            }
+
+            if (joinCondition) {
+                if (!keys.residual.isEmpty()) {
+                    keys.residual.add(conditions.get(loop - 1));
+                }
+                keys.residual.add(condition);
+            }
+        }
+    }
+
+    /**
+     * Gets the position of a table in the plan tables.
+     *
+     * @param joined the plan tables.
+     * @param table  the table to find.
+     * @param count  the count of plan tables to search.
+     * @return the table position or -1 if not found.
+     */
+    private static int indexOf(final ParadoxTable[] joined, final ParadoxTable table, final int count) {
+        for (int loop = 0; loop < count; loop++) {
+            if (joined[loop] == table) {
+                return loop;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Fill the result row with a field order and filters the result row by the
-     * conditions.
+     * Gets the table whose fields are the only ones used in a condition.
      *
-     * @param tableData  the table data load from.
-     * @param fieldOrder the field order.
-     * @throws SQLException in case of errors.
+     * @param condition the condition.
+     * @param joined    the plan tables.
+     * @return the table position or -1 if the condition does not use a single table.
+     * @throws SQLException in case of invalid field.
      */
-    private void fillResultValues(final List<List<FieldValue>> tableData, final int fieldOrder) throws SQLException {
-        int placeholder = 0;
-        boolean addingAtt = false;
-        if (!this.values.isEmpty()) {
-            addingAtt = true;
+    private int getConditionTable(final SQLNode condition, final ParadoxTable[] joined) throws SQLException {
+        if (condition instanceof NOTNode) {
+            return this.getConditionTable(condition.getChildhood().iterator().next(), joined);
         }
 
-        for (int j = 0; j < tableData.size(); j++) {
-            List<FieldValue> resultRow;
-            if (conditions.isEmpty()) {
-                if (j == this.values.size()) {
-                    resultRow = new ArrayList<>();
-                    this.values.add(resultRow);
-                } else {
-                    resultRow = this.values.get(j);
+        final String name = ConditionCompiler.getFieldName(condition);
+        if ((name == null) || this.comparesFields(condition)) {
+            return -1;
+        }
+        return SelectPlan.indexOf(joined, this.findField(name).getTable(), joined.length);
+    }
+
+    /**
+     * Gets if the conditions are only joined by AND.
+     *
+     * @param conditions the conditions.
+     * @return true if the conditions are only joined by AND.
+     */
+    private static boolean isConjunction(final List<SQLNode> conditions) {
+        for (int loop = 1; loop < conditions.size(); loop += 2) {
+            if (!(conditions.get(loop) instanceof ANDNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets if a WHERE condition compares two fields instead of a field and a literal.
+     *
+     * @param condition the condition.
+     * @return true if the condition compares two fields.
+     */
+    private boolean comparesFields(final SQLNode condition) {
+        return ConditionCompiler.getComparedField(this.resolver, condition, false) != null;
+    }
+
+    /**
+     * Marks the table fields used in conditions.
+     *
+     * @param table         the table to read.
+     * @param conditions    the conditions.
+     * @param joinCondition if the conditions are join conditions.
+     * @param used          the table fields used, in table order.
+     * @throws SQLException in case of invalid field.
+     */
+    private void markUsedFields(final ParadoxTable table, final List<SQLNode> conditions,
+            final boolean joinCondition, final boolean[] used) throws SQLException {
+        for (SQLNode condition : conditions) {
+            while (condition instanceof NOTNode) {
+                condition = condition.getChildhood().iterator().next();
+            }
+
+            final String name = ConditionCompiler.getFieldName(condition);
+            if (name != null) {
+                final ParadoxField field = this.findField(name);
+                if (field.getTable() == table) {
+                    used[field.getOrderNum() - 1] = true;
                 }
+                final ParadoxField other = ConditionCompiler.getComparedField(this.resolver, condition,
+                        joinCondition);
+                if ((other != null) && (other.getTable() == table)) {
+                    used[other.getOrderNum() - 1] = true;
+                }
+            }
+        }
+    }
 
-                resultRow.add(tableData.get(j).get(fieldOrder));
-            } else {
-                if (checkConditions(0, tableData.get(j))) {
-                    resultRow = new ArrayList<>();
-                    if (addingAtt)
-                        resultRow = this.values.get(placeholder++);
-                    else
-                        this.values.add(resultRow);
-                    resultRow.add(tableData.get(j).get(fieldOrder));
+    /**
+     * Gets if the ORDER BY name is a column position.
+     *
+     * @param name the ORDER BY name.
+     * @return true if the name is a column position.
+     */
+    private static boolean isPosition(final String name) {
+        for (int loop = 0; loop < name.length(); loop++) {
+            if (!Character.isDigit(name.charAt(loop))) {
+                return false;
+            }
+        }
+        return !name.isEmpty();
+    }
+
+    /**
+     * Finds the table blocks in the ORDER BY sequence. It is possible if there is a single table and the ORDER BY
+     * fields are the leading primary key fields, in ascending order. Only numeric keys are used, since the alpha keys
+     * are sorted by the table language driver.
+     *
+     * @return the table blocks in the ORDER BY sequence, or null if the rows must be sorted.
+     * @throws SQLException in case of read errors.
+     */
+    private int[] findOrderedBlocks() throws SQLException {
+        if (this.tables.size() != 1) {
+            return null;
+        }
+
+        final ParadoxTable table = this.tables.get(0).getTable();
+        if (this.order.size() > table.getPrimaryFieldCount()) {
+            return null;
+        }
+        for (int loop = 0; loop < this.order.size(); loop++) {
+            final OrderItem item = this.order.get(loop);
+            if (!item.ascending || (item.field != table.getFields().get(loop)) || !KeyRange.isSupported(item.field)) {
+                return null;
+            }
+        }
+        return PrimaryKeyData.findBlocks(table, KeyRange.ALL);
+    }
+
+    /**
+     * Finds the column of each ORDER BY value, adding the fields not selected as columns only used to sort.
+     *
+     * @throws SQLException in case of invalid field.
+     */
+    private void addOrderColumns() throws SQLException {
+        this.visibleColumns = this.columns.size();
+        for (final OrderItem item : this.order) {
+            for (int loop = 0; (item.column < 0) && (loop < this.visibleColumns); loop++) {
+                if (this.columns.get(loop).getField() == item.field) {
+                    item.column = loop;
                 }
             }
+            if (item.column < 0) {
+                this.columns.add(item.field.getColumn());
+                item.column = this.columns.size() - 1;
+            }
         }
     }
 
     /**
-     * Check the conditions by concatenating and evaluating the comparison nodes.
+     * Gets if the rows are aggregated, by aggregate functions or GROUP BY values.
      *
-     * @param numCondition quantity of conditions to be verified.
-     * @param listField    list of fields.
-     * @throws SQLException in case of errors.
+     * @return true if the rows are aggregated.
      */
-    private boolean checkConditions(int numCondition, List<FieldValue> listField) throws SQLException {
-        if (numCondition == conditions.size() - 1) {
-            return evaluateCondition(conditions.get(numCondition), listField);
-        } else if (conditions.get(numCondition + 1) instanceof ANDNode) {
-            return evaluateCondition(conditions.get(numCondition), listField) && checkConditions(numCondition + 2,
-                    listField);
-        } else if (conditions.get(numCondition + 1) instanceof ORNode) {
-            return evaluateCondition(conditions.get(numCondition), listField) || checkConditions(numCondition + 2,
-                    listField);
-        } else {
-            return false;
+    private boolean isAggregated() {
+        return !this.aggregates.isEmpty() || !this.groups.isEmpty();
+    }
+
+    /**
+     * Gets the columns read to aggregate the rows: the GROUP BY fields, then the function arguments.
+     *
+     * @return the columns read.
+     * @throws SQLException if a column is not aggregated nor a GROUP BY value.
+     */
+    private List<Column> getAggregateInputs() throws SQLException {
+        for (final Column column : this.columns) {
+            if ((column.getField() != null) && !this.groups.contains(column.getField())) {
+                throw new SQLException(String.format("Column %s must be in GROUP BY.", column.getName()),
+                        SQLStates.INVALID_SQL.getValue());
+            }
+        }
+
+        final List<Column> ret = new ArrayList<>();
+        for (final ParadoxField field : this.groups) {
+            SelectPlan.addInput(ret, field);
         }
+        for (final AggregateItem item : this.aggregates) {
+            if (item.field != null) {
+                SelectPlan.addInput(ret, item.field);
+            }
+        }
+        return ret;
     }
 
     /**
-     * Evaluate the conditions.
+     * Adds a field to the columns read, if not already read.
      *
-     * @param condition the condition to be evaluated.
-     * @param listField list of fields.
-     * @throws SQLException in case of erros.
+     * @param inputs the columns read.
+     * @param field  the field to read.
+     * @return the field position in the columns read.
+     * @throws SQLException in case of invalid field type.
      */
-    private boolean evaluateCondition(SQLNode condition, List<FieldValue> listField) throws SQLException {
-        if (condition instanceof EqualsNode) {
-            EqualsNode nodeCondition = (EqualsNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && nodeCondition.getLast().toString().equalsIgnoreCase(column.getValue().toString().toUpperCase());
-
-        } else if (condition instanceof NotEqualsNode) {
-            NotEqualsNode nodeCondition = (NotEqualsNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && !nodeCondition.getLast().toString().equalsIgnoreCase(
-                    column.getValue().toString());
-        } else if (condition instanceof GreaterThanNode) {
-            GreaterThanNode nodeCondition = (GreaterThanNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && Double.parseDouble(column.getValue().toString()) > Double.parseDouble(
-                    nodeCondition.getLast().toString());
-        } else if (condition instanceof LessThanNode) {
-            LessThanNode nodeCondition = (LessThanNode) condition;
-            int fieldNumOrder = findField(nodeCondition.getFirst().toString()).getOrderNum() - 1;
-            FieldValue column = listField.get(fieldNumOrder);
-            return nodeCondition.getFirst().toString().equalsIgnoreCase(column.getField().toString())
-                    && Double.parseDouble(column.getValue().toString()) < Double.parseDouble(
-                    nodeCondition.getLast().toString());
+    private static int addInput(final List<Column> inputs, final ParadoxField field) throws SQLException {
+        for (int loop = 0; loop < inputs.size(); loop++) {
+            if (inputs.get(loop).getField() == field) {
+                return loop;
+            }
         }
+        inputs.add(field.getColumn());
+        return inputs.size() - 1;
+    }
 
-        return false;
+    /**
+     * Finds the column of each ORDER BY value in aggregated rows. Only the columns selected can be sorted.
+     *
+     * @throws SQLException if an ORDER BY value is not selected.
+     */
+    private void findGroupedOrderColumns() throws SQLException {
+        for (final OrderItem item : this.order) {
+            for (int loop = 0; (item.column < 0) && (loop < this.columns.size()); loop++) {
+                if (this.columns.get(loop).getField() == item.field) {
+                    item.column = loop;
+                }
+            }
+            if (item.column < 0) {
+                throw new SQLException(String.format("ORDER BY value %s is not selected.", item.field.getName()),
+                        SQLStates.INVALID_COLUMN.getValue());
+            }
+        }
+    }
+
+    /**
+     * Aggregates the rows read, returning the plan columns of each group.
+     *
+     * @param source the rows read, with the aggregate input columns.
+     * @return the cursor over the groups.
+     * @throws SQLException in case of invalid field type.
+     */
+    private RowCursor aggregate(final RowCursor source) throws SQLException {
+        final int[] groupPositions = new int[this.groups.size()];
+        for (int loop = 0; loop < groupPositions.length; loop++) {
+            groupPositions[loop] = SelectPlan.addInput(this.scanColumns, this.groups.get(loop));
+        }
+
+        final int count = this.aggregates.size();
+        final AbstractAggregateProcedure[] functions = new AbstractAggregateProcedure[count];
+        final int[] arguments = new int[count];
+        final int[] types = new int[count];
+        for (int loop = 0; loop < count; loop++) {
+            final AggregateItem item = this.aggregates.get(loop);
+            functions[loop] = item.function;
+            types[loop] = item.type;
+            arguments[loop] = -1;
+            if (item.field != null) {
+                arguments[loop] = SelectPlan.addInput(this.scanColumns, item.field);
+            }
+        }
+
+        // The aggregated rows have the GROUP BY values, then the function values.
+        final int[] columnPositions = new int[this.columns.size()];
+        for (int loop = 0; loop < columnPositions.length; loop++) {
+            columnPositions[loop] = this.groups.indexOf(this.columns.get(loop).getField());
+        }
+        for (int loop = 0; loop < count; loop++) {
+            columnPositions[this.aggregates.get(loop).column] = groupPositions.length + loop;
+        }
+
+        return new SelectCursor(new HashAggregateCursor(source, groupPositions, functions, arguments, types,
+                SelectPlan.getWorkMemory(this.tables.get(0).getTable())), null, columnPositions);
+    }
+
+    /**
+     * Gets the aggregated row from the table metadata, without reading the table rows. Only unfiltered and ungrouped
+     * COUNT(*) and MIN or MAX over the leading field of an index are supported: the row count is in the table header,
+     * and the index keys are sorted.
+     *
+     * @return the aggregated row, or null if the table rows must be read.
+     * @throws SQLException in case of index read errors.
+     */
+    private List<FieldValue> getMetadataRow() throws SQLException {
+        if ((this.tables.size() != 1) || !this.groups.isEmpty() || !this.conditions.isEmpty()
+                || !this.tables.get(0).getConditions().isEmpty()
+                || (this.aggregates.size() != this.columns.size())) {
+            return null;
+        }
+
+        final ParadoxTable table = this.tables.get(0).getTable();
+        final FieldValue[] row = new FieldValue[this.columns.size()];
+        for (final AggregateItem item : this.aggregates) {
+            FieldValue value = null;
+            if ((item.function instanceof Count) && (item.field == null)) {
+                value = new FieldValue((long) table.getRowCount(), Types.BIGINT);
+            } else if ((item.function instanceof Min) || (item.function instanceof Max)) {
+                value = SelectPlan.findIndexBound(table, item.field, item.function instanceof Max);
+            }
+
+            if (value == null) {
+                return null;
+            }
+            row[item.column] = value;
+        }
+        return Arrays.asList(row);
+    }
+
+    /**
+     * Gets the lowest or the highest value of a field from the first index with the field as its leading field.
+     *
+     * @param table   the table.
+     * @param field   the field.
+     * @param highest true to get the highest value.
+     * @return the value, or null if no index can be used.
+     * @throws SQLException in case of index read errors.
+     */
+    private static FieldValue findIndexBound(final ParadoxTable table, final ParadoxField field,
+            final boolean highest) throws SQLException {
+        if ((table.getPrimaryFieldCount() > 0) && (table.getFields().get(0) == field)) {
+            final FieldValue value = PrimaryKeyData.findBound(table, highest);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        for (final ParadoxIndex index : IndexData.getIndexes(table)) {
+            if ((index.getFields() != null) && !index.getFields().isEmpty()
+                    && (table.findField(index.getFields().get(0).getName()) == field)) {
+                final FieldValue value = IndexData.findBound(table, index, highest);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sorts the rows in ORDER BY sequence, spilling the rows to temporary files if they do not fit in the work memory.
+     * If only the first rows are returned, they are kept in a bounded heap instead, with the skipped rows.
+     *
+     * @param source the cursor to sort.
+     * @return the cursor over the sorted rows.
+     */
+    private RowCursor sort(final RowCursor source) {
+        final int[] positions = new int[this.order.size()];
+        final boolean[] ascending = new boolean[this.order.size()];
+        for (int loop = 0; loop < positions.length; loop++) {
+            positions[loop] = this.order.get(loop).column;
+            ascending[loop] = this.order.get(loop).ascending;
+        }
+
+        int visible = -1;
+        if (this.visibleColumns < this.columns.size()) {
+            visible = this.visibleColumns;
+        }
+        // The rows skipped by the offset are also kept.
+        final long top = (long) this.offset + this.limit;
+        if ((this.limit >= 0) && (top <= SelectPlan.MAX_TOP_ROWS)) {
+            return new TopCursor(source, positions, ascending, (int) top, visible);
+        }
+        return new SortCursor(source, positions, ascending, visible,
+                SelectPlan.getWorkMemory(this.tables.get(0).getTable()));
+    }
+
+    /**
+     * Gets the cursor over this plan results. The rows are read on demand, while the cursor moves.
+     *
+     * @return the cursor over this plan results.
+     */
+    public RowCursor getCursor() {
+        if (this.cursor == null) {
+            return new ListCursor(Collections.<List<FieldValue>>emptyList());
+        }
+        return this.cursor;
+    }
+
+    /**
+     * Gets the columns in SELECT statement.
+     *
+     * @return the columns in SELECT statement.
+     */
+    public List<Column> getColumns() {
+        if (this.visibleColumns >= 0) {
+            return Collections.unmodifiableList(this.columns.subList(0, this.visibleColumns));
+        }
+        return Collections.unmodifiableList(this.columns);
+    }
+
+    /**
+     * Gets the tables in this plan.
+     *
+     * @return the tables in this plan.
+     */
+    public List<PlanTableNode> getTables() {
+        return Collections.unmodifiableList(this.tables);
+    }
+
+    /**
+     * Values from tables in column order.
+     *
+     * @return array of array of values/ Can be null (empty result set);
+     * @throws SQLException in case of reading errors.
+     */
+    public List<List<FieldValue>> getValues() throws SQLException {
+        if (this.values == null) {
+            this.values = new ArrayList<>();
+            try (RowCursor rowCursor = this.getCursor()) {
+                rowCursor.reset();
+                while (rowCursor.next()) {
+                    this.values.add(rowCursor.getRow());
+                }
+            }
+        }
+        return Collections.unmodifiableList(this.values);
+    }
+
+    /**
+     * Gets the column positions in this plan that are read from a table.
+     *
+     * @param table  the table to scan.
+     * @param loaded the columns already assigned to a table.
+     * @return the column positions in SELECT order.
+     */
+    private int[] getColumnIndexes(final ParadoxTable table, final boolean[] loaded) {
+        final List<Integer> indexes = new ArrayList<>();
+        for (int loop = 0; loop < this.scanColumns.size(); loop++) {
+            if (!loaded[loop] && this.scanColumns.get(loop).getTableName().equalsIgnoreCase(table.getName())) {
+                loaded[loop] = true;
+                indexes.add(loop);
+            }
+        }
+
+        final int[] ret = new int[indexes.size()];
+        for (int loop = 0; loop < ret.length; loop++) {
+            ret[loop] = indexes.get(loop);
+        }
+        return ret;
     }
 
     /**
@@ -273,6 +974,9 @@ public final class SelectPlan implements Plan {
 
             if ((prefix != null) && (table.getAlias() != null) && !prefix.equalsIgnoreCase(table.getAlias())) {
                 continue;
+            } else if ((prefix != null) && (table.getAlias() == null) && (this.tables.size() > 1)
+                    && !prefix.equalsIgnoreCase(table.getTable().getName())) {
+                continue;
             }
 
             for (final ParadoxField field : table.getTable().getFields()) {
@@ -316,26 +1020,612 @@ public final class SelectPlan implements Plan {
     }
 
     /**
-     * Load the table data form a table.
+     * Creates the scan of a table, reading only the fields used by the columns and the conditions.
      *
-     * @param column the column to load.
-     * @param table  the table to load.
+     * @param table          the table to load.
+     * @param columnIndexes  the column positions read from this table.
+     * @param scanConditions the conditions checked while reading the table.
+     * @return the table scan.
      * @throws SQLException in case of execution errors.
      */
-    private void loadTableData(final Column column, final ParadoxTable table) throws SQLException {
-        final ParadoxField field = table.findField(column.getName());
-        if (field == null) {
-            throw new SQLException("Column '" + column.getName() + "' not found in table '" + table.getName(),
-                    SQLStates.INVALID_FIELD_VALUE.getValue());
+    private TableScan createScan(final ParadoxTable table, final int[] columnIndexes,
+            final List<SQLNode> scanConditions) throws SQLException {
+        final ParadoxField[] columnFields = new ParadoxField[columnIndexes.length];
+        final boolean[] used = new boolean[table.getFields().size()];
+        for (int loop = 0; loop < columnIndexes.length; loop++) {
+            final Column column = this.scanColumns.get(columnIndexes[loop]);
+            final ParadoxField field = table.findField(column.getName());
+            if (field == null) {
+                throw new SQLException("Column '" + column.getName() + "' not found in table '" + table.getName(),
+                        SQLStates.INVALID_FIELD_VALUE.getValue());
+            }
+            if ((field.getOrderNum() > used.length) || (field.getOrderNum() < 1)) {
+                throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
+            }
+            columnFields[loop] = field;
+            used[field.getOrderNum() - 1] = true;
+        }
+
+        this.markUsedFields(table, this.conditions, false, used);
+        for (final PlanTableNode node : this.tables) {
+            this.markUsedFields(table, node.getConditions(), true, used);
+        }
+        if (columnIndexes.length == 0) {
+            // Reads at least one field to count or join the table rows.
+            used[0] = true;
+        }
+
+        // Positions of the table fields in the rows read, in table order.
+        final List<ParadoxField> fields = new ArrayList<>();
+        final int[] positions = new int[used.length];
+        for (int loop = 0; loop < used.length; loop++) {
+            if (used[loop]) {
+                positions[loop] = fields.size();
+                fields.add(table.getFields().get(loop));
+            } else {
+                positions[loop] = -1;
+            }
+        }
+
+        final int[] fieldOrders = new int[columnIndexes.length];
+        for (int loop = 0; loop < columnIndexes.length; loop++) {
+            fieldOrders[loop] = positions[columnFields[loop].getOrderNum() - 1];
+        }
+
+        final TableScan scan = new TableScan(table, columnIndexes, fieldOrders, positions, fields);
+        int[] blocks = this.findIndexBlocks(table, scanConditions);
+        if (blocks == null) {
+            blocks = this.orderedBlocks;
+        }
+        final RecordFilter recordFilter = this.createRecordFilter(scan, scanConditions);
+        if (!scan.checked) {
+            scan.filter = new ConditionCompiler(this.resolver, table, positions).compile(scanConditions);
+        }
+        final ResultMode mode = this.getResultMode(table);
+        if (mode == ResultMode.ROWS) {
+            if ((blocks == null) && ((this.limit >= 0) || (this.offset > 0)) && this.isStreamed()) {
+                // Only a page of rows is read, so the blocks are not read ahead in parallel.
+                scan.cursor = new TableCursor(table, fields, null, 0, 0, recordFilter);
+            } else if (blocks == null) {
+                // The table order is only seen when the rows are streamed; joins, groups and sorts do not need it.
+                scan.cursor = TableData.openCursor(table, fields, this.isStreamed(), recordFilter);
+            } else {
+                scan.cursor = new TableCursor(table, fields, blocks, 0, blocks.length, recordFilter);
+            }
+        } else {
+            if (mode == ResultMode.COLUMNAR) {
+                scan.cursor = new BatchTableCursor(table, fields, fieldOrders, scan.filter, blocks, recordFilter);
+                scan.direct = true;
+            } else {
+                scan.cursor = new LazyTableCursor(table, fields, fieldOrders, scan.filter, blocks, recordFilter);
+                scan.direct = true;
+            }
+        }
+        return scan;
+    }
+
+    /**
+     * Creates the filter checked in the table records before decoding them. Only conditions joined by AND are used.
+     * If all conditions are used, the scan is marked as checked.
+     *
+     * @param scan           the table scan.
+     * @param scanConditions the conditions checked while reading the table.
+     * @return the record filter, or null if no condition can be checked before decoding.
+     * @throws SQLException in case of invalid field.
+     */
+    private RecordFilter createRecordFilter(final TableScan scan, final List<SQLNode> scanConditions)
+            throws SQLException {
+        if (!SelectPlan.isConjunction(scanConditions)) {
+            return null;
+        }
+
+        final RecordFilter filter = new RecordFilter(scan.table);
+        boolean checked = true;
+        for (int loop = 0; loop < scanConditions.size(); loop += 2) {
+            final SQLNode condition = scanConditions.get(loop);
+            final String name = ConditionCompiler.getFieldName(condition);
+            if ((name == null) || this.comparesFields(condition)) {
+                checked = false;
+                continue;
+            }
+
+            final ParadoxField field = this.findField(name);
+            if (field.getTable() != scan.table) {
+                // Never true for the rows of this table.
+                filter.addRejectAll();
+            } else {
+                String upper = null;
+                if (condition instanceof BetweenNode) {
+                    upper = ((BetweenNode) condition).getLast().toString();
+                }
+                checked &= filter.add(field, ConditionCompiler.getOperator(condition),
+                        ConditionCompiler.getLiteral(condition), upper);
+            }
+        }
+
+        if (filter.size() == 0) {
+            return null;
+        }
+        scan.checked = checked;
+        return filter;
+    }
+
+    /**
+     * Finds the table blocks to read through the table indexes. The indexes are used only if all conditions are
+     * joined by AND, and the rows read are still checked against all conditions.
+     *
+     * @param table          the table to read.
+     * @param scanConditions the conditions checked while reading the table.
+     * @return the table blocks to read, or null to read the whole table.
+     * @throws SQLException in case of read errors.
+     */
+    private int[] findIndexBlocks(final ParadoxTable table, final List<SQLNode> scanConditions)
+            throws SQLException {
+        if ((table.getPrimaryFieldCount() == 0) || !SelectPlan.isConjunction(scanConditions)) {
+            return null;
+        }
+
+        final int[] blocks = this.findPrimaryKeyBlocks(table, scanConditions);
+        if (blocks != null) {
+            return blocks;
+        }
+        return this.findSecondaryIndexBlocks(table, scanConditions);
+    }
+
+    /**
+     * Finds the table blocks to read through the primary key index, if some conditions compare the leading primary
+     * key field with a number.
+     *
+     * @param table          the table to read.
+     * @param scanConditions the conditions checked while reading the table.
+     * @return the table blocks in key order, or null if the primary key index can not be used.
+     * @throws SQLException in case of read errors.
+     */
+    private int[] findPrimaryKeyBlocks(final ParadoxTable table, final List<SQLNode> scanConditions)
+            throws SQLException {
+        final ParadoxField key = table.getFields().get(0);
+        if (!KeyRange.isSupported(key)) {
+            return null;
+        }
+
+        KeyRange range = null;
+        for (int loop = 0; loop < scanConditions.size(); loop += 2) {
+            final KeyRange conditionRange = this.getConditionRange(scanConditions.get(loop), key);
+            if (conditionRange != null) {
+                if (range == null) {
+                    range = conditionRange;
+                } else {
+                    range = range.intersect(conditionRange);
+                }
+            }
         }
-        // load table data
-        final List<List<FieldValue>> tableData = TableData.loadData(table, table.getFields());
-        // search column index
-        if ((field.getOrderNum() > table.getFields().size()) || (field.getOrderNum() < 1)) {
-            throw new SQLException("Invalid column position", SQLStates.INVALID_FIELD_VALUE.getValue());
+
+        if (range == null) {
+            return null;
+        } else if (range.isEmpty()) {
+            return new int[0];
+        }
+        return PrimaryKeyData.findBlocks(table, range);
+    }
+
+    /**
+     * Finds the table blocks to read through a secondary index whose leading field is compared by some conditions.
+     * The indexes with an equality condition are preferred.
+     *
+     * @param table          the table to read.
+     * @param scanConditions the conditions checked while reading the table.
+     * @return the table blocks in table order, or null if no secondary index can be used.
+     * @throws SQLException in case of read errors.
+     */
+    private int[] findSecondaryIndexBlocks(final ParadoxTable table, final List<SQLNode> scanConditions)
+            throws SQLException {
+        ParadoxIndex best = null;
+        List<SQLNode> bestConditions = null;
+        boolean bestEquals = false;
+        for (final ParadoxIndex index : IndexData.getIndexes(table)) {
+            if ((index.getFields() == null) || index.getFields().isEmpty()) {
+                continue;
+            }
+
+            final ParadoxField field = table.findField(index.getFields().get(0).getName());
+            final List<SQLNode> indexConditions = new ArrayList<>();
+            boolean equals = false;
+            for (int loop = 0; (field != null) && (loop < scanConditions.size()); loop += 2) {
+                final SQLNode condition = scanConditions.get(loop);
+                final String name = ConditionCompiler.getFieldName(condition);
+                if ((name != null) && !(condition instanceof NotEqualsNode) && !this.comparesFields(condition)
+                        && (this.findField(name) == field)) {
+                    indexConditions.add(condition);
+                    equals |= condition instanceof EqualsNode;
+                }
+            }
+
+            if (!indexConditions.isEmpty() && ((best == null) || (equals && !bestEquals))) {
+                best = index;
+                bestConditions = indexConditions;
+                bestEquals = equals;
+            }
+        }
+
+        if (best == null) {
+            return null;
+        }
+
+        // The filter row has only the leading index field.
+        final ParadoxField field = table.findField(best.getFields().get(0).getName());
+        final int[] positions = new int[table.getFields().size()];
+        Arrays.fill(positions, -1);
+        positions[field.getOrderNum() - 1] = 0;
+        final ConditionCompiler compiler = new ConditionCompiler(this.resolver, table, positions);
+        final List<RowFilter> filters = new ArrayList<>(bestConditions.size());
+        for (final SQLNode condition : bestConditions) {
+            filters.add(compiler.compileComparison(condition));
+        }
+
+        return IndexData.findBlocks(table, best, new RowFilter() {
+            @Override
+            public boolean accept(final List<FieldValue> row) throws SQLException {
+                if (row.get(0).getValue() == null) {
+                    return true;
+                }
+                for (final RowFilter filter : filters) {
+                    if (!filter.accept(row)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Gets the range of values a condition accepts in a field.
+     *
+     * @param condition the condition.
+     * @param field     the field.
+     * @return the accepted range or null if the condition does not limit the field values.
+     * @throws SQLException in case of find errors.
+     */
+    private KeyRange getConditionRange(final SQLNode condition, final ParadoxField field) throws SQLException {
+        final String name = ConditionCompiler.getFieldName(condition);
+        if ((name == null) || (condition instanceof NotEqualsNode) || this.comparesFields(condition)
+                || (this.findField(name) != field)) {
+            return null;
+        }
+
+        final double value;
+        try {
+            if (condition instanceof BetweenNode) {
+                final BetweenNode between = (BetweenNode) condition;
+                final KeyRange range = new KeyRange(Double.parseDouble(between.getFirst().toString()),
+                        Double.parseDouble(between.getLast().toString()));
+                if (Double.isNaN(range.getLower()) || Double.isNaN(range.getUpper())) {
+                    return null;
+                }
+                return range;
+            }
+            value = Double.parseDouble(ConditionCompiler.getLiteral(condition));
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        if (Double.isNaN(value)) {
+            return null;
+        }
+
+        if (condition instanceof EqualsNode) {
+            return new KeyRange(value, value);
+        } else if (condition instanceof GreaterThanNode) {
+            return new KeyRange(value, Double.POSITIVE_INFINITY);
+        }
+        return new KeyRange(Double.NEGATIVE_INFINITY, value);
+    }
+
+    /**
+     * Gets if the rows are returned as the single table is read, without sorting nor aggregating them.
+     *
+     * @return true if the rows are returned as the table is read.
+     */
+    private boolean isStreamed() {
+        return (this.tables.size() == 1) && !this.sorted && !this.isAggregated();
+    }
+
+    /**
+     * Gets how a table is read. Only single table plans can return the table cursor directly, so the others are
+     * always read by row, as are the plans sorted or aggregated after read.
+     *
+     * @param table the table to read.
+     * @return how the table is read.
+     */
+    private ResultMode getResultMode(final ParadoxTable table) {
+        if (this.isStreamed() && (table.getConnection() != null)) {
+            return table.getConnection().getResultMode();
         }
+        return ResultMode.ROWS;
+    }
+
+    /**
+     * An aggregate function column.
+     */
+    private static final class AggregateItem {
+
+        /**
+         * The aggregate function.
+         */
+        private final AbstractAggregateProcedure function;
+
+        /**
+         * The argument field, or null to count the rows.
+         */
+        private ParadoxField field;
+
+        /**
+         * The SQL type of the argument.
+         */
+        private int type = Types.NULL;
+
+        /**
+         * The column position.
+         */
+        private int column;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param function the aggregate function.
+         */
+        AggregateItem(final AbstractAggregateProcedure function) {
+            this.function = function;
+        }
+    }
 
-        final int p = field.getOrderNum() - 1;
-        this.fillResultValues(tableData, p);
+    /**
+     * An ORDER BY value.
+     */
+    private static final class OrderItem {
+
+        /**
+         * If the order is ascending.
+         */
+        private final boolean ascending;
+
+        /**
+         * The field sorted.
+         */
+        private ParadoxField field;
+
+        /**
+         * The column position in the rows read, or -1 if not known yet.
+         */
+        private int column = -1;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param ascending if the order is ascending.
+         */
+        OrderItem(final boolean ascending) {
+            this.ascending = ascending;
+        }
+    }
+
+    /**
+     * The read state of a single table in this plan.
+     */
+    private static final class TableScan {
+
+        /**
+         * The table to read.
+         */
+        private final ParadoxTable table;
+
+        /**
+         * The table cursor.
+         */
+        private RowCursor cursor;
+
+        /**
+         * The column positions read from this table.
+         */
+        private final int[] columnIndexes;
+
+        /**
+         * The field positions in table rows, by column.
+         */
+        private final int[] fieldOrders;
+
+        /**
+         * The position of each table field in the rows read, -1 if the field is not read.
+         */
+        private final int[] positions;
+
+        /**
+         * The fields read, in row order.
+         */
+        private final List<ParadoxField> fields;
+
+        /**
+         * If the cursor returns the plan columns and filters the rows by itself.
+         */
+        private boolean direct;
+
+        /**
+         * If all conditions are checked before decoding the records.
+         */
+        private boolean checked;
+
+        /**
+         * The compiled conditions checked in the decoded rows, or null if not needed.
+         */
+        private RowFilter filter;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param table         the table to read.
+         * @param columnIndexes the column positions read from this table.
+         * @param fieldOrders   the field positions in table rows.
+         * @param positions     the position of each table field in the rows read.
+         * @param fields        the fields read, in row order.
+         */
+        TableScan(final ParadoxTable table, final int[] columnIndexes, final int[] fieldOrders,
+                final int[] positions, final List<ParadoxField> fields) {
+            this.table = table;
+            this.columnIndexes = columnIndexes;
+            this.fieldOrders = fieldOrders;
+            this.positions = positions;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * The equality conditions used as hash join keys.
+     */
+    private static final class JoinKeys {
+
+        /**
+         * The key positions in the left rows.
+         */
+        private final List<Integer> left = new ArrayList<>();
+
+        /**
+         * The key positions in the right rows.
+         */
+        private final List<Integer> right = new ArrayList<>();
+
+        /**
+         * The other join conditions, checked in the joined rows.
+         */
+        private final List<SQLNode> residual = new ArrayList<>();
+
+        /**
+         * Adds a join key.
+         *
+         * @param leftPosition  the key position in the left rows.
+         * @param rightPosition the key position in the right rows.
+         */
+        void add(final int leftPosition, final int rightPosition) {
+            this.left.add(leftPosition);
+            this.right.add(rightPosition);
+        }
+
+        /**
+         * Gets the key positions in the left rows.
+         *
+         * @return the key positions in the left rows.
+         */
+        int[] getLeft() {
+            return JoinKeys.toArray(this.left);
+        }
+
+        /**
+         * Gets the key positions in the right rows.
+         *
+         * @return the key positions in the right rows.
+         */
+        int[] getRight() {
+            return JoinKeys.toArray(this.right);
+        }
+
+        /**
+         * Converts a list of positions to an array.
+         *
+         * @param values the positions.
+         * @return the position array.
+         */
+        private static int[] toArray(final List<Integer> values) {
+            final int[] ret = new int[values.size()];
+            for (int loop = 0; loop < ret.length; loop++) {
+                ret[loop] = values.get(loop);
+            }
+            return ret;
+        }
+    }
+
+    /**
+     * Cursor that filters the rows read and returns their values in SELECT order.
+     */
+    private static final class SelectCursor implements RowCursor {
+
+        /**
+         * The cursor read.
+         */
+        private final RowCursor source;
+
+        /**
+         * The conditions checked in the rows read, or null if not needed.
+         */
+        private final RowFilter filter;
+
+        /**
+         * The position of each column in the rows read, or null to return the rows read.
+         */
+        private final int[] columnPositions;
+
+        /**
+         * The current row.
+         */
+        private List<FieldValue> row;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param source          the cursor read.
+         * @param filter          the conditions checked in the rows read, or null if not needed.
+         * @param columnPositions the position of each column in the rows read, or null to return the rows read.
+         */
+        SelectCursor(final RowCursor source, final RowFilter filter, final int[] columnPositions) {
+            this.source = source;
+            this.filter = filter;
+            this.columnPositions = columnPositions;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public boolean next() throws SQLException {
+            while (this.source.next()) {
+                final List<FieldValue> values = this.source.getRow();
+                if ((this.filter == null) || this.filter.accept(values)) {
+                    if (this.columnPositions == null) {
+                        this.row = values;
+                    } else {
+                        final FieldValue[] current = new FieldValue[this.columnPositions.length];
+                        for (int loop = 0; loop < current.length; loop++) {
+                            current[loop] = values.get(this.columnPositions[loop]);
+                        }
+                        this.row = Arrays.asList(current);
+                    }
+                    return true;
+                }
+            }
+            this.row = null;
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public List<FieldValue> getRow() {
+            return this.row;
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void reset() throws SQLException {
+            this.row = null;
+            this.source.reset();
+        }
+
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void close() throws SQLException {
+            this.source.close();
+        }
     }
-}
\ No newline at end of file
+}
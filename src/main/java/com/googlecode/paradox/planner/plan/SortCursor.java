@@ -0,0 +1,390 @@
+/*
+ * SortCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.SpillFile;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts the rows of a cursor in ORDER BY sequence.
+ * <p>
+ * The rows are sorted by their binary {@link SortKey}. While the rows fit in the work memory they are sorted in
+ * memory; the larger results are sorted in runs, each one written in a temporary file, and the runs are merged while
+ * the rows are returned (external merge sort). Rows with the same key keep the source order.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class SortCursor implements RowCursor {
+
+    /**
+     * The maximum count of runs merged at once.
+     */
+    private static final int MAX_RUNS = 64;
+
+    /**
+     * Estimated memory used by an entry, besides its row and key.
+     */
+    private static final int ENTRY_SIZE = 48;
+
+    /**
+     * Compares the entries by key, then by run.
+     */
+    private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry first, final Entry second) {
+            final int result = SortKey.compare(first.key, second.key);
+            if (result != 0) {
+                return result;
+            }
+            return first.run - second.run;
+        }
+    };
+
+    /**
+     * The cursor to sort.
+     */
+    private final RowCursor source;
+
+    /**
+     * The key encoder.
+     */
+    private final SortKey sortKey;
+
+    /**
+     * Count of values returned by row, or -1 if all values are returned.
+     */
+    private final int visibleColumns;
+
+    /**
+     * The work memory size in bytes.
+     */
+    private final long memory;
+
+    /**
+     * The rows in memory.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * The sorted runs in temporary files.
+     */
+    private final List<SpillFile> runs = new ArrayList<>();
+
+    /**
+     * The next row of each run being merged.
+     */
+    private final PriorityQueue<Entry> heads = new PriorityQueue<>(11, SortCursor.ORDER);
+
+    /**
+     * If the source was already read.
+     */
+    private boolean started;
+
+    /**
+     * The position of the next row in memory.
+     */
+    private int position;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source         the cursor to sort.
+     * @param positions      the positions of the values sorted.
+     * @param ascending      if each position is sorted in ascending order.
+     * @param visibleColumns count of values returned by row, or -1 if all values are returned.
+     * @param memory         the work memory size in bytes.
+     */
+    SortCursor(final RowCursor source, final int[] positions, final boolean[] ascending, final int visibleColumns,
+            final long memory) {
+        this.source = source;
+        this.sortKey = new SortKey(positions, ascending);
+        this.visibleColumns = visibleColumns;
+        this.memory = memory;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.started) {
+            this.started = true;
+            this.load();
+        }
+
+        final Entry entry;
+        if (this.runs.isEmpty()) {
+            entry = this.nextInMemory();
+        } else {
+            entry = this.heads.poll();
+            if (entry != null) {
+                final Entry next = this.nextInRun(entry.run);
+                if (next != null) {
+                    this.heads.add(next);
+                }
+            }
+        }
+
+        if (entry == null) {
+            this.row = null;
+            return false;
+        }
+
+        this.row = entry.row;
+        if ((this.visibleColumns >= 0) && (this.visibleColumns < this.row.size())) {
+            this.row = new ArrayList<>(this.row.subList(0, this.visibleColumns));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.clear();
+        this.source.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.clear();
+        } finally {
+            this.source.close();
+        }
+    }
+
+    /**
+     * Discards the rows read and the temporary files.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void clear() throws SQLException {
+        this.started = false;
+        this.row = null;
+        this.position = 0;
+        this.entries.clear();
+        this.heads.clear();
+        try {
+            SortCursor.closeAll(this.runs);
+        } finally {
+            this.runs.clear();
+        }
+    }
+
+    /**
+     * Closes the temporary files.
+     *
+     * @param files the files to close.
+     * @throws SQLException in case of I/O errors.
+     */
+    private static void closeAll(final List<SpillFile> files) throws SQLException {
+        SQLException error = null;
+        for (final SpillFile file : files) {
+            try {
+                file.close();
+            } catch (final SQLException e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Reads the source, sorting the rows in memory and writing a run each time the work memory is full.
+     *
+     * @throws SQLException in case of read errors.
+     */
+    private void load() throws SQLException {
+        long size = 0;
+        while (this.source.next()) {
+            final List<FieldValue> values = this.source.getRow();
+            final Entry entry = new Entry(this.sortKey.encode(values), values, 0);
+            this.entries.add(entry);
+            size += SpillFile.estimateSize(values) + entry.key.length + SortCursor.ENTRY_SIZE;
+            if ((size > this.memory) && (this.entries.size() > 1)) {
+                this.writeRun();
+                size = 0;
+            }
+        }
+
+        // Stable sort, keeping the source order of the rows with the same key.
+        Collections.sort(this.entries, SortCursor.ORDER);
+        if (!this.runs.isEmpty()) {
+            // The rows still in memory are the last run.
+            for (int loop = 0; loop <= this.runs.size(); loop++) {
+                final Entry head = this.nextInRun(loop);
+                if (head != null) {
+                    this.heads.add(head);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts the rows in memory and writes them in a new run. If there are too many runs, they are merged in a single
+     * one first, so the merge never reads too many files at once.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void writeRun() throws SQLException {
+        if (this.runs.size() >= SortCursor.MAX_RUNS - 1) {
+            this.mergeRuns();
+        }
+
+        Collections.sort(this.entries, SortCursor.ORDER);
+        final SpillFile run = new SpillFile();
+        this.runs.add(run);
+        for (final Entry entry : this.entries) {
+            run.write(entry.row);
+        }
+        run.finish();
+        this.entries.clear();
+    }
+
+    /**
+     * Merges the runs in temporary files in a single run.
+     *
+     * @throws SQLException in case of I/O errors.
+     */
+    private void mergeRuns() throws SQLException {
+        final SpillFile merged = new SpillFile();
+        try {
+            for (int loop = 0; loop < this.runs.size(); loop++) {
+                final Entry head = this.nextInRun(loop);
+                if (head != null) {
+                    this.heads.add(head);
+                }
+            }
+
+            Entry entry = this.heads.poll();
+            while (entry != null) {
+                merged.write(entry.row);
+                final Entry next = this.nextInRun(entry.run);
+                if (next != null) {
+                    this.heads.add(next);
+                }
+                entry = this.heads.poll();
+            }
+            merged.finish();
+        } catch (final SQLException e) {
+            merged.close();
+            throw e;
+        }
+
+        try {
+            SortCursor.closeAll(this.runs);
+        } finally {
+            this.runs.clear();
+            this.runs.add(merged);
+        }
+    }
+
+    /**
+     * Reads the next row of a run.
+     *
+     * @param run the run index. The index after the last run in temporary files is the run in memory.
+     * @return the next row of the run or null if the run ended.
+     * @throws SQLException in case of I/O errors.
+     */
+    private Entry nextInRun(final int run) throws SQLException {
+        if (run == this.runs.size()) {
+            final Entry entry = this.nextInMemory();
+            if (entry != null) {
+                entry.run = run;
+            }
+            return entry;
+        }
+
+        final List<FieldValue> values = this.runs.get(run).read();
+        if (values == null) {
+            return null;
+        }
+        return new Entry(this.sortKey.encode(values), values, run);
+    }
+
+    /**
+     * Gets the next row in memory.
+     *
+     * @return the next row in memory or null if all rows were read.
+     */
+    private Entry nextInMemory() {
+        if (this.position < this.entries.size()) {
+            final Entry entry = this.entries.get(this.position);
+            // Releases the row, so the memory is freed while the rows are returned.
+            this.entries.set(this.position, null);
+            this.position++;
+            return entry;
+        }
+        return null;
+    }
+
+    /**
+     * A row and its key.
+     */
+    private static final class Entry {
+
+        /**
+         * The row key.
+         */
+        private final byte[] key;
+
+        /**
+         * The row.
+         */
+        private final List<FieldValue> row;
+
+        /**
+         * The run of this row.
+         */
+        private int run;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key the row key.
+         * @param row the row.
+         * @param run the run of this row.
+         */
+        Entry(final byte[] key, final List<FieldValue> row, final int run) {
+            this.key = key;
+            this.row = row;
+            this.run = run;
+        }
+    }
+}
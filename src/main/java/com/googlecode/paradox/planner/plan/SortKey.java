@@ -0,0 +1,186 @@
+/*
+ * SortKey.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Encodes the ORDER BY values of a row in a binary key, so the rows are sorted by comparing bytes.
+ * <p>
+ * The keys compare as unsigned bytes in the ORDER BY sequence: null values first, numbers by value, dates by time and
+ * strings by their characters. Each value is encoded so no value is a prefix of another, and the descending values
+ * have their bytes inverted.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class SortKey {
+
+    /**
+     * Null value tag.
+     */
+    private static final int NULL = 0;
+
+    /**
+     * Tag of the values not null.
+     */
+    private static final int VALUE = 1;
+
+    /**
+     * The positions of the values sorted.
+     */
+    private final int[] positions;
+
+    /**
+     * If each position is sorted in ascending order.
+     */
+    private final boolean[] ascending;
+
+    /**
+     * The key being encoded.
+     */
+    private byte[] buffer = new byte[64];
+
+    /**
+     * The key size.
+     */
+    private int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param positions the positions of the values sorted.
+     * @param ascending if each position is sorted in ascending order.
+     */
+    SortKey(final int[] positions, final boolean[] ascending) {
+        this.positions = positions.clone();
+        this.ascending = ascending.clone();
+    }
+
+    /**
+     * Compares two keys as unsigned bytes.
+     *
+     * @param first  the first key.
+     * @param second the second key.
+     * @return a negative number, zero or a positive number if the first key is less than, equal to or greater than
+     * the second.
+     */
+    static int compare(final byte[] first, final byte[] second) {
+        final int length = Math.min(first.length, second.length);
+        for (int loop = 0; loop < length; loop++) {
+            final int result = (first[loop] & 0xFF) - (second[loop] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return first.length - second.length;
+    }
+
+    /**
+     * Encodes the key of a row.
+     *
+     * @param row the row.
+     * @return the row key.
+     */
+    byte[] encode(final List<FieldValue> row) {
+        this.size = 0;
+        for (int loop = 0; loop < this.positions.length; loop++) {
+            final int start = this.size;
+            final FieldValue value = row.get(this.positions[loop]);
+            if ((value == null) || (value.getValue() == null)) {
+                this.write(SortKey.NULL);
+            } else {
+                this.write(SortKey.VALUE);
+                this.writeValue(value.getValue());
+            }
+
+            if (!this.ascending[loop]) {
+                for (int index = start; index < this.size; index++) {
+                    this.buffer[index] = (byte) ~this.buffer[index];
+                }
+            }
+        }
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    /**
+     * Encodes a value not null.
+     *
+     * @param value the value.
+     */
+    private void writeValue(final Object value) {
+        if (value instanceof Number) {
+            // All numbers are compared as double, so different number types are in the same sequence.
+            final long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+            if (bits < 0) {
+                // Negative numbers have all bits inverted, so the greater absolute values are first.
+                this.writeLong(bits ^ Long.MAX_VALUE);
+            } else {
+                this.writeLong(bits);
+            }
+        } else if (value instanceof Date) {
+            this.writeLong(((Date) value).getTime());
+            if (value instanceof Timestamp) {
+                this.writeLong(((Timestamp) value).getNanos());
+            }
+        } else if (value instanceof Boolean) {
+            this.write((Boolean) value ? 1 : 0);
+        } else {
+            this.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Encodes a long value, with the sign inverted so the negative values are first.
+     *
+     * @param value the value.
+     */
+    private void writeLong(final long value) {
+        final long bits = value ^ Long.MIN_VALUE;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            this.write((int) (bits >>> shift));
+        }
+    }
+
+    /**
+     * Encodes a string. Each character is written in three bytes, plus one, so the zero bytes end the string and a
+     * string is after its prefixes.
+     *
+     * @param value the value.
+     */
+    private void writeString(final String value) {
+        for (int loop = 0; loop < value.length(); loop++) {
+            final int c = value.charAt(loop) + 1;
+            this.write(c >>> 16);
+            this.write(c >>> 8);
+            this.write(c);
+        }
+        this.write(0);
+        this.write(0);
+        this.write(0);
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param value the byte to write.
+     */
+    private void write(final int value) {
+        if (this.size == this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+        }
+        this.buffer[this.size++] = (byte) value;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * TopCursor.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Returns the first rows of a cursor in ORDER BY sequence, without sorting all rows.
+ * <p>
+ * The rows are kept in a heap bounded by the limit, with the last row in sequence on top. Each row read is compared
+ * to the top, and replaces it only if it comes before, so the memory used depends only on the limit. Rows with the
+ * same key keep the source order, as in {@link SortCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class TopCursor implements RowCursor {
+
+    /**
+     * Compares the entries by key, then by source order.
+     */
+    private static final Comparator<Entry> ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(final Entry first, final Entry second) {
+            final int result = SortKey.compare(first.key, second.key);
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(first.sequence, second.sequence);
+        }
+    };
+
+    /**
+     * The cursor to sort.
+     */
+    private final RowCursor source;
+
+    /**
+     * The key encoder.
+     */
+    private final SortKey sortKey;
+
+    /**
+     * The maximum count of rows returned.
+     */
+    private final int limit;
+
+    /**
+     * Count of values returned by row, or -1 if all values are returned.
+     */
+    private final int visibleColumns;
+
+    /**
+     * The rows kept, with the last one in sequence on top.
+     */
+    private final PriorityQueue<Entry> heap;
+
+    /**
+     * The rows kept in sequence.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * If the source was already read.
+     */
+    private boolean started;
+
+    /**
+     * The position of the next row.
+     */
+    private int position;
+
+    /**
+     * The current row.
+     */
+    private List<FieldValue> row;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param source         the cursor to sort.
+     * @param positions      the positions of the values sorted.
+     * @param ascending      if each position is sorted in ascending order.
+     * @param limit          the maximum count of rows returned.
+     * @param visibleColumns count of values returned by row, or -1 if all values are returned.
+     */
+    TopCursor(final RowCursor source, final int[] positions, final boolean[] ascending, final int limit,
+            final int visibleColumns) {
+        this.source = source;
+        this.sortKey = new SortKey(positions, ascending);
+        this.limit = limit;
+        this.visibleColumns = visibleColumns;
+        this.heap = new PriorityQueue<>(Math.max(1, limit), Collections.reverseOrder(TopCursor.ORDER));
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public boolean next() throws SQLException {
+        if (!this.started) {
+            this.started = true;
+            this.load();
+        }
+
+        if (this.position >= this.entries.size()) {
+            this.row = null;
+            return false;
+        }
+
+        this.row = this.entries.get(this.position).row;
+        this.entries.set(this.position, null);
+        this.position++;
+        if ((this.visibleColumns >= 0) && (this.visibleColumns < this.row.size())) {
+            this.row = new ArrayList<>(this.row.subList(0, this.visibleColumns));
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<FieldValue> getRow() {
+        return this.row;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void reset() throws SQLException {
+        this.clear();
+        this.source.reset();
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void close() throws SQLException {
+        this.clear();
+        this.source.close();
+    }
+
+    /**
+     * Discards the rows read.
+     */
+    private void clear() {
+        this.started = false;
+        this.row = null;
+        this.position = 0;
+        this.heap.clear();
+        this.entries.clear();
+    }
+
+    /**
+     * Reads the source, keeping only the first rows in sequence.
+     *
+     * @throws SQLException in case of read errors.
+     */
+    private void load() throws SQLException {
+        if (this.limit == 0) {
+            return;
+        }
+
+        long sequence = 0;
+        while (this.source.next()) {
+            final List<FieldValue> values = this.source.getRow();
+            final Entry entry = new Entry(this.sortKey.encode(values), values, sequence++);
+            if (this.heap.size() < this.limit) {
+                this.heap.add(entry);
+            } else if (TopCursor.ORDER.compare(entry, this.heap.peek()) < 0) {
+                this.heap.poll();
+                this.heap.add(entry);
+            }
+        }
+
+        this.entries.addAll(this.heap);
+        this.heap.clear();
+        Collections.sort(this.entries, TopCursor.ORDER);
+    }
+
+    /**
+     * A row and its key.
+     */
+    private static final class Entry {
+
+        /**
+         * The row key.
+         */
+        private final byte[] key;
+
+        /**
+         * The row.
+         */
+        private final List<FieldValue> row;
+
+        /**
+         * The row position in source.
+         */
+        private final long sequence;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key      the row key.
+         * @param row      the row.
+         * @param sequence the row position in source.
+         */
+        Entry(final byte[] key, final List<FieldValue> row, final long sequence) {
+            this.key = key;
+            this.row = row;
+            this.sequence = sequence;
+        }
+    }
+}
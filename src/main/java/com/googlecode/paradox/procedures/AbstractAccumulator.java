@@ -0,0 +1,134 @@
+/*
+ * AbstractAccumulator.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.procedures;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Accumulates the values of an aggregate function for each group of rows.
+ * <p>
+ * The groups are numbered from zero, and the state of all groups is kept in arrays indexed by the group number, so
+ * a new group does not create objects.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public abstract class AbstractAccumulator {
+
+    /**
+     * Initial group capacity.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Adds a value to a group.
+     *
+     * @param group the group number.
+     * @param value the value to add, or null to count a row in COUNT(*).
+     * @throws SQLException if the value can not be aggregated.
+     */
+    public abstract void add(int group, FieldValue value) throws SQLException;
+
+    /**
+     * Gets the aggregated value of a group.
+     *
+     * @param group the group number.
+     * @return the aggregated value.
+     */
+    public abstract FieldValue getValue(int group);
+
+    /**
+     * Discards all groups.
+     */
+    public abstract void clear();
+
+    /**
+     * Creates an empty array of group values.
+     *
+     * @return the new array.
+     */
+    protected static long[] newLongArray() {
+        return new long[AbstractAccumulator.INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates an empty array of group values.
+     *
+     * @return the new array.
+     */
+    protected static double[] newDoubleArray() {
+        return new double[AbstractAccumulator.INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates an empty array of group values.
+     *
+     * @return the new array.
+     */
+    protected static FieldValue[] newValueArray() {
+        return new FieldValue[AbstractAccumulator.INITIAL_CAPACITY];
+    }
+
+    /**
+     * Grows an array to store a group.
+     *
+     * @param values the group values.
+     * @param group  the group number.
+     * @return the array with room for the group.
+     */
+    protected static long[] ensureCapacity(final long[] values, final int group) {
+        if (group < values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, AbstractAccumulator.getCapacity(values.length, group));
+    }
+
+    /**
+     * Grows an array to store a group.
+     *
+     * @param values the group values.
+     * @param group  the group number.
+     * @return the array with room for the group.
+     */
+    protected static double[] ensureCapacity(final double[] values, final int group) {
+        if (group < values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, AbstractAccumulator.getCapacity(values.length, group));
+    }
+
+    /**
+     * Grows an array to store a group.
+     *
+     * @param values the group values.
+     * @param group  the group number.
+     * @return the array with room for the group.
+     */
+    protected static FieldValue[] ensureCapacity(final FieldValue[] values, final int group) {
+        if (group < values.length) {
+            return values;
+        }
+        return Arrays.copyOf(values, AbstractAccumulator.getCapacity(values.length, group));
+    }
+
+    /**
+     * Gets the new capacity of an array.
+     *
+     * @param length the current length.
+     * @param group  the group number to store.
+     * @return the new capacity.
+     */
+    private static int getCapacity(final int length, final int group) {
+        return Math.max(length * 2, group + 1);
+    }
+}
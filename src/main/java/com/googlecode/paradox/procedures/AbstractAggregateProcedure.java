@@ -0,0 +1,49 @@
+/*
+ * AbstractAggregateProcedure.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software:
+ * you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.procedures;
+
+import java.sql.Types;
+
+/**
+ * A procedure that aggregates the values of a group of rows, like SUM or COUNT.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public abstract class AbstractAggregateProcedure extends AbstractCallableProcedure {
+
+    /**
+     * Creates the accumulator of this function.
+     *
+     * @param type the SQL type of the aggregated values.
+     * @return the new accumulator.
+     */
+    public abstract AbstractAccumulator createAccumulator(int type);
+
+    /**
+     * Gets the SQL type of the function result.
+     *
+     * @param type the SQL type of the aggregated values.
+     * @return the SQL type of the function result.
+     */
+    public abstract int getResultType(int type);
+
+    /**
+     * Gets if a SQL type has only integer values.
+     *
+     * @param type the SQL type.
+     * @return true if the SQL type has only integer values.
+     */
+    protected static boolean isIntegral(final int type) {
+        return (type == Types.INTEGER) || (type == Types.BIGINT)
+                || (type == Types.SMALLINT) || (type == Types.TINYINT);
+    }
+}
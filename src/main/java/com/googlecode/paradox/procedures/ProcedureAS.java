@@ -15,13 +15,16 @@ import com.googlecode.paradox.procedures.math.Min;
 import com.googlecode.paradox.procedures.math.Sum;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Stores the procedures in this driver.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public final class ProcedureAS {
@@ -36,6 +39,11 @@ public final class ProcedureAS {
      */
     private final List<AbstractCallableProcedure> procedures = new ArrayList<>();
     
+    /**
+     * Other names of the registered procedures, in lower case. They are not listed in the metadata.
+     */
+    private final Map<String, String> aliases = new HashMap<>();
+    
     /**
      * Register the default procedures.
      */
@@ -45,6 +53,7 @@ public final class ProcedureAS {
         this.register(new Max());
         this.register(new Min());
         this.register(new Sum());
+        this.aliases.put("avg", "average");
     }
     
     /**
@@ -57,13 +66,20 @@ public final class ProcedureAS {
     }
     
     /**
-     * Gets the procedure by name.
+     * Gets the procedure by name or alias.
      *
      * @param name
      *            the procedure name.
      * @return the procedure.
      */
     public AbstractCallableProcedure get(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final String alias = this.aliases.get(name.toLowerCase(Locale.US));
+        if (alias != null) {
+            return this.get(alias);
+        }
         for (final AbstractCallableProcedure procedure : this.procedures) {
             if (procedure.getName().equalsIgnoreCase(name)) {
                 return procedure;
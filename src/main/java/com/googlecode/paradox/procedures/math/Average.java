@@ -8,16 +8,21 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+
+import java.sql.SQLException;
+import java.sql.Types;
 
 /**
  * The average procedure.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Average extends AbstractCallableProcedure {
+public final class Average extends AbstractAggregateProcedure {
     
     /**
      * {@inheritDoc}.
@@ -34,4 +39,69 @@ public final class Average extends AbstractCallableProcedure {
     public String getRemarks() {
         return "Returns the average values.";
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final int type) {
+        return new AverageAccumulator();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getResultType(final int type) {
+        return Types.DOUBLE;
+    }
+    
+    /**
+     * Averages the values of each group.
+     */
+    private static final class AverageAccumulator extends AbstractAccumulator {
+        
+        /**
+         * The count of values of each group.
+         */
+        private long[] counts = AbstractAccumulator.newLongArray();
+        
+        /**
+         * The sum of each group.
+         */
+        private double[] sums = AbstractAccumulator.newDoubleArray();
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void add(final int group, final FieldValue value) throws SQLException {
+            this.counts = AbstractAccumulator.ensureCapacity(this.counts, group);
+            this.sums = AbstractAccumulator.ensureCapacity(this.sums, group);
+            if (!value.isNull()) {
+                this.counts[group]++;
+                this.sums[group] += value.getNumber().doubleValue();
+            }
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public FieldValue getValue(final int group) {
+            if ((group >= this.counts.length) || (this.counts[group] == 0)) {
+                return new FieldValue(Types.DOUBLE);
+            }
+            return new FieldValue(this.sums[group] / this.counts[group], Types.DOUBLE);
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void clear() {
+            this.counts = AbstractAccumulator.newLongArray();
+            this.sums = AbstractAccumulator.newDoubleArray();
+        }
+    }
 }
@@ -8,16 +8,20 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+
+import java.sql.Types;
 
 /**
  * The COUNT function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Count extends AbstractCallableProcedure {
+public final class Count extends AbstractAggregateProcedure {
     
     /**
      * {@inheritDoc}.
@@ -34,4 +38,62 @@ public final class Count extends AbstractCallableProcedure {
     public String getRemarks() {
         return "Returns the row count";
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final int type) {
+        return new CountAccumulator();
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getResultType(final int type) {
+        return Types.BIGINT;
+    }
+    
+    /**
+     * Counts the rows or the values not null of each group.
+     */
+    private static final class CountAccumulator extends AbstractAccumulator {
+        
+        /**
+         * The count of each group.
+         */
+        private long[] counts = AbstractAccumulator.newLongArray();
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void add(final int group, final FieldValue value) {
+            this.counts = AbstractAccumulator.ensureCapacity(this.counts, group);
+            if ((value == null) || !value.isNull()) {
+                this.counts[group]++;
+            }
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public FieldValue getValue(final int group) {
+            long count = 0;
+            if (group < this.counts.length) {
+                count = this.counts[group];
+            }
+            return new FieldValue(count, Types.BIGINT);
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void clear() {
+            this.counts = AbstractAccumulator.newLongArray();
+        }
+    }
 }
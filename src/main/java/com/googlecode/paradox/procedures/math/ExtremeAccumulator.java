@@ -0,0 +1,120 @@
+/*
+ * ExtremeAccumulator.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.procedures.math;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Keeps the lowest or the highest value of each group, for the MIN and MAX functions.
+ * <p>
+ * Numbers are compared by value, dates by time and the other values by their text.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+final class ExtremeAccumulator extends AbstractAccumulator {
+
+    /**
+     * If the highest value is kept.
+     */
+    private final boolean highest;
+
+    /**
+     * The SQL type of the values.
+     */
+    private final int type;
+
+    /**
+     * The value of each group.
+     */
+    private FieldValue[] values = AbstractAccumulator.newValueArray();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param highest if the highest value is kept.
+     * @param type    the SQL type of the values.
+     */
+    ExtremeAccumulator(final boolean highest, final int type) {
+        this.highest = highest;
+        this.type = type;
+    }
+
+    /**
+     * Compares two values not null.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @return a negative number, zero or a positive number if the first value is less than, equal to or greater than
+     * the second.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compare(final Object first, final Object second) {
+        if ((first instanceof Number) && (second instanceof Number)) {
+            return Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        } else if ((first instanceof Date) && (second instanceof Date)) {
+            final long a = ((Date) first).getTime();
+            final long b = ((Date) second).getTime();
+            if (a != b) {
+                return (a < b) ? -1 : 1;
+            } else if ((first instanceof Timestamp) && (second instanceof Timestamp)) {
+                return ((Timestamp) first).getNanos() - ((Timestamp) second).getNanos();
+            }
+            return 0;
+        } else if ((first instanceof Comparable) && first.getClass().isInstance(second)) {
+            return ((Comparable<Object>) first).compareTo(second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void add(final int group, final FieldValue value) {
+        this.values = AbstractAccumulator.ensureCapacity(this.values, group);
+        if (value.isNull()) {
+            return;
+        }
+
+        final FieldValue current = this.values[group];
+        if (current == null) {
+            this.values[group] = value;
+        } else {
+            final int result = ExtremeAccumulator.compare(value.getValue(), current.getValue());
+            if (this.highest ? (result > 0) : (result < 0)) {
+                this.values[group] = value;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public FieldValue getValue(final int group) {
+        if ((group >= this.values.length) || (this.values[group] == null)) {
+            return new FieldValue(this.type);
+        }
+        return this.values[group];
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public void clear() {
+        this.values = AbstractAccumulator.newValueArray();
+    }
+}
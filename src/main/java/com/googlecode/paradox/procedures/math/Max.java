@@ -8,16 +8,17 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
 
 /**
  * The MAX function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Max extends AbstractCallableProcedure {
+public final class Max extends AbstractAggregateProcedure {
     
     /**
      * {@inheritDoc}.
@@ -34,4 +35,20 @@ public final class Max extends AbstractCallableProcedure {
     public String getRemarks() {
         return "Returns the row max value";
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final int type) {
+        return new ExtremeAccumulator(true, type);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getResultType(final int type) {
+        return type;
+    }
 }
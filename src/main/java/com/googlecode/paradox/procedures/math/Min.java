@@ -8,16 +8,17 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
 
 /**
  * The MIN function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Min extends AbstractCallableProcedure {
+public final class Min extends AbstractAggregateProcedure {
     
     /**
      * {@inheritDoc}.
@@ -34,4 +35,20 @@ public final class Min extends AbstractCallableProcedure {
     public String getRemarks() {
         return "Returns the row minimum value";
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final int type) {
+        return new ExtremeAccumulator(false, type);
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getResultType(final int type) {
+        return type;
+    }
 }
@@ -8,16 +8,21 @@
  */
 package com.googlecode.paradox.procedures.math;
 
-import com.googlecode.paradox.procedures.AbstractCallableProcedure;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAccumulator;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+
+import java.sql.SQLException;
+import java.sql.Types;
 
 /**
  * The SUM function.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.1
  */
-public final class Sum extends AbstractCallableProcedure {
+public final class Sum extends AbstractAggregateProcedure {
     
     /**
      * {@inheritDoc}.
@@ -34,4 +39,106 @@ public final class Sum extends AbstractCallableProcedure {
     public String getRemarks() {
         return "Returns the sum of row value";
     }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public AbstractAccumulator createAccumulator(final int type) {
+        return new SumAccumulator(AbstractAggregateProcedure.isIntegral(type));
+    }
+    
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int getResultType(final int type) {
+        if (AbstractAggregateProcedure.isIntegral(type)) {
+            return Types.BIGINT;
+        }
+        return Types.DOUBLE;
+    }
+    
+    /**
+     * Sums the values of each group. Integer values are summed as long, the others as double.
+     */
+    private static final class SumAccumulator extends AbstractAccumulator {
+        
+        /**
+         * If the values are integers.
+         */
+        private final boolean integral;
+        
+        /**
+         * The count of values of each group.
+         */
+        private long[] counts = AbstractAccumulator.newLongArray();
+        
+        /**
+         * The integer sum of each group.
+         */
+        private long[] longSums = AbstractAccumulator.newLongArray();
+        
+        /**
+         * The double sum of each group.
+         */
+        private double[] doubleSums = AbstractAccumulator.newDoubleArray();
+        
+        /**
+         * Creates a new instance.
+         *
+         * @param integral
+         *            if the values are integers.
+         */
+        SumAccumulator(final boolean integral) {
+            this.integral = integral;
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void add(final int group, final FieldValue value) throws SQLException {
+            this.counts = AbstractAccumulator.ensureCapacity(this.counts, group);
+            if (this.integral) {
+                this.longSums = AbstractAccumulator.ensureCapacity(this.longSums, group);
+            } else {
+                this.doubleSums = AbstractAccumulator.ensureCapacity(this.doubleSums, group);
+            }
+            if (!value.isNull()) {
+                this.counts[group]++;
+                if (this.integral) {
+                    this.longSums[group] += value.getNumber().longValue();
+                } else {
+                    this.doubleSums[group] += value.getNumber().doubleValue();
+                }
+            }
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public FieldValue getValue(final int group) {
+            if ((group >= this.counts.length) || (this.counts[group] == 0)) {
+                if (this.integral) {
+                    return new FieldValue(Types.BIGINT);
+                }
+                return new FieldValue(Types.DOUBLE);
+            } else if (this.integral) {
+                return new FieldValue(this.longSums[group], Types.BIGINT);
+            }
+            return new FieldValue(this.doubleSums[group], Types.DOUBLE);
+        }
+        
+        /**
+         * {@inheritDoc}.
+         */
+        @Override
+        public void clear() {
+            this.counts = AbstractAccumulator.newLongArray();
+            this.longSums = AbstractAccumulator.newLongArray();
+            this.doubleSums = AbstractAccumulator.newDoubleArray();
+        }
+    }
 }
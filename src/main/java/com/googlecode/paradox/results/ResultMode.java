@@ -0,0 +1,36 @@
+/*
+ * ResultMode.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.results;
+
+/**
+ * How the result set rows are read from the tables.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public enum ResultMode {
+
+    /**
+     * Decode each row into a list of values.
+     */
+    ROWS,
+
+    /**
+     * Decode batches of rows into primitive column arrays. Only single table queries use this mode, the others are
+     * read by row.
+     */
+    COLUMNAR,
+
+    /**
+     * Keep each row as the raw record bytes and decode a field only when it is read. Only single table queries use
+     * this mode, the others are read by row.
+     */
+    LAZY
+}
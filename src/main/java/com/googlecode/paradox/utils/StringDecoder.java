@@ -0,0 +1,247 @@
+/*
+ * StringDecoder.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.googlecode.paradox.utils.Utils.limit;
+
+/**
+ * Decodes fixed size strings, ignoring the trailing zeros.
+ * <p>
+ * Single byte charsets, like the code pages used by Paradox (cp437, cp1250, cp1251 and cp1252), are decoded through a
+ * 256 entry lookup table without creating buffers. Optionally, the last strings decoded are kept in a small cache so
+ * equal values share the same instance.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class StringDecoder {
+
+    /**
+     * The lookup tables of the single byte charsets, by charset name.
+     */
+    private static final ConcurrentMap<String, char[]> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * The charset to decode.
+     */
+    private final Charset charset;
+
+    /**
+     * The char of each byte value, or null if this is not a single byte charset.
+     */
+    private final char[] table;
+
+    /**
+     * The string cache, indexed by hash, or null to disable the cache.
+     */
+    private final String[] cache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param charset   the charset to decode.
+     * @param cacheSize the count of strings kept in cache, zero to disable the cache.
+     */
+    public StringDecoder(final Charset charset, final int cacheSize) {
+        this.charset = charset;
+        this.table = StringDecoder.getTable(charset);
+        if ((cacheSize > 0) && (this.table != null)) {
+            int slots = Integer.highestOneBit(cacheSize);
+            if (slots < cacheSize) {
+                slots <<= 1;
+            }
+            this.cache = new String[slots];
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Gets the charset to decode.
+     *
+     * @return the charset to decode.
+     */
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /**
+     * Gets if the charset is decoded through a lookup table.
+     *
+     * @return true if the charset is decoded through a lookup table.
+     */
+    public boolean isSingleByte() {
+        return this.table != null;
+    }
+
+    /**
+     * Decodes a string in the current buffer position. The buffer is advanced by the length.
+     *
+     * @param buffer the buffer to read of.
+     * @param length the value length in bytes.
+     * @return the string.
+     */
+    public String decode(final ByteBuffer buffer, final int length) {
+        final int start = buffer.position();
+        final int size = StringDecoder.trim(buffer, start, length);
+        Utils.position(buffer, start + length);
+
+        if (this.table == null) {
+            final ByteBuffer value = buffer.duplicate();
+            Utils.position(value, start);
+            limit(value, start + size);
+            return this.charset.decode(value).toString();
+        }
+
+        if (this.cache == null) {
+            return this.createString(buffer, start, size);
+        }
+
+        int hash = size;
+        for (int loop = 0; loop < size; loop++) {
+            hash = (31 * hash) + buffer.get(start + loop);
+        }
+        final int slot = (hash ^ (hash >>> 16)) & (this.cache.length - 1);
+        final String cached = this.cache[slot];
+        if ((cached != null) && this.matches(cached, buffer, start, size)) {
+            return cached;
+        }
+
+        final String value = this.createString(buffer, start, size);
+        this.cache[slot] = value;
+        return value;
+    }
+
+    /**
+     * Decodes a string in the current buffer position into a char array. Only single byte charsets are supported and
+     * the target must have room for the length. The buffer is advanced by the length.
+     *
+     * @param buffer the buffer to read of.
+     * @param length the value length in bytes.
+     * @param target the chars to write.
+     * @param offset the first position to write.
+     * @return the count of chars written.
+     */
+    public int decode(final ByteBuffer buffer, final int length, final char[] target, final int offset) {
+        final int start = buffer.position();
+        final int size = StringDecoder.trim(buffer, start, length);
+        for (int loop = 0; loop < size; loop++) {
+            target[offset + loop] = this.table[buffer.get(start + loop) & 0xFF];
+        }
+        Utils.position(buffer, start + length);
+        return size;
+    }
+
+    /**
+     * Creates a string through the lookup table.
+     *
+     * @param buffer the buffer to read of.
+     * @param start  the value start.
+     * @param size   the value size without trailing zeros.
+     * @return the string.
+     */
+    private String createString(final ByteBuffer buffer, final int start, final int size) {
+        final char[] chars = new char[size];
+        for (int loop = 0; loop < size; loop++) {
+            chars[loop] = this.table[buffer.get(start + loop) & 0xFF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Checks if a cached string has the same value of the buffer bytes.
+     *
+     * @param value  the cached string.
+     * @param buffer the buffer to read of.
+     * @param start  the value start.
+     * @param size   the value size without trailing zeros.
+     * @return true if the values are equal.
+     */
+    private boolean matches(final String value, final ByteBuffer buffer, final int start, final int size) {
+        if (value.length() != size) {
+            return false;
+        }
+        for (int loop = 0; loop < size; loop++) {
+            if (value.charAt(loop) != this.table[buffer.get(start + loop) & 0xFF]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the value size without the trailing zeros.
+     *
+     * @param buffer the buffer to read of.
+     * @param start  the value start.
+     * @param length the value length in bytes.
+     * @return the value size without the trailing zeros.
+     */
+    private static int trim(final ByteBuffer buffer, final int start, final int length) {
+        int size = length;
+        while ((size > 0) && (buffer.get(start + size - 1) == 0)) {
+            size--;
+        }
+        return size;
+    }
+
+    /**
+     * Gets the lookup table of a charset, creating it on first use.
+     *
+     * @param charset the charset.
+     * @return the lookup table or null if the charset is not a single byte charset.
+     */
+    private static char[] getTable(final Charset charset) {
+        char[] table = StringDecoder.TABLES.get(charset.name());
+        if ((table == null) && StringDecoder.isSingleByte(charset)) {
+            table = new char[256];
+            final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            for (int loop = 0; loop < table.length; loop++) {
+                try {
+                    final CharBuffer value = decoder.decode(ByteBuffer.wrap(new byte[]{(byte) loop}));
+                    if (value.remaining() != 1) {
+                        return null;
+                    }
+                    table[loop] = value.get();
+                } catch (final CharacterCodingException e) {
+                    return null;
+                }
+            }
+            StringDecoder.TABLES.putIfAbsent(charset.name(), table);
+        }
+        return table;
+    }
+
+    /**
+     * Checks if a charset uses one byte per char.
+     *
+     * @param charset the charset.
+     * @return true if the charset uses one byte per char.
+     */
+    private static boolean isSingleByte(final Charset charset) {
+        if (!charset.canEncode()) {
+            return false;
+        }
+        final CharsetEncoder encoder = charset.newEncoder();
+        final CharsetDecoder decoder = charset.newDecoder();
+        return (encoder.maxBytesPerChar() == 1F) && (decoder.maxCharsPerByte() == 1F);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * TemporalDecoder.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Decodes the Paradox date, time and timestamp values into milliseconds, using integer arithmetic instead of
+ * calendars.
+ * <p>
+ * Dates are converted to the local midnight of the default time zone. The dates near a time zone transition and the
+ * dates before the Gregorian calendar are converted through {@link DateUtils}, like before. The last dates converted
+ * are kept in a small cache indexed by the raw value.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public final class TemporalDecoder {
+
+    /**
+     * Milliseconds in a day.
+     */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Milliseconds between 01/01/0001 and 01/01/1970, in the Paradox timestamp format.
+     */
+    private static final long MILLIS_UNTIL_1970 = 62_135_683_200_000L;
+
+    /**
+     * The Paradox dates are days after this serial day number.
+     */
+    private static final int SDN_START = 1_721_425;
+
+    /**
+     * Serial day number of 01/01/1970.
+     */
+    private static final int SDN_EPOCH = 2_440_588;
+
+    /**
+     * Epoch day of 01/01/1583, the first full year of the Gregorian calendar.
+     */
+    private static final long FIRST_GREGORIAN_DAY = -141_427L;
+
+    /**
+     * Size of the date cache. Must be a power of two.
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    /**
+     * The decoder of the last default time zone used.
+     */
+    private static volatile TemporalDecoder current;
+
+    /**
+     * The time zone of this decoder.
+     */
+    private final TimeZone zone;
+
+    /**
+     * The time zone identifier.
+     */
+    private final String zoneId;
+
+    /**
+     * The milliseconds of the time zero.
+     */
+    private final long timeBase;
+
+    /**
+     * The last dates converted, indexed by raw value.
+     */
+    private final DateEntry[] dates = new DateEntry[TemporalDecoder.CACHE_SIZE];
+
+    /**
+     * Creates a new instance.
+     *
+     * @param zone the time zone to use.
+     */
+    private TemporalDecoder(final TimeZone zone) {
+        this.zone = zone;
+        this.zoneId = zone.getID();
+
+        // The Paradox time is stored as milliseconds after the day zero of year one.
+        final Calendar calendar = new GregorianCalendar(zone);
+        calendar.clear();
+        calendar.set(1, Calendar.JANUARY, 0);
+        this.timeBase = calendar.getTimeInMillis();
+    }
+
+    /**
+     * Gets the decoder of the default time zone.
+     *
+     * @return the decoder of the default time zone.
+     */
+    public static TemporalDecoder getInstance() {
+        final TimeZone zone = TimeZone.getDefault();
+        TemporalDecoder decoder = TemporalDecoder.current;
+        if ((decoder == null) || !decoder.zoneId.equals(zone.getID())) {
+            decoder = new TemporalDecoder(zone);
+            TemporalDecoder.current = decoder;
+        }
+        return decoder;
+    }
+
+    /**
+     * Converts a Paradox date to the days since 01/01/1970.
+     *
+     * @param raw the Paradox date, in days.
+     * @return the days since 01/01/1970.
+     */
+    public static long toEpochDay(final int raw) {
+        return (raw + (long) TemporalDecoder.SDN_START) - TemporalDecoder.SDN_EPOCH;
+    }
+
+    /**
+     * Converts a Paradox timestamp to milliseconds since 01/01/1970.
+     *
+     * @param raw the raw timestamp value.
+     * @return the milliseconds since 01/01/1970.
+     */
+    public static long toTimestampMillis(final long raw) {
+        long value = raw;
+        if ((value >>> 63) == 1) {
+            value &= 0x7FFF_FFFF_FFFF_FFFFL;
+        } else {
+            value = ~value;
+        }
+        return (long) Double.longBitsToDouble(value) - TemporalDecoder.MILLIS_UNTIL_1970;
+    }
+
+    /**
+     * Converts a Paradox time to milliseconds.
+     *
+     * @param raw the Paradox time, in milliseconds since midnight.
+     * @return the time in milliseconds, like {@link java.sql.Time}.
+     */
+    public long toTimeMillis(final int raw) {
+        return this.timeBase + raw;
+    }
+
+    /**
+     * Converts a Paradox date to the milliseconds of its local midnight.
+     *
+     * @param raw the Paradox date, in days.
+     * @return the milliseconds of the local midnight.
+     */
+    public long toDateMillis(final int raw) {
+        final int slot = (raw ^ (raw >>> 10)) & (TemporalDecoder.CACHE_SIZE - 1);
+        final DateEntry entry = this.dates[slot];
+        if ((entry != null) && (entry.raw == raw)) {
+            return entry.millis;
+        }
+
+        final long millis = this.convertDate(raw);
+        this.dates[slot] = new DateEntry(raw, millis);
+        return millis;
+    }
+
+    /**
+     * Converts a Paradox date to the milliseconds of its local midnight, without cache.
+     *
+     * @param raw the Paradox date, in days.
+     * @return the milliseconds of the local midnight.
+     */
+    private long convertDate(final int raw) {
+        final long epochDay = TemporalDecoder.toEpochDay(raw);
+        if (epochDay >= TemporalDecoder.FIRST_GREGORIAN_DAY) {
+            final long local = epochDay * TemporalDecoder.MILLIS_PER_DAY;
+            final int offset = this.zone.getOffset(local - this.zone.getRawOffset());
+            final long millis = local - offset;
+
+            // Near transitions the local midnight can be skipped or repeated, so use the calendar rules.
+            if ((this.zone.getOffset(millis - TemporalDecoder.MILLIS_PER_DAY) == offset)
+                    && (this.zone.getOffset(millis + TemporalDecoder.MILLIS_PER_DAY) == offset)) {
+                return millis;
+            }
+        }
+        return DateUtils.sdnToGregorian(raw + (long) TemporalDecoder.SDN_START).getTime();
+    }
+
+    /**
+     * A date in cache.
+     */
+    private static final class DateEntry {
+
+        /**
+         * The raw date value.
+         */
+        private final int raw;
+
+        /**
+         * The local midnight milliseconds.
+         */
+        private final long millis;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param raw    the raw date value.
+         * @param millis the local midnight milliseconds.
+         */
+        DateEntry(final int raw, final long millis) {
+            this.raw = raw;
+            this.millis = millis;
+        }
+    }
+}
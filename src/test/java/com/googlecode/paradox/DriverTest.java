@@ -21,7 +21,7 @@ import java.util.Properties;
  * Unit test for {@link Driver}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public final class DriverTest {
@@ -107,9 +107,14 @@ public final class DriverTest {
     public void testPropertyInfo() {
         final Driver driver = new Driver();
         final DriverPropertyInfo[] info = driver.getPropertyInfo("jdbc:paradox:target/test-classes/", new Properties());
-        Assert.assertEquals(2, info.length);
+        Assert.assertEquals(9, info.length);
         Assert.assertEquals("charset", info[0].name);
         Assert.assertEquals("password", info[1].name);
+        Assert.assertEquals("memory_mapped", info[2].name);
+        Assert.assertEquals("parallelism", info[3].name);
+        Assert.assertEquals("result_mode", info[4].name);
+        Assert.assertEquals("string_cache", info[5].name);
+        Assert.assertEquals("prefetch", info[8].name);
     }
 
     /**
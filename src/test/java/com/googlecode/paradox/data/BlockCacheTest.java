@@ -0,0 +1,219 @@
+/*
+ * BlockCacheTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link BlockCache}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.1
+ */
+public class BlockCacheTest {
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Creates a block key for tests.
+     *
+     * @param position the block position.
+     * @return the block key.
+     */
+    private static BlockCache.BlockKey key(final long position) {
+        return new BlockCache.BlockKey("test", 1, 1, position, 1024);
+    }
+
+    /**
+     * Test the cached blocks and the budget.
+     */
+    @Test
+    public void testBudget() {
+        final BlockCache cache = new BlockCache(16 * 4 * 1024);
+        final BlockCache.BlockKey key = BlockCacheTest.key(0);
+        Assert.assertNull("Invalid block.", cache.get(key));
+
+        final byte[] data = new byte[1024];
+        cache.put(key, data);
+        Assert.assertSame("Invalid block.", data, cache.get(key));
+        Assert.assertNull("Invalid block.", cache.get(new BlockCache.BlockKey("test", 1, 2, 0, 1024)));
+
+        for (int loop = 1; loop < 1000; loop++) {
+            cache.put(BlockCacheTest.key(loop * 1024L), new byte[1024]);
+        }
+        Assert.assertTrue("Invalid cache size.", cache.getSize() <= cache.getCapacity());
+
+        cache.clear();
+        Assert.assertEquals("Invalid cache size.", 0, cache.getSize());
+    }
+
+    /**
+     * Test if a scan does not evict the blocks read more than once.
+     */
+    @Test
+    public void testScanResistance() {
+        final BlockCache cache = new BlockCache(16 * 8 * 1024);
+        final BlockCache.BlockKey hot = BlockCacheTest.key(0);
+        final byte[] data = new byte[1024];
+        cache.put(hot, data);
+        Assert.assertSame("Invalid block.", data, cache.get(hot));
+
+        for (int loop = 1; loop < 10000; loop++) {
+            cache.put(BlockCacheTest.key(loop * 1024L), new byte[1024]);
+        }
+        Assert.assertSame("Hot block evicted.", data, cache.get(hot));
+    }
+
+    /**
+     * Test if the cached reader returns the same data as the file.
+     *
+     * @throws IOException in case of failures.
+     */
+    @Test
+    public void testCachedReader() throws IOException {
+        final File file = new File("target/test-classes/db/AREACODES.DB");
+        final BlockCache cache = new BlockCache(1024 * 1024);
+        try (BlockReader channel = BlockReader.open(file, null);
+             BlockReader first = new CachedBlockReader(file, cache);
+             BlockReader second = new CachedBlockReader(file, cache)) {
+            final ByteBuffer expected = channel.read(2048, ByteBuffer.allocate(2048));
+            Assert.assertEquals("Invalid data.", expected, first.read(2048, ByteBuffer.allocate(2048)));
+            Assert.assertEquals("Invalid data.", expected, second.read(2048, ByteBuffer.allocate(2048)));
+            Assert.assertEquals("Invalid position.", 4096, second.position());
+            Assert.assertEquals("Invalid file size.", file.length(), second.size());
+        }
+        Assert.assertTrue("Block not cached.", cache.getSize() > 0);
+    }
+
+    /**
+     * Test if adjacent blocks read together are cached one by one.
+     *
+     * @throws IOException in case of failures.
+     */
+    @Test
+    public void testCachedBlocks() throws IOException {
+        final File file = new File("target/test-classes/db/AREACODES.DB");
+        final BlockCache cache = new BlockCache(1024 * 1024);
+        try (BlockReader channel = BlockReader.open(file, null);
+             BlockReader reader = new CachedBlockReader(file, cache)) {
+            final ByteBuffer expected = channel.read(2048, ByteBuffer.allocate(3 * 2048));
+            Assert.assertEquals("Invalid data.", expected, reader.readBlocks(2048, ByteBuffer.allocate(3 * 2048),
+                    2048));
+            for (int loop = 1; loop <= 3; loop++) {
+                Assert.assertNotNull("Block not cached.", cache.get(new BlockCache.BlockKey(file.getCanonicalPath(),
+                        file.length(), file.lastModified(), loop * 2048L, 2048)));
+            }
+            Assert.assertEquals("Multiple blocks cached.", 3 * 2048, cache.getSize());
+
+            // Other runs over the same blocks are found in cache.
+            final ByteBuffer second = channel.read(4096, ByteBuffer.allocate(2 * 2048));
+            Assert.assertEquals("Invalid data.", second, reader.readBlocks(4096, ByteBuffer.allocate(2 * 2048), 2048));
+            Assert.assertEquals("Invalid data.", channel.read(4096, ByteBuffer.allocate(2048)),
+                    reader.read(4096, ByteBuffer.allocate(2048)));
+            Assert.assertEquals("Blocks cached again.", 3 * 2048, cache.getSize());
+        }
+    }
+
+    /**
+     * Test a query with the block cache enabled.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testQuery() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.BLOCK_CACHE_KEY, "1024");
+        try (Connection conn = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info)) {
+            Assert.assertTrue("Cache not enabled.", BlockCache.getInstance().getCapacity() >= 1024 * 1024);
+            for (int loop = 0; loop < 2; loop++) {
+                int count = 0;
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("select * from areacodes")) {
+                    while (rs.next()) {
+                        count++;
+                    }
+                }
+                Assert.assertEquals("Invalid row count.", 370, count);
+            }
+        }
+    }
+
+    /**
+     * Test an invalid cache size.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidSize() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.BLOCK_CACHE_KEY, "-1");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Test a cache size that overflows in bytes.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testSizeOverflow() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.BLOCK_CACHE_KEY, "18014398509481985");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Test if only the connections that ask for the block cache use it.
+     *
+     * @throws Exception in case of failures.
+     */
+    @Test
+    public void testPerConnection() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Driver.BLOCK_CACHE_KEY, "1024");
+        final File file = new File("target/test-classes/db/AREACODES.DB");
+        try (ParadoxConnection cached = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING
+                + "db", info);
+             ParadoxConnection uncached = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING
+                     + "db")) {
+            Assert.assertEquals("Invalid cache size.", 1024 * 1024, cached.getBlockCacheSize());
+            Assert.assertEquals("Invalid cache size.", 0, uncached.getBlockCacheSize());
+            try (BlockReader reader = BlockReader.open(file, cached)) {
+                Assert.assertTrue("Cache not used.", reader instanceof CachedBlockReader);
+            }
+            try (BlockReader reader = BlockReader.open(file, uncached)) {
+                Assert.assertFalse("Cache used without block_cache.", reader instanceof CachedBlockReader);
+            }
+        }
+    }
+}
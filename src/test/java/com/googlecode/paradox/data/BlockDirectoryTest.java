@@ -0,0 +1,122 @@
+/*
+ * BlockDirectoryTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link BlockDirectory}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BlockDirectoryTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test the blocks and row counts of the directory.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDirectory() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "orders.db", this.conn).get(0);
+        final BlockDirectory directory = BlockDirectory.get(table);
+        Assert.assertEquals("Invalid block count.", table.getUsedBlocks(), directory.size());
+        Assert.assertEquals("Invalid first block.", table.getFirstBlock(), directory.getBlock(0));
+        Assert.assertEquals("Invalid last block.", table.getLastBlock(), directory.getBlock(directory.size() - 1));
+        Assert.assertEquals("Invalid position.", table.getHeaderSize()
+                + ((long) (directory.getBlock(0) - 1) * table.getBlockSizeBytes()), directory.getPosition(0));
+
+        int rows = 0;
+        for (int loop = 0; loop < directory.size(); loop++) {
+            rows += directory.getRows(loop);
+        }
+        Assert.assertEquals("Invalid row count.", table.getRowCount(), rows);
+        Assert.assertArrayEquals("Invalid blocks.", directory.getBlocks(), BlockDirectory.get(table).getBlocks());
+    }
+
+    /**
+     * Test if the directory is built again when the file changes.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testChangedFile() throws SQLException, IOException {
+        final File schema = Files.createTempDirectory("directory").toFile();
+        final File file = new File(schema, "AREACODES.DB");
+        try {
+            Files.copy(new File(this.conn.getCurrentSchema(), "AREACODES.DB").toPath(), file.toPath());
+            final ParadoxTable table = TableData.listTables(schema, "areacodes.db", this.conn).get(0);
+            final BlockDirectory directory = BlockDirectory.get(table);
+            Assert.assertSame("Directory not cached.", directory, BlockDirectory.get(table));
+
+            Assert.assertTrue("Invalid file time.", file.setLastModified(file.lastModified() - 10_000));
+            final BlockDirectory changed = BlockDirectory.get(table);
+            Assert.assertNotSame("Directory not built again.", directory, changed);
+            Assert.assertArrayEquals("Invalid blocks.", directory.getBlocks(), changed.getBlocks());
+            Assert.assertSame("Directory not cached.", changed, BlockDirectory.get(table));
+        } finally {
+            file.delete();
+            schema.delete();
+        }
+    }
+}
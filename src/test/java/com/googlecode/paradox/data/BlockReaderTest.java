@@ -0,0 +1,135 @@
+/*
+ * BlockReaderTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link BlockReader}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class BlockReaderTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Driver.MEMORY_MAPPED_KEY, "true");
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the readers of the same file share the mapping.
+     *
+     * @throws IOException in case of failures.
+     */
+    @Test
+    public void testSharedMapping() throws IOException {
+        final File file = new File(this.conn.getCurrentSchema(), "AREACODES.DB");
+        final int mapped = MappedFiles.size();
+        try (BlockReader first = BlockReader.open(file, this.conn);
+             BlockReader second = BlockReader.open(file, this.conn)) {
+            Assert.assertEquals("Invalid mapping count.", mapped + 1, MappedFiles.size());
+            Assert.assertEquals("Invalid file size.", file.length(), first.size());
+
+            final ByteBuffer a = first.read(0, ByteBuffer.allocate(16));
+            final ByteBuffer b = second.read(0, ByteBuffer.allocate(16));
+            Assert.assertEquals("Invalid data.", a, b);
+        }
+        Assert.assertEquals("Mapping not released.", mapped, MappedFiles.size());
+    }
+
+    /**
+     * Test the mapped and the channel readers return the same data.
+     *
+     * @throws IOException in case of failures.
+     */
+    @Test
+    public void testSameData() throws IOException {
+        final File file = new File(this.conn.getCurrentSchema(), "AREACODES.DB");
+        try (BlockReader mapped = BlockReader.open(file, this.conn);
+             BlockReader channel = BlockReader.open(file, null)) {
+            final ByteBuffer a = mapped.read(2048, ByteBuffer.allocate(2048));
+            final ByteBuffer b = channel.read(2048, ByteBuffer.allocate(2048));
+            Assert.assertEquals("Invalid data.", b, a);
+
+            final ByteBuffer c = ByteBuffer.allocate(10);
+            mapped.position(1);
+            Assert.assertEquals("Invalid read count.", 10, mapped.read(c));
+            Assert.assertEquals("Invalid position.", 11, mapped.position());
+        }
+    }
+
+    /**
+     * Test a query in memory mapped mode.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testQuery() throws SQLException {
+        int count = 0;
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select * from areacodes")) {
+            while (rs.next()) {
+                count++;
+            }
+        }
+        Assert.assertEquals("Invalid row count.", 370, count);
+    }
+}
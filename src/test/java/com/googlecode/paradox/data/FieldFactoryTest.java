@@ -19,7 +19,7 @@ import org.junit.Test;
  * Unit test for {@link FieldFactory} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class FieldFactoryTest {
@@ -42,6 +42,15 @@ public class FieldFactoryTest {
         Assert.assertTrue("Utility class in wrong format.", TestUtil.assertUtilityClassWellDefined(FieldFactory.class));
     }
     
+    /**
+     * Test for parser lookup.
+     */
+    @Test
+    public void testGetParser() {
+        Assert.assertNotNull("Invalid parser.", FieldFactory.getParser(1));
+        Assert.assertNull("Invalid parser.", FieldFactory.getParser(-1));
+    }
+    
     /**
      * Test for invalid field type.
      *
@@ -10,7 +10,10 @@ package com.googlecode.paradox.data;
 
 import com.googlecode.paradox.Driver;
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxIndex;
+import com.googlecode.paradox.metadata.ParadoxTable;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -18,12 +21,16 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
 
 /**
  * Unit test for {@link IndexData}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.3
  * @since 1.0
  */
 public class IndexDataTest {
@@ -75,4 +82,64 @@ public class IndexDataTest {
         Assert.assertNotEquals("Empty indexes.", 0,
                 IndexData.listIndexes(this.conn.getCurrentSchema(), "Client.db", this.conn));
     }
+
+    /**
+     * Test if the indexes are kept in the table.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testIndexesCached() throws SQLException {
+        final ParadoxTable table = this.conn.getTableCatalog().getTable(this.conn.getCurrentSchema(), "customer");
+        final List<ParadoxIndex> indexes = IndexData.getIndexes(table);
+        Assert.assertEquals("Invalid index count.", 1, indexes.size());
+        Assert.assertSame("Indexes not cached.", indexes, IndexData.getIndexes(table));
+    }
+
+    /**
+     * Test the table blocks found through a secondary index.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testFindBlocks() throws SQLException {
+        final ParadoxTable table = this.conn.getTableCatalog().getTable(this.conn.getCurrentSchema(), "customer");
+        final ParadoxIndex index = IndexData.getIndexes(table).get(0);
+        final int[] blocks = IndexData.findBlocks(table, index, new RowFilter() {
+            @Override
+            public boolean accept(final List<FieldValue> row) {
+                return "Scotts Valley".equals(row.get(0).getValue());
+            }
+        });
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{2, 3}, blocks);
+    }
+
+    /**
+     * Test the bounds of an alpha index, not supported since the keys are sorted by the table language driver.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testAlphaBounds() throws SQLException {
+        final ParadoxTable table = this.conn.getTableCatalog().getTable(this.conn.getCurrentSchema(), "customer");
+        Assert.assertNull("Invalid bound.", IndexData.findBound(table, IndexData.getIndexes(table).get(0), false));
+    }
+
+    /**
+     * Test a query through a secondary index.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testQuery() throws SQLException {
+        final int[] expected = {6, 8, 10, 11};
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select custno from customer where city = 'Scotts Valley'")) {
+            for (final int custNo : expected) {
+                Assert.assertTrue("Invalid row count.", rs.next());
+                Assert.assertEquals("Invalid value.", custNo, rs.getInt(1));
+            }
+            Assert.assertFalse("Invalid row count.", rs.next());
+        }
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * LazyTableCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you
+ * can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link LazyTableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class LazyTableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Driver.RESULT_MODE_KEY, "lazy");
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the lazy rows have the same values of the row cursor.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSameRows() throws SQLException {
+        for (final String name : new String[]{"areacodes.db", "orders.db", "server.db"}) {
+            final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+            final int[] columns = new int[table.getFields().size()];
+            for (int loop = 0; loop < columns.length; loop++) {
+                columns[loop] = loop;
+            }
+            Assert.assertEquals("Invalid rows.", LazyTableCursorTest.read(new TableCursor(table, table.getFields())),
+                    LazyTableCursorTest.read(new LazyTableCursor(table, table.getFields(), columns, null)));
+        }
+    }
+
+    /**
+     * Test if the values are decoded only once.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testMemoized() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        try (RowCursor cursor = new LazyTableCursor(table, table.getFields(), new int[]{1, 0}, null)) {
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            final List<FieldValue> row = cursor.getRow();
+            Assert.assertTrue("Invalid row type.", row instanceof LazyRow);
+            Assert.assertEquals("Invalid row size.", 2, row.size());
+            Assert.assertSame("Value not memoized.", row.get(0), row.get(0));
+            Assert.assertEquals("Invalid field.", table.getFields().get(1), row.get(0).getField());
+        }
+    }
+
+    /**
+     * Test the result set getters in lazy mode.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testResultSet() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select state, ac from areacodes where state = ny")) {
+            Assert.assertTrue("Invalid result set state.", rs.next());
+            Assert.assertEquals("Invalid value.", "NY", rs.getString(1));
+            Assert.assertFalse("Invalid null.", rs.wasNull());
+            Assert.assertNotNull("Invalid value.", rs.getString("ac"));
+        }
+    }
+
+    /**
+     * Test for invalid result mode.
+     *
+     * @throws SQLException in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidResultMode() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.RESULT_MODE_KEY, "invalid");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Reads all rows of a cursor as text.
+     *
+     * @param cursor the cursor to read.
+     * @return the rows as text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> rows = new ArrayList<>();
+        try (RowCursor rowCursor = cursor) {
+            while (rowCursor.next()) {
+                final StringBuilder builder = new StringBuilder();
+                for (final FieldValue value : rowCursor.getRow()) {
+                    builder.append(value.getType()).append(':').append(value.getValue()).append('|');
+                }
+                rows.add(builder.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * ParallelTableCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you
+ * can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link ParallelTableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public class ParallelTableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PARALLELISM_KEY, "3");
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the ordered mode keeps the table order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testOrdered() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final List<String> expected = ParallelTableCursorTest.read(new TableCursor(table, table.getFields()));
+        final RowCursor cursor = TableData.openCursor(table, table.getFields(), true);
+        Assert.assertTrue("Invalid cursor type.", cursor instanceof ParallelTableCursor);
+        Assert.assertEquals("Invalid rows.", expected, ParallelTableCursorTest.read(cursor));
+    }
+
+    /**
+     * Test if the unordered mode reads all rows.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testUnordered() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final List<String> expected = ParallelTableCursorTest.read(new TableCursor(table, table.getFields()));
+        final List<String> rows = ParallelTableCursorTest.read(TableData.openCursor(table, table.getFields(), false));
+        Collections.sort(expected);
+        Collections.sort(rows);
+        Assert.assertEquals("Invalid rows.", expected, rows);
+    }
+
+    /**
+     * Test the cursor reset.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        try (RowCursor cursor = TableData.openCursor(table, table.getFields(), true)) {
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            final Object first = cursor.getRow().get(0).getValue();
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            cursor.reset();
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            Assert.assertEquals("Invalid first row.", first, cursor.getRow().get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for invalid parallelism.
+     *
+     * @throws SQLException in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidParallelism() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PARALLELISM_KEY, "0");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test for parallelism above the thread pool limit.
+     *
+     * @throws SQLException in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testParallelismTooLarge() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PARALLELISM_KEY, "40000");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the grouped and sorted queries, read without the table order, have the same results of a serial read.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testUnorderedQueries() throws SQLException {
+        final String[] queries = {
+            "select state, count(*) from areacodes group by state order by state",
+            "select ac, state from areacodes order by state, ac",
+            "select count(*), min(ac), max(ac) from areacodes"
+        };
+        try (Connection serial = DriverManager.getConnection(MainTest.CONNECTION_STRING + "db")) {
+            for (final String query : queries) {
+                Assert.assertEquals("Invalid rows.", ParallelTableCursorTest.query(serial, query),
+                        ParallelTableCursorTest.query(this.conn, query));
+            }
+        }
+    }
+
+    /**
+     * Runs a query and reads all rows as text.
+     *
+     * @param conn  the connection to use.
+     * @param query the query to run.
+     * @return the rows as text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> query(final Connection conn, final String query) throws SQLException {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(query)) {
+            final int count = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                final StringBuilder builder = new StringBuilder();
+                for (int loop = 1; loop <= count; loop++) {
+                    builder.append(rs.getObject(loop)).append('|');
+                }
+                rows.add(builder.toString());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Reads all rows of a cursor as text.
+     *
+     * @param cursor the cursor to read.
+     * @return the rows as text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> rows = new ArrayList<>();
+        try (RowCursor rowCursor = cursor) {
+            while (rowCursor.next()) {
+                final StringBuilder builder = new StringBuilder();
+                for (final FieldValue value : rowCursor.getRow()) {
+                    builder.append(value.getValue()).append('|');
+                }
+                rows.add(builder.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * PrimaryKeyDataTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxPK;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit test for {@link PrimaryKeyData}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class PrimaryKeyDataTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Gets a table from the test database.
+     *
+     * @param name the table name.
+     * @return the table.
+     * @throws SQLException in case of failures.
+     */
+    private ParadoxTable getTable(final String name) throws SQLException {
+        return this.conn.getTableCatalog().getTable(this.conn.getCurrentSchema(), name);
+    }
+
+    /**
+     * Test the index tree header.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testHeader() throws SQLException {
+        final ParadoxTable table = this.getTable("orders");
+        final ParadoxPK pk = PrimaryKeyData.getPrimaryKey(table);
+        Assert.assertNotNull("Primary key not found.", pk);
+        Assert.assertEquals("Invalid root block.", 1, pk.getRootBlock());
+        Assert.assertEquals("Invalid index levels.", 1, pk.getIndexLevels());
+        Assert.assertEquals("Invalid key field count.", 1, pk.getKeyFieldCount());
+        Assert.assertSame("Primary key not cached.", pk, PrimaryKeyData.getPrimaryKey(table));
+    }
+
+    /**
+     * Test the blocks found for a key.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testPointLookup() throws SQLException {
+        final ParadoxTable table = this.getTable("orders");
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{1},
+                PrimaryKeyData.findBlocks(table, new KeyRange(1003, 1003)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{8},
+                PrimaryKeyData.findBlocks(table, new KeyRange(99999, 99999)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[0],
+                PrimaryKeyData.findBlocks(table, new KeyRange(1, 1)));
+    }
+
+    /**
+     * Test the blocks found for a key range.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRangeLookup() throws SQLException {
+        final ParadoxTable table = this.getTable("customer");
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{2, 3},
+                PrimaryKeyData.findBlocks(table, new KeyRange(7, 12)));
+        Assert.assertArrayEquals("Invalid blocks.", new int[]{1, 2, 3, 4},
+                PrimaryKeyData.findBlocks(table, KeyRange.ALL));
+    }
+
+    /**
+     * Test a table with alpha key, not supported by index lookups.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testAlphaKey() throws SQLException {
+        Assert.assertNull("Invalid blocks.", PrimaryKeyData.findBlocks(this.getTable("areacodes"), KeyRange.ALL));
+    }
+
+    /**
+     * Test the lowest and highest keys found in the index tree edges.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testBounds() throws SQLException {
+        final ParadoxTable customer = this.getTable("customer");
+        Assert.assertEquals("Invalid lowest key.", 1, PrimaryKeyData.findBound(customer, false).getValue());
+        Assert.assertEquals("Invalid highest key.", 20, PrimaryKeyData.findBound(customer, true).getValue());
+
+        final ParadoxTable orders = this.getTable("orders");
+        Assert.assertEquals("Invalid lowest key.", 1001.0, PrimaryKeyData.findBound(orders, false).getValue());
+        Assert.assertEquals("Invalid highest key.", 1669.0, PrimaryKeyData.findBound(orders, true).getValue());
+
+        Assert.assertNull("Invalid alpha key.", PrimaryKeyData.findBound(this.getTable("areacodes"), true));
+    }
+
+    /**
+     * Test a query by primary key.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testQuery() throws SQLException {
+        try (Statement stmt = this.conn.createStatement();
+             ResultSet rs = stmt.executeQuery("select custno from customer where custno > 7 and custno < 12")) {
+            for (int loop = 8; loop < 12; loop++) {
+                Assert.assertTrue("Invalid row count.", rs.next());
+                Assert.assertEquals("Invalid value.", loop, rs.getInt(1));
+            }
+            Assert.assertFalse("Invalid row count.", rs.next());
+        }
+    }
+}
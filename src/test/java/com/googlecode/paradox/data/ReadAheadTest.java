@@ -0,0 +1,235 @@
+/*
+ * ReadAheadTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Unit test for {@link ReadAhead}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.2
+ * @since 1.4.1
+ */
+public class ReadAheadTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PREFETCH_KEY, "2");
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the rows read ahead are the same rows read when needed.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSameRows() throws SQLException {
+        Assert.assertEquals("Invalid prefetch depth.", 2, this.conn.getPrefetch());
+        for (final String name : new String[] { "areacodes.db", "orders.db" }) {
+            final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+            final TableCursor cursor = new TableCursor(table, table.getFields());
+            cursor.setPrefetch(0);
+            Assert.assertEquals("Invalid rows.", ReadAheadTest.read(cursor),
+                    ReadAheadTest.read(new TableCursor(table, table.getFields())));
+        }
+    }
+
+    /**
+     * Test a block list out of file order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testBlockList() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final int[] chain = BlockDirectory.get(table).getBlocks();
+        final int[] blocks = new int[chain.length];
+        for (int loop = 0; loop < chain.length; loop++) {
+            blocks[loop] = chain[chain.length - loop - 1];
+        }
+
+        final TableCursor cursor = new TableCursor(table, table.getFields(), blocks, 1, blocks.length);
+        cursor.setPrefetch(0);
+        Assert.assertEquals("Invalid rows.", ReadAheadTest.read(cursor),
+                ReadAheadTest.read(new TableCursor(table, table.getFields(), blocks, 1, blocks.length)));
+    }
+
+    /**
+     * Test skipping rows and resetting the cursor, which starts the read-ahead again.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSkipAndReset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final List<String> expected = ReadAheadTest.read(new TableCursor(table, table.getFields()));
+        try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            Assert.assertEquals("Invalid rows skipped.", 150, cursor.skip(150));
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            Assert.assertEquals("Invalid row.", expected.get(151), ReadAheadTest.toString(cursor.getRow()));
+
+            cursor.reset();
+            Assert.assertEquals("Invalid rows.", expected, ReadAheadTest.read(cursor));
+        }
+    }
+
+    /**
+     * Test if a failure in the reading thread is given to the cursor instead of blocking it.
+     *
+     * @throws SQLException if the failure is given to the cursor.
+     */
+    @Test(expected = SQLException.class, timeout = 10_000)
+    public void testReadFailure() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+
+        // The range ends after the block list, so the reading thread fails with an unchecked exception.
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), new int[] { 1 }, 0, 3)) {
+            while (cursor.next()) {
+                Assert.assertNotNull("Invalid row.", cursor.getRow());
+            }
+        }
+    }
+
+    /**
+     * Test for invalid prefetch depth.
+     *
+     * @throws SQLException in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidPrefetch() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PREFETCH_KEY, "-1");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test for a prefetch depth too large.
+     *
+     * @throws SQLException in case of success.
+     */
+    @Test(expected = SQLException.class)
+    public void testPrefetchTooLarge() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PREFETCH_KEY, "2147483647");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+    }
+
+    /**
+     * Test if the largest prefetch depth reads the same rows, with no more windows than the table needs.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testLargestPrefetch() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.PREFETCH_KEY, "1024");
+        try (ParadoxConnection large = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING
+                + "db", info)) {
+            final ParadoxTable table = TableData.listTables(large.getCurrentSchema(), "orders.db", large).get(0);
+            final TableCursor cursor = new TableCursor(table, table.getFields());
+            cursor.setPrefetch(0);
+            Assert.assertEquals("Invalid rows.", ReadAheadTest.read(cursor),
+                    ReadAheadTest.read(new TableCursor(table, table.getFields())));
+        }
+    }
+
+    /**
+     * Test the count of windows needed by a range of blocks.
+     */
+    @Test
+    public void testCountWindows() {
+        Assert.assertEquals("Invalid window count.", 0, ReadAhead.countWindows(3, 3, 8));
+        Assert.assertEquals("Invalid window count.", 1, ReadAhead.countWindows(0, 1, 8));
+        Assert.assertEquals("Invalid window count.", 4, ReadAhead.countWindows(0, 8, 8));
+        Assert.assertEquals("Invalid window count.", 5, ReadAhead.countWindows(0, 20, 8));
+        Assert.assertEquals("Invalid window count.", 8, ReadAhead.countWindows(0, 8, 1));
+    }
+
+    /**
+     * Reads all rows of a cursor as text.
+     *
+     * @param cursor the cursor to read.
+     * @return the rows as text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> rows = new ArrayList<>();
+        try (RowCursor rowCursor = cursor) {
+            while (rowCursor.next()) {
+                rows.add(ReadAheadTest.toString(rowCursor.getRow()));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Converts a row to text.
+     *
+     * @param row the row.
+     * @return the row as text.
+     */
+    private static String toString(final List<FieldValue> row) {
+        final StringBuilder builder = new StringBuilder();
+        for (final FieldValue value : row) {
+            builder.append(value.getValue()).append('|');
+        }
+        return builder.toString();
+    }
+}
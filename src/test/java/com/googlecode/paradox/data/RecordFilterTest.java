@@ -0,0 +1,203 @@
+/*
+ * RecordFilterTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link RecordFilter}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class RecordFilterTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test the integer and double comparisons.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNumbers() throws SQLException {
+        final ParadoxTable table = this.getTable("general.db");
+        final ParadoxField id = table.findField("id");
+        final ParadoxField moneys = table.findField("moneys");
+
+        Assert.assertEquals("Invalid row count.", 1, this.count(table, id, RecordFilter.Operator.EQUALS, "2"));
+        Assert.assertEquals("Invalid row count.", 2, this.count(table, id, RecordFilter.Operator.NOT_EQUALS, "2"));
+        Assert.assertEquals("Invalid row count.", 2, this.count(table, id, RecordFilter.Operator.GREATER, "1"));
+        Assert.assertEquals("Invalid row count.", 1, this.count(table, moneys, RecordFilter.Operator.EQUALS, "150.0"));
+        Assert.assertEquals("Invalid row count.", 1, this.count(table, moneys, RecordFilter.Operator.LESS, "80"));
+    }
+
+    /**
+     * Test if equality compares the literal converted to the field type.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testEqualsAsNumber() throws SQLException {
+        final ParadoxTable table = this.getTable("general.db");
+        final ParadoxField id = table.findField("id");
+        final ParadoxField moneys = table.findField("moneys");
+
+        Assert.assertEquals("Invalid row count.", 1, this.count(table, moneys, RecordFilter.Operator.EQUALS, "150"));
+        Assert.assertEquals("Invalid row count.", 1, this.count(table, id, RecordFilter.Operator.EQUALS, "02"));
+        Assert.assertEquals("Invalid row count.", 0, this.count(table, id, RecordFilter.Operator.EQUALS, "abc"));
+        Assert.assertEquals("Invalid row count.", 3, this.count(table, id, RecordFilter.Operator.NOT_EQUALS, "abc"));
+    }
+
+    /**
+     * Test the date comparisons.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDates() throws SQLException {
+        final ParadoxTable table = this.getTable("customer.db");
+        final ParadoxField date = table.findField("dateentered");
+
+        Assert.assertEquals("Invalid row count.", 3,
+                this.count(table, date, RecordFilter.Operator.EQUALS, "1996-03-21"));
+        Assert.assertEquals("Invalid row count.", 3,
+                this.count(table, date, RecordFilter.Operator.EQUALS, "1996-3-21"));
+        Assert.assertEquals("Invalid row count.", 11,
+                this.count(table, date, RecordFilter.Operator.GREATER, "1996-03-21"));
+        Assert.assertEquals("Invalid row count.", 0,
+                this.count(table, date, RecordFilter.Operator.EQUALS, "21/03/1996"));
+        Assert.assertFalse("Invalid condition.",
+                new RecordFilter(table).add(date, RecordFilter.Operator.LESS, "1500-01-01", null));
+    }
+
+    /**
+     * Test the unsupported conditions.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testUnsupported() throws SQLException {
+        final ParadoxTable table = this.getTable("customer.db");
+        final RecordFilter filter = new RecordFilter(table);
+
+        Assert.assertFalse("Invalid condition.",
+                filter.add(table.findField("city"), RecordFilter.Operator.EQUALS, "Aptos", null));
+        Assert.assertFalse("Invalid condition.",
+                filter.add(table.findField("custno"), RecordFilter.Operator.GREATER, "abc", null));
+        Assert.assertEquals("Invalid condition count.", 0, filter.size());
+    }
+
+    /**
+     * Test the condition that rejects all records.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRejectAll() throws SQLException {
+        final ParadoxTable table = this.getTable("general.db");
+        final RecordFilter filter = new RecordFilter(table);
+        filter.addRejectAll();
+        Assert.assertEquals("Invalid row count.", 0, RecordFilterTest.count(table, filter));
+    }
+
+    /**
+     * Gets a table in the test database.
+     *
+     * @param name the table file name.
+     * @return the table.
+     * @throws SQLException in case of failures.
+     */
+    private ParadoxTable getTable(final String name) throws SQLException {
+        return TableData.listTables(this.conn.getCurrentSchema(), name, this.conn).get(0);
+    }
+
+    /**
+     * Counts the rows accepted by a single condition.
+     *
+     * @param table    the table to read.
+     * @param field    the field compared.
+     * @param operator the comparison.
+     * @param literal  the literal compared.
+     * @return the rows accepted.
+     * @throws SQLException in case of failures.
+     */
+    private int count(final ParadoxTable table, final ParadoxField field, final RecordFilter.Operator operator,
+            final String literal) throws SQLException {
+        final RecordFilter filter = new RecordFilter(table);
+        Assert.assertTrue("Invalid condition.", filter.add(field, operator, literal, null));
+        return RecordFilterTest.count(table, filter);
+    }
+
+    /**
+     * Counts the rows accepted by a filter.
+     *
+     * @param table  the table to read.
+     * @param filter the record filter.
+     * @return the rows accepted.
+     * @throws SQLException in case of failures.
+     */
+    private static int count(final ParadoxTable table, final RecordFilter filter) throws SQLException {
+        int count = 0;
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), null, 0, 0, filter)) {
+            while (cursor.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SpillFileTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link SpillFile}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class SpillFileTest {
+
+    /**
+     * Test the rows written and read back.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReadWrite() throws SQLException {
+        final Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        final Object blob = new Object();
+        final List<FieldValue> row = Arrays.asList(new FieldValue(1, Types.INTEGER), new FieldValue(2L, Types.BIGINT),
+                new FieldValue(1.5D, Types.DOUBLE), new FieldValue("text", Types.VARCHAR),
+                new FieldValue(Date.valueOf("2016-01-02"), Types.DATE), new FieldValue(new Time(5000L), Types.TIME),
+                new FieldValue(timestamp, Types.TIMESTAMP), new FieldValue(true, Types.BOOLEAN),
+                new FieldValue(blob, Types.BLOB), new FieldValue(Types.VARCHAR), null);
+
+        try (SpillFile file = new SpillFile()) {
+            file.write(row);
+            file.write(row.subList(0, 1));
+            Assert.assertEquals("Invalid row count.", 2, file.getRowCount());
+
+            for (int pass = 0; pass < 2; pass++) {
+                file.rewind();
+                final List<FieldValue> read = file.read();
+                Assert.assertEquals("Invalid row size.", row.size(), read.size());
+                for (int loop = 0; loop < row.size() - 1; loop++) {
+                    Assert.assertEquals("Invalid type.", row.get(loop).getType(), read.get(loop).getType());
+                    Assert.assertEquals("Invalid value.", row.get(loop).getValue(), read.get(loop).getValue());
+                }
+                Assert.assertSame("Invalid object.", blob, read.get(8).getValue());
+                Assert.assertNull("Invalid missing value.", read.get(row.size() - 1));
+                Assert.assertEquals("Invalid second row.", 1, file.read().size());
+                Assert.assertNull("Invalid end of file.", file.read());
+            }
+        }
+    }
+
+    /**
+     * Test the row size estimate.
+     */
+    @Test
+    public void testEstimateSize() {
+        final long small = SpillFile.estimateSize(Arrays.asList(new FieldValue("a", Types.VARCHAR)));
+        final long large = SpillFile.estimateSize(Arrays.asList(new FieldValue("abcdefghij", Types.VARCHAR)));
+        Assert.assertTrue("Invalid estimate.", large > small);
+    }
+}
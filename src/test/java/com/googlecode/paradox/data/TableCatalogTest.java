@@ -0,0 +1,126 @@
+/*
+ * TableCatalogTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.Driver;
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Unit test for {@link TableCatalog}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TableCatalogTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test if the tables are cached by name.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testCached() throws SQLException {
+        final TableCatalog catalog = this.conn.getTableCatalog();
+        final ParadoxTable table = catalog.getTable(this.conn.getCurrentSchema(), "areacodes");
+        Assert.assertNotNull("Table not found.", table);
+        Assert.assertEquals("Invalid table.", "AREACODES", table.getName());
+        Assert.assertSame("Table not cached.", table, catalog.getTable(this.conn.getCurrentSchema(), "AreaCodes"));
+    }
+
+    /**
+     * Test for a table not found.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNotFound() throws SQLException {
+        Assert.assertNull("Invalid table.", this.conn.getTableCatalog().getTable(this.conn.getCurrentSchema(),
+                "notfound"));
+    }
+
+    /**
+     * Test if a changed table file is read again.
+     *
+     * @throws SQLException in case of failures.
+     * @throws IOException  in case of I/O errors.
+     */
+    @Test
+    public void testChangedFile() throws SQLException, IOException {
+        final File schema = Files.createTempDirectory("catalog").toFile();
+        final File file = new File(schema, "AREACODES.DB");
+        try {
+            Files.copy(new File(this.conn.getCurrentSchema(), "AREACODES.DB").toPath(), file.toPath());
+            final TableCatalog catalog = this.conn.getTableCatalog();
+            final ParadoxTable table = catalog.getTable(schema, "areacodes");
+            Assert.assertNotNull("Table not found.", table);
+
+            Assert.assertTrue("Invalid file time.", file.setLastModified(file.lastModified() - 10_000));
+            final ParadoxTable changed = catalog.getTable(schema, "areacodes");
+            Assert.assertNotSame("Table not read again.", table, changed);
+            Assert.assertSame("Table not cached.", changed, catalog.getTable(schema, "areacodes"));
+
+            Assert.assertTrue("File not removed.", file.delete());
+            Assert.assertNull("Invalid table.", catalog.getTable(schema, "areacodes"));
+        } finally {
+            file.delete();
+            schema.delete();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * TableCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.utils.TemporalDecoder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Unit test for {@link TableCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.3
+ * @since 1.4.1
+ */
+public class TableCursorTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+    }
+
+    /**
+     * Test if the cursor reads all table rows.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReadAllRows() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        int count = 0;
+        try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+            while (cursor.next()) {
+                Assert.assertNotNull("Invalid row.", cursor.getRow());
+                count++;
+            }
+            Assert.assertNull("Invalid row after the end.", cursor.getRow());
+        }
+        Assert.assertEquals("Invalid row count.", table.getRowCount(), count);
+    }
+
+    /**
+     * Test the cursor reset.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testReset() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            final List<FieldValue> first = cursor.getRow();
+            while (cursor.next()) {
+                // Read the whole table.
+            }
+
+            cursor.reset();
+            Assert.assertTrue("Invalid cursor state.", cursor.next());
+            Assert.assertEquals("Invalid first row.", first.get(0).getValue(), cursor.getRow().get(0).getValue());
+        }
+    }
+
+    /**
+     * Test reading blocks out of file order, where the reads are merged in file order and the rows are returned in
+     * block list order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testBlockListOrder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final int[] chain = BlockDirectory.get(table).getBlocks();
+        final int[] blocks = new int[chain.length];
+        for (int loop = 0; loop < chain.length; loop++) {
+            blocks[loop] = chain[chain.length - loop - 1];
+        }
+
+        final List<Object> expected = new ArrayList<>();
+        for (int loop = 0; loop < blocks.length; loop++) {
+            try (TableCursor cursor = new TableCursor(table, table.getFields(), blocks, loop, loop + 1)) {
+                while (cursor.next()) {
+                    expected.add(cursor.getRow().get(0).getValue());
+                }
+            }
+        }
+
+        final List<Object> values = new ArrayList<>();
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), blocks, 0, blocks.length)) {
+            while (cursor.next()) {
+                values.add(cursor.getRow().get(0).getValue());
+            }
+        }
+        Assert.assertEquals("Invalid row count.", table.getRowCount(), values.size());
+        Assert.assertEquals("Invalid rows.", expected, values);
+    }
+
+    /**
+     * Test skipping rows, with whole blocks skipped by the block headers.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSkip() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        this.assertSkip(table, null);
+    }
+
+    /**
+     * Test skipping rows with a record filter.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSkipFiltered() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "orders.db", this.conn).get(0);
+        final RecordFilter filter = new RecordFilter(table);
+        Assert.assertTrue("Invalid filter.", filter.add(table.findField("ORDER NO"), RecordFilter.Operator.GREATER,
+                "1200", null));
+        this.assertSkip(table, filter);
+    }
+
+    /**
+     * Checks that skipping rows gives the same rows as reading them.
+     *
+     * @param table  the table to read.
+     * @param filter the record filter, or null.
+     * @throws SQLException in case of failures.
+     */
+    private void assertSkip(final ParadoxTable table, final RecordFilter filter) throws SQLException {
+        final List<Object> all = new ArrayList<>();
+        try (TableCursor cursor = new TableCursor(table, table.getFields(), null, 0, 0, filter)) {
+            while (cursor.next()) {
+                all.add(cursor.getRow().get(0).getValue());
+            }
+        }
+
+        for (final int count : new int[] { 0, 1, 10, 50, 200, all.size() - 1, all.size(), all.size() + 10 }) {
+            try (TableCursor cursor = new TableCursor(table, table.getFields(), null, 0, 0, filter)) {
+                Assert.assertEquals("Invalid rows skipped.", Math.min(count, all.size()), cursor.skip(count));
+                Assert.assertNull("Invalid row after skip.", cursor.getRow());
+                for (int loop = count; loop < all.size(); loop++) {
+                    Assert.assertTrue("Invalid cursor state.", cursor.next());
+                    Assert.assertEquals("Invalid row.", all.get(loop), cursor.getRow().get(0).getValue());
+                }
+                Assert.assertFalse("Invalid cursor state.", cursor.next());
+            }
+        }
+    }
+
+    /**
+     * Test if the date and time decoder is resolved once per cursor and follows the default time zone.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testTemporalDecoder() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "orders.db", this.conn).get(0);
+        final TimeZone zone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+                Assert.assertTrue("Invalid cursor state.", cursor.next());
+                Assert.assertSame("Decoder not reused.", table.getTemporalDecoder(), table.getTemporalDecoder());
+                Assert.assertSame("Invalid time zone.", table.getTemporalDecoder(),
+                        TemporalDecoder.getInstance());
+            }
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            try (TableCursor cursor = new TableCursor(table, table.getFields())) {
+                Assert.assertTrue("Invalid cursor state.", cursor.next());
+                Assert.assertSame("Time zone change ignored.", table.getTemporalDecoder(),
+                        TemporalDecoder.getInstance());
+            }
+        } finally {
+            TimeZone.setDefault(zone);
+        }
+    }
+}
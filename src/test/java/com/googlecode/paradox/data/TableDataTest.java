@@ -25,13 +25,14 @@ import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Unit test for {@link TableData}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 public class TableDataTest {
@@ -136,6 +137,26 @@ public class TableDataTest {
         Assert.assertNotNull("Error loading table list.", TableData.loadData(table, table.getFields()));
     }
 
+    /**
+     * Test for reading only some fields of a table.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testLoadSomeFields() throws SQLException {
+        final ParadoxTable table = TableData.listTables(this.conn.getCurrentSchema(), "areacodes.db", this.conn).get(0);
+        final ParadoxField field = table.getFields().get(table.getFields().size() - 1);
+        final List<List<FieldValue>> all = TableData.loadData(table, table.getFields());
+        final List<List<FieldValue>> data = TableData.loadData(table, Collections.singletonList(field));
+
+        Assert.assertEquals("Invalid row count.", all.size(), data.size());
+        for (int loop = 0; loop < data.size(); loop++) {
+            Assert.assertEquals("Invalid field count.", 1, data.get(loop).size());
+            Assert.assertEquals("Invalid field value.", all.get(loop).get(field.getOrderNum() - 1).getValue(),
+                    data.get(loop).get(0).getValue());
+        }
+    }
+
     /**
      * Test for orders table.
      *
@@ -0,0 +1,88 @@
+/*
+ * ColumnVectorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.data.table.value;
+
+import com.googlecode.paradox.utils.StringDecoder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.sql.SQLDataException;
+import java.sql.Types;
+
+/**
+ * Unit test for {@link ColumnVector} class.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class ColumnVectorTest {
+
+    /**
+     * Test for numeric values.
+     *
+     * @throws SQLDataException in case of errors.
+     */
+    @Test
+    public void testNumbers() throws SQLDataException {
+        final ColumnVector column = new ColumnVector(null, 100);
+        column.setInt(0, 10, Types.INTEGER);
+        column.setNull(70, Types.INTEGER);
+        Assert.assertEquals("Invalid value.", 10, column.getInt(0));
+        Assert.assertEquals("Invalid value.", 10L, column.getLong(0));
+        Assert.assertEquals("Invalid value.", 10D, column.getDouble(0), 0D);
+        Assert.assertFalse("Invalid null.", column.isNull(0));
+        Assert.assertTrue("Invalid null.", column.isNull(70));
+        Assert.assertEquals("Invalid value.", 0, column.getInt(70));
+
+        column.setInt(70, 5, Types.INTEGER);
+        Assert.assertFalse("Invalid null.", column.isNull(70));
+        Assert.assertEquals("Invalid value.", 5, column.getObject(70));
+    }
+
+    /**
+     * Test for string values.
+     */
+    @Test
+    public void testString() {
+        final ColumnVector column = new ColumnVector(null, 10);
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'a', 'b', 0, 0, 'c', 'd', 'e', 0});
+        column.setString(0, buffer, 4, new StringDecoder(Charset.forName("Cp437"), 0));
+        column.setString(1, buffer, 4, new StringDecoder(Charset.forName("Cp437"), 0));
+        Assert.assertEquals("Invalid position.", 8, buffer.position());
+        Assert.assertEquals("Invalid value.", "ab", column.getObject(0));
+        Assert.assertEquals("Invalid value.", "cde", column.getObject(1));
+        Assert.assertEquals("Invalid type.", Types.VARCHAR, column.getFieldValue(1).getType());
+    }
+
+    /**
+     * Test for numeric value in a string column.
+     *
+     * @throws SQLDataException in there are no errors.
+     */
+    @Test(expected = SQLDataException.class)
+    public void testInvalidNumber() throws SQLDataException {
+        final ColumnVector column = new ColumnVector(null, 10);
+        column.setString(0, ByteBuffer.wrap(new byte[]{'a'}), 1, new StringDecoder(Charset.forName("Cp437"), 0));
+        column.getInt(0);
+    }
+
+    /**
+     * Test for the batch clear.
+     */
+    @Test
+    public void testClear() {
+        final ColumnVector column = new ColumnVector(null, 10);
+        column.setNull(3, Types.DOUBLE);
+        column.clear();
+        Assert.assertFalse("Invalid null.", column.isNull(3));
+    }
+}
@@ -30,7 +30,7 @@ import java.util.Arrays;
  * Generic integration tests for Paradox Driver.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.2
  * @since 1.0
  */
 @Category(IntegrationTest.class)
@@ -234,6 +234,41 @@ public class MainTest {
         }
     }
 
+    /**
+     * Test the maximum count of rows of a statement, combined with LIMIT.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testMaxRows() throws SQLException {
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setMaxRows(2);
+            try (ResultSet rs = stmt.executeQuery("SELECT custno FROM customer LIMIT 5")) {
+                Assert.assertTrue("No first row", rs.next());
+                Assert.assertTrue("No second row", rs.next());
+                Assert.assertFalse("Too many rows", rs.next());
+            }
+
+            stmt.setMaxRows(10);
+            try (ResultSet rs = stmt.executeQuery("SELECT custno FROM customer LIMIT 1")) {
+                Assert.assertTrue("No first row", rs.next());
+                Assert.assertFalse("Too many rows", rs.next());
+            }
+        }
+    }
+
+    /**
+     * Test a negative maximum count of rows.
+     *
+     * @throws SQLException if test succeed.
+     */
+    @Test(expected = SQLException.class)
+    public void testNegativeMaxRows() throws SQLException {
+        try (Statement stmt = this.conn.createStatement()) {
+            stmt.setMaxRows(-1);
+        }
+    }
+
     /**
      * Test for unwrap impossible.
      *
@@ -9,14 +9,19 @@
 package com.googlecode.paradox.parser;
 
 import com.googlecode.paradox.parser.nodes.FieldNode;
+import com.googlecode.paradox.parser.nodes.FunctionNode;
+import com.googlecode.paradox.parser.nodes.JoinNode;
+import com.googlecode.paradox.parser.nodes.JoinType;
 import com.googlecode.paradox.parser.nodes.SQLNode;
 import com.googlecode.paradox.parser.nodes.SelectNode;
 import com.googlecode.paradox.parser.nodes.StatementNode;
 import com.googlecode.paradox.parser.nodes.comparisons.EqualsNode;
 import com.googlecode.paradox.parser.nodes.comparisons.NotEqualsNode;
 import com.googlecode.paradox.parser.nodes.conditional.ANDNode;
+import com.googlecode.paradox.parser.nodes.conditional.NOTNode;
 import com.googlecode.paradox.parser.nodes.values.CharacterNode;
 import com.googlecode.paradox.parser.nodes.values.NumericNode;
+import java.sql.SQLException;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +31,7 @@ import org.junit.Test;
  *
  * @author Leonardo Alves da Costa
  * @since 1.0
- * @version 1.1
+ * @version 1.6
  */
 public class SQLParserTest {
     
@@ -79,6 +84,28 @@ public class SQLParserTest {
         
         Assert.assertEquals(1, select.getTables().size());
         Assert.assertEquals("client", select.getTables().get(0).getName());
+        
+        final List<JoinNode> joins = select.getTables().get(0).getJoins();
+        Assert.assertEquals(2, joins.size());
+        Assert.assertEquals(JoinType.INNER, joins.get(0).getType());
+        Assert.assertEquals(3, joins.get(0).getConditions().size());
+        Assert.assertEquals(JoinType.LEFT, joins.get(1).getType());
+        Assert.assertEquals(1, joins.get(1).getConditions().size());
+    }
+    
+    /**
+     * Test for join followed by WHERE.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testJoinWhere() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client c join test t on c.id = t.id where c.a = 1");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        
+        Assert.assertEquals(1, select.getTables().get(0).getJoins().get(0).getConditions().size());
+        Assert.assertEquals(1, select.getConditions().size());
     }
     
     /**
@@ -246,4 +273,162 @@ public class SQLParserTest {
         Assert.assertEquals("c", ((EqualsNode) select.getConditions().get(0)).getLast().getTableName());
         Assert.assertEquals("b", ((EqualsNode) select.getConditions().get(0)).getLast().getName());
     }
+
+    /**
+     * Test the ORDER BY clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testOrderBy() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client c WHERE c.a = 1 ORDER BY c.a, b DESC, 3 ASC");
+        final List<StatementNode> list = parser.parse();
+        final SelectNode select = (SelectNode) list.get(0);
+
+        Assert.assertEquals(1, select.getConditions().size());
+        Assert.assertEquals(3, select.getOrder().size());
+        Assert.assertEquals("c.a", select.getOrder().get(0).getName());
+        Assert.assertTrue(select.isOrderAscending(0));
+        Assert.assertEquals("b", select.getOrder().get(1).getName());
+        Assert.assertFalse(select.isOrderAscending(1));
+        Assert.assertEquals("3", select.getOrder().get(2).getName());
+        Assert.assertTrue(select.isOrderAscending(2));
+    }
+
+    /**
+     * Test the aggregate functions and the GROUP BY clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testGroupBy() throws Exception {
+        final SQLParser parser = new SQLParser(
+                "SELECT c.a, COUNT(*), SUM(c.b) AS total FROM client c WHERE c.a = 1 GROUP BY c.a ORDER BY 2 DESC");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+
+        Assert.assertEquals(3, select.getFields().size());
+        final FunctionNode count = (FunctionNode) select.getFields().get(1);
+        Assert.assertEquals("COUNT", count.getName());
+        Assert.assertTrue(count.isAllRows());
+        Assert.assertEquals("COUNT(*)", count.getCall());
+        final FunctionNode sum = (FunctionNode) select.getFields().get(2);
+        Assert.assertEquals("SUM(c.b)", sum.getCall());
+        Assert.assertEquals("total", sum.getAlias());
+
+        Assert.assertEquals(1, select.getConditions().size());
+        Assert.assertEquals(1, select.getGroups().size());
+        Assert.assertEquals("c.a", select.getGroups().get(0).getName());
+        Assert.assertEquals(1, select.getOrder().size());
+    }
+
+    /**
+     * Test the LIMIT clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testLimit() throws Exception {
+        SQLParser parser = new SQLParser("SELECT a FROM client WHERE a > 1 ORDER BY a LIMIT 10");
+        SelectNode select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals(1, select.getConditions().size());
+        Assert.assertEquals(1, select.getOrder().size());
+        Assert.assertEquals(10, select.getLimit());
+
+        parser = new SQLParser("SELECT a FROM client c LIMIT 0");
+        select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals("c", select.getTables().get(0).getAlias());
+        Assert.assertEquals(0, select.getLimit());
+
+        parser = new SQLParser("SELECT a FROM client");
+        Assert.assertEquals(-1, ((SelectNode) parser.parse().get(0)).getLimit());
+    }
+
+    /**
+     * Test the TOP clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testTop() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT DISTINCT TOP 5 a, b FROM client");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals(2, select.getFields().size());
+        Assert.assertEquals(5, select.getLimit());
+    }
+
+    /**
+     * Test the OFFSET clause.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testOffset() throws Exception {
+        SQLParser parser = new SQLParser("SELECT a FROM client ORDER BY a LIMIT 10 OFFSET 20");
+        SelectNode select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals(10, select.getLimit());
+        Assert.assertEquals(20, select.getOffset());
+
+        parser = new SQLParser("SELECT a FROM client c WHERE a = 1 OFFSET 5");
+        select = (SelectNode) parser.parse().get(0);
+        Assert.assertEquals("c", select.getTables().get(0).getAlias());
+        Assert.assertEquals(1, select.getConditions().size());
+        Assert.assertEquals(-1, select.getLimit());
+        Assert.assertEquals(5, select.getOffset());
+    }
+
+    /**
+     * Test an invalid LIMIT row count.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidLimit() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT a FROM client LIMIT 1.5");
+        parser.parse();
+    }
+
+    /**
+     * Test the GROUP BY clause without BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testGroupWithoutBy() throws Exception {
+        new SQLParser("SELECT a FROM client GROUP a").parse();
+    }
+
+    /**
+     * Test the ORDER BY clause without BY.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testOrderWithoutBy() throws Exception {
+        new SQLParser("SELECT * FROM client ORDER a").parse();
+    }
+
+    /**
+     * Test the NOT condition.
+     *
+     * @throws Exception
+     *             in case of failures.
+     */
+    @Test
+    public void testNot() throws Exception {
+        final SQLParser parser = new SQLParser("SELECT * FROM client WHERE NOT a = 1 AND b = 2");
+        final SelectNode select = (SelectNode) parser.parse().get(0);
+
+        Assert.assertEquals(3, select.getConditions().size());
+        Assert.assertTrue(select.getConditions().get(0) instanceof NOTNode);
+        Assert.assertTrue(select.getConditions().get(0).getChildhood().iterator().next() instanceof EqualsNode);
+        Assert.assertTrue(select.getConditions().get(1) instanceof ANDNode);
+    }
 }
@@ -15,7 +15,7 @@ import org.junit.Test;
  * Unit test for {@link TokenType} class.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.4
  * @since 1.3
  */
 public class TokenTypeTest {
@@ -24,7 +24,8 @@ public class TokenTypeTest {
      * Used to test the conditional breaks.
      */
     private static final TokenType[] CONDITIONAL_BREAKS = { TokenType.ORDER, TokenType.HAVING, TokenType.RPAREN,
-            TokenType.LEFT, TokenType.RIGHT, TokenType.OUTER, TokenType.INNER, TokenType.JOIN };
+            TokenType.LEFT, TokenType.RIGHT, TokenType.OUTER, TokenType.INNER, TokenType.JOIN,
+            TokenType.WHERE, TokenType.COMMA, TokenType.GROUP, TokenType.LIMIT, TokenType.OFFSET };
     
     /**
      * Used to test the operator values.
@@ -10,6 +10,7 @@ package com.googlecode.paradox.planner;
 
 import com.googlecode.paradox.Driver;
 import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.table.value.FieldValue;
 import com.googlecode.paradox.integration.MainTest;
 import com.googlecode.paradox.parser.SQLParser;
 import com.googlecode.paradox.parser.nodes.IdentifierNode;
@@ -25,12 +26,14 @@ import org.junit.Test;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Properties;
 
 /**
  * Unit test for {@link Planner}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.1
+ * @version 1.12
  * @since 1.1
  */
 public class PlannerTest {
@@ -189,7 +192,7 @@ public class PlannerTest {
     }
 
     /**
-     * Test for SELECT plan with where notEquals clause.
+     * Test for SELECT plan with where notEquals clause. AND is evaluated before OR.
      *
      * @throws SQLException in case of errors.
      */
@@ -200,7 +203,57 @@ public class PlannerTest {
         final Planner planner = new Planner(this.conn);
         final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
         plan.execute();
-        Assert.assertEquals("Test the result size.", 0, plan.getValues().size());
+        Assert.assertEquals("Test the result size.", 2, plan.getValues().size());
+        Assert.assertEquals("Test the result value.", "315", plan.getValues().get(0).get(0).getValue());
+        Assert.assertEquals("Test the result value.", "917", plan.getValues().get(1).get(0).getValue());
+    }
+
+    /**
+     * Test for SELECT plan with NOT and XOR.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereNotXor() throws SQLException {
+        final SQLParser parser = new SQLParser(
+                "select ac from areacodes where state = ny xor ac < 320 and not state = ny");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        final List<List<FieldValue>> values = plan.getValues();
+
+        final SQLParser expectedParser = new SQLParser("select ac from areacodes where state = ny or ac < 320");
+        final SelectPlan expected = (SelectPlan) planner.create(expectedParser.parse().get(0),
+                this.conn.getCurrentSchema());
+        expected.execute();
+        Assert.assertEquals("Test the result size.", expected.getValues().size(), values.size());
+    }
+
+    /**
+     * Test for SELECT plan with a number compared to a literal of other format.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereNumberFormat() throws SQLException {
+        final SQLParser parser = new SQLParser("select id from general where moneys = 150 or id = 01");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the result size.", 2, plan.getValues().size());
+    }
+
+    /**
+     * Test for SELECT plan with an invalid number to compare.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testSelectWhereInvalidNumber() throws SQLException {
+        final SQLParser parser = new SQLParser("select id from general where moneys > abc");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
     }
 
     /**
@@ -248,4 +301,366 @@ public class PlannerTest {
         Assert.assertEquals("Field expected", "Cities", plan.getValues().get(0).get(2).getField().getName());
     }
 
+    /**
+     * Test for SELECT plan with where BETWEEN clause.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectWhereBetween() throws SQLException {
+        final SQLParser parser = new SQLParser("select ac from areacodes where state = ca and ac between 700 and 800");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the result size.", 6, plan.getValues().size());
+    }
+
+    /**
+     * Test for SELECT plan with ORDER BY in descending order.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectOrderByDescending() throws SQLException {
+        final SQLParser parser = new SQLParser("select ac, state from areacodes where state = ca order by ac desc");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        final List<List<FieldValue>> values = plan.getValues();
+        Assert.assertFalse("Test the result size.", values.isEmpty());
+        for (int loop = 1; loop < values.size(); loop++) {
+            Assert.assertTrue("Test the order.", values.get(loop - 1).get(0).getValue().toString()
+                    .compareTo(values.get(loop).get(0).getValue().toString()) >= 0);
+        }
+    }
+
+    /**
+     * Test for SELECT plan with ORDER BY a field not selected.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectOrderByNotSelected() throws SQLException {
+        final SQLParser parser = new SQLParser("select state from areacodes order by ac");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        Assert.assertEquals("Test the column count.", 1, plan.getColumns().size());
+        Assert.assertEquals("Test the row size.", 1, plan.getValues().get(0).size());
+    }
+
+    /**
+     * Test for SELECT plan with ORDER BY the primary key.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectOrderByPrimaryKey() throws SQLException {
+        final SQLParser parser = new SQLParser("select custno from customer order by custno");
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        final List<List<FieldValue>> values = plan.getValues();
+        Assert.assertFalse("Test the result size.", values.isEmpty());
+        for (int loop = 1; loop < values.size(); loop++) {
+            Assert.assertTrue("Test the order.", ((Number) values.get(loop - 1).get(0).getValue()).doubleValue()
+                    < ((Number) values.get(loop).get(0).getValue()).doubleValue());
+        }
+    }
+
+    /**
+     * Test for SELECT plan with INNER JOIN.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectInnerJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.execute(
+                "select g.name, d.decimal from general g inner join decimal d on g.id = d.decimal");
+        Assert.assertEquals("Test the result size.", 1, values.size());
+        Assert.assertEquals("Test the result value.", "Mari", values.get(0).get(0).getValue());
+        Assert.assertEquals("Test the result value.", 1D, values.get(0).get(1).getValue());
+    }
+
+    /**
+     * Test for SELECT plan with LEFT JOIN.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectLeftJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.execute(
+                "select g.id, d.decimal from general g left join decimal d on g.id = d.decimal order by 1");
+        Assert.assertEquals("Test the result size.", 3, values.size());
+        Assert.assertEquals("Test the result value.", 1D, values.get(0).get(1).getValue());
+        Assert.assertTrue("Test the null value.", values.get(1).get(1).isNull());
+        Assert.assertTrue("Test the null value.", values.get(2).get(1).isNull());
+    }
+
+    /**
+     * Test for SELECT plan with RIGHT JOIN and a condition over the joined table.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectRightJoin() throws SQLException {
+        final List<List<FieldValue>> values = this.execute(
+                "select g.id, d.decimal from general g right join decimal d on g.id = d.decimal and g.name = 'Katty'");
+        Assert.assertEquals("Test the result size.", 9, values.size());
+        for (final List<FieldValue> row : values) {
+            Assert.assertTrue("Test the null value.", row.get(0).isNull());
+        }
+    }
+
+    /**
+     * Test for SELECT plan with a table list joined by WHERE.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectTableList() throws SQLException {
+        Assert.assertEquals("Test the result size.", 27,
+                this.execute("select g.id, d.decimal from general g, decimal d").size());
+        final List<List<FieldValue>> values = this.execute(
+                "select g.id, d.decimal from general g, decimal d where g.id = d.decimal and d.decimal > 0");
+        Assert.assertEquals("Test the result size.", 1, values.size());
+        Assert.assertEquals("Test the result value.", 1, ((Number) values.get(0).get(0).getValue()).intValue());
+    }
+
+    /**
+     * Test for SELECT plan with a join larger than the work memory.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectJoinSpill() throws SQLException {
+        final String sql = "select c.custno, a.ac from customer c join areacodes a on c.\"STATE/PROV\" = a.state "
+                + "where c.custno < 3";
+        final int size = this.execute(sql).size();
+        Assert.assertTrue("Test the result size.", size > 0);
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1");
+        this.conn.close();
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+        Assert.assertEquals("Test the result size.", size, this.execute(sql).size());
+    }
+
+    /**
+     * Test for SELECT plan with ORDER BY larger than the work memory.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectOrderBySpill() throws SQLException {
+        final String sql = "select ac, state from areacodes order by state desc, ac";
+        final List<List<FieldValue>> expected = this.execute(sql);
+        Assert.assertFalse("Test the result size.", expected.isEmpty());
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1");
+        this.conn.close();
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+        final List<List<FieldValue>> values = this.execute(sql);
+        Assert.assertEquals("Test the result size.", expected.size(), values.size());
+        for (int loop = 0; loop < values.size(); loop++) {
+            Assert.assertEquals("Test the order.", expected.get(loop).get(0).getValue(),
+                    values.get(loop).get(0).getValue());
+        }
+    }
+
+    /**
+     * Test for SELECT plan with aggregate functions.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectAggregate() throws SQLException {
+        final List<List<FieldValue>> values = this.execute(
+                "select count(*), min(custno), max(custno), sum(custno), average(custno) from customer");
+        Assert.assertEquals("Test the result size.", 1, values.size());
+        Assert.assertEquals("Test the count.", 20L, values.get(0).get(0).getValue());
+        Assert.assertEquals("Test the minimum.", 1, ((Number) values.get(0).get(1).getValue()).intValue());
+        Assert.assertEquals("Test the maximum.", 20, ((Number) values.get(0).get(2).getValue()).intValue());
+        Assert.assertEquals("Test the sum.", 210L, values.get(0).get(3).getValue());
+        Assert.assertEquals("Test the average.", 10.5D, values.get(0).get(4).getValue());
+    }
+
+    /**
+     * Test for the AVG alias of the average function.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectAvg() throws SQLException {
+        final List<List<FieldValue>> values = this.execute("select avg(custno), AVG(custno) from customer");
+        Assert.assertEquals("Test the result size.", 1, values.size());
+        Assert.assertEquals("Test the average.", 10.5D, values.get(0).get(0).getValue());
+        Assert.assertEquals("Test the average.", 10.5D, values.get(0).get(1).getValue());
+    }
+
+    /**
+     * Test for SELECT plan with aggregates found in the table metadata, compared to the aggregates of the rows read.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectMetadataAggregate() throws SQLException {
+        final String[] tables = {"customer", "orders"};
+        final String[] keys = {"custno", "\"order no\""};
+        for (int loop = 0; loop < tables.length; loop++) {
+            final String sql = "select count(*), min(" + keys[loop] + "), max(" + keys[loop] + ") from "
+                    + tables[loop];
+            final List<FieldValue> expected = this.execute(sql + " where " + keys[loop] + " > 0").get(0);
+            final List<FieldValue> values = this.execute(sql).get(0);
+            for (int column = 0; column < expected.size(); column++) {
+                Assert.assertEquals("Test the value.", expected.get(column).getValue(), values.get(column).getValue());
+            }
+        }
+    }
+
+    /**
+     * Test for SELECT plan with LIMIT and TOP.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectLimit() throws SQLException {
+        List<List<FieldValue>> values = this.execute("select custno from customer limit 5");
+        Assert.assertEquals("Test the result size.", 5, values.size());
+        for (int loop = 0; loop < values.size(); loop++) {
+            Assert.assertEquals("Test the value.", loop + 1, ((Number) values.get(loop).get(0).getValue()).intValue());
+        }
+
+        values = this.execute("select top 3 custno from customer order by firstname desc, custno");
+        final List<List<FieldValue>> sorted = this.execute("select custno from customer order by firstname desc, "
+                + "custno");
+        Assert.assertEquals("Test the result size.", 3, values.size());
+        for (int loop = 0; loop < values.size(); loop++) {
+            Assert.assertEquals("Test the value.", sorted.get(loop).get(0).getValue(), values.get(loop).get(0)
+                    .getValue());
+        }
+
+        values = this.execute("select state, count(*) from areacodes group by state order by 2 desc limit 2");
+        Assert.assertEquals("Test the result size.", 2, values.size());
+        Assert.assertEquals("Test the value.", "CA", values.get(0).get(0).getValue());
+
+        Assert.assertTrue("Test the result size.", this.execute("select ac from areacodes limit 0").isEmpty());
+    }
+
+    /**
+     * Test for SELECT plan with OFFSET.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectOffset() throws SQLException {
+        final String[] queries = { "select ac, state from areacodes", "select ac from areacodes where ac > 500",
+            "select ac, state from areacodes order by state desc, ac", "select custno from customer" };
+        for (final String sql : queries) {
+            final List<List<FieldValue>> all = this.execute(sql);
+            for (final int offset : new int[] { 1, 7, 100, 365, 400 }) {
+                final List<List<FieldValue>> page = this.execute(sql + " limit 4 offset " + offset);
+                final List<List<FieldValue>> rest = this.execute(sql + " offset " + offset);
+                final int from = Math.min(offset, all.size());
+                Assert.assertEquals("Test the result size.", Math.min(4, all.size() - from), page.size());
+                Assert.assertEquals("Test the result size.", all.size() - from, rest.size());
+                for (int loop = 0; loop < rest.size(); loop++) {
+                    Assert.assertEquals("Test the value.", all.get(from + loop).get(0).getValue(),
+                            rest.get(loop).get(0).getValue());
+                    if (loop < page.size()) {
+                        Assert.assertEquals("Test the value.", all.get(from + loop).get(0).getValue(),
+                                page.get(loop).get(0).getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test for SELECT plan with GROUP BY.
+     *
+     * @throws SQLException in case of errors.
+     */
+    @Test
+    public void testSelectGroupBy() throws SQLException {
+        final String sql = "select state, count(*) as total from areacodes group by state order by state";
+        final List<List<FieldValue>> values = this.execute(sql);
+        Assert.assertTrue("Test the result size.", values.size() > 1);
+        long total = 0;
+        for (int loop = 0; loop < values.size(); loop++) {
+            total += (Long) values.get(loop).get(1).getValue();
+            if (loop > 0) {
+                Assert.assertTrue("Test the order.", values.get(loop - 1).get(0).getValue().toString()
+                        .compareTo(values.get(loop).get(0).getValue().toString()) < 0);
+            }
+        }
+        Assert.assertEquals("Test the row count.", this.execute("select count(*) from areacodes").get(0).get(0)
+                .getValue(), total);
+
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "1");
+        this.conn.close();
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info);
+        Assert.assertEquals("Test the result size.", values.size(), this.execute(sql).size());
+    }
+
+    /**
+     * Test for SELECT plan with a column not in GROUP BY.
+     *
+     * @throws SQLException if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testSelectNotGrouped() throws SQLException {
+        this.execute("select state, ac, count(*) from areacodes group by state");
+    }
+
+    /**
+     * Test for SELECT plan with an invalid function.
+     *
+     * @throws SQLException if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testSelectInvalidFunction() throws SQLException {
+        this.execute("select total(ac) from areacodes");
+    }
+
+    /**
+     * Test for invalid work memory size.
+     *
+     * @throws SQLException if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testInvalidWorkMemory() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "0");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Test for a work memory size that overflows in bytes.
+     *
+     * @throws SQLException if there is no errors.
+     */
+    @Test(expected = SQLException.class)
+    public void testWorkMemoryOverflow() throws SQLException {
+        final Properties info = new Properties();
+        info.setProperty(Driver.WORK_MEMORY_KEY, "18014398509481985");
+        DriverManager.getConnection(MainTest.CONNECTION_STRING + "db", info).close();
+    }
+
+    /**
+     * Plans and executes a query.
+     *
+     * @param sql the query.
+     * @return the query rows.
+     * @throws SQLException in case of errors.
+     */
+    private List<List<FieldValue>> execute(final String sql) throws SQLException {
+        final SQLParser parser = new SQLParser(sql);
+        final Planner planner = new Planner(this.conn);
+        final SelectPlan plan = (SelectPlan) planner.create(parser.parse().get(0), this.conn.getCurrentSchema());
+        plan.execute();
+        return plan.getValues();
+    }
 }
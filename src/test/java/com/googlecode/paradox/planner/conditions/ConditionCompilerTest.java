@@ -0,0 +1,204 @@
+/*
+ * ConditionCompilerTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you
+ * can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.conditions;
+
+import com.googlecode.paradox.ParadoxConnection;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.TableData;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.integration.MainTest;
+import com.googlecode.paradox.metadata.ParadoxField;
+import com.googlecode.paradox.metadata.ParadoxTable;
+import com.googlecode.paradox.parser.SQLParser;
+import com.googlecode.paradox.parser.nodes.SelectNode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link ConditionCompiler}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.1
+ * @since 1.4.1
+ */
+public class ConditionCompilerTest {
+
+    /**
+     * The database connection.
+     */
+    private ParadoxConnection conn;
+
+    /**
+     * The table used in conditions.
+     */
+    private ParadoxTable table;
+
+    /**
+     * Register the driver.
+     *
+     * @throws ClassNotFoundException in case of connection errors.
+     */
+    @BeforeClass
+    public static void initClass() throws ClassNotFoundException {
+        Class.forName(Driver.class.getName());
+    }
+
+    /**
+     * Used to close the test connection.
+     *
+     * @throws Exception in case closing of errors.
+     */
+    @After
+    public void closeConnection() throws Exception {
+        if (this.conn != null) {
+            this.conn.close();
+        }
+    }
+
+    /**
+     * Connect to test database.
+     *
+     * @throws Exception in case of connection errors.
+     */
+    @Before
+    public void connect() throws Exception {
+        this.conn = (ParadoxConnection) DriverManager.getConnection(MainTest.CONNECTION_STRING + "db");
+        this.table = TableData.listTables(this.conn.getCurrentSchema(), "general.db", this.conn).get(0);
+    }
+
+    /**
+     * Test if AND is evaluated before OR.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testPrecedence() throws SQLException {
+        final RowFilter filter = this.compile("id = 1 or id = 2 and name = x");
+        Assert.assertTrue("Invalid result.", filter.accept(ConditionCompilerTest.row(1, "a", 1)));
+        Assert.assertFalse("Invalid result.", filter.accept(ConditionCompilerTest.row(2, "a", 1)));
+        Assert.assertTrue("Invalid result.", filter.accept(ConditionCompilerTest.row(2, "X", 1)));
+    }
+
+    /**
+     * Test the NOT and XOR conditions.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNotXor() throws SQLException {
+        final RowFilter filter = this.compile("not id = 1 xor moneys > 100");
+        Assert.assertTrue("Invalid result.", filter.accept(ConditionCompilerTest.row(2, "a", 50)));
+        Assert.assertFalse("Invalid result.", filter.accept(ConditionCompilerTest.row(2, "a", 150)));
+        Assert.assertTrue("Invalid result.", filter.accept(ConditionCompilerTest.row(1, "a", 150)));
+        Assert.assertFalse("Invalid result.", filter.accept(ConditionCompilerTest.row(1, "a", 50)));
+    }
+
+    /**
+     * Test the text comparisons.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testText() throws SQLException {
+        Assert.assertTrue("Invalid result.", this.compile("name = mari").accept(ConditionCompilerTest.row(1,
+                "Mari", 1)));
+        Assert.assertTrue("Invalid result.", this.compile("name between a and n").accept(ConditionCompilerTest.row(1,
+                "Mari", 1)));
+        Assert.assertTrue("Invalid result.", this.compile("name < 20").accept(ConditionCompilerTest.row(1, "3", 1)));
+        Assert.assertFalse("Invalid result.", this.compile("name < 20").accept(ConditionCompilerTest.row(1, "x", 1)));
+    }
+
+    /**
+     * Test the null values.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testNull() throws SQLException {
+        final List<FieldValue> row = Arrays.asList(new FieldValue(Types.INTEGER), new FieldValue("a", Types.VARCHAR),
+                new FieldValue(1D, Types.DOUBLE));
+        Assert.assertFalse("Invalid result.", this.compile("id = 1").accept(row));
+        Assert.assertFalse("Invalid result.", this.compile("id <> 1").accept(row));
+    }
+
+    /**
+     * Test the comparisons between two fields.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testFieldComparison() throws SQLException {
+        final RowFilter filter = this.compile("moneys > general.id");
+        Assert.assertTrue("Invalid result.", filter.accept(ConditionCompilerTest.row(1, "a", 5)));
+        Assert.assertFalse("Invalid result.", filter.accept(ConditionCompilerTest.row(5, "a", 1)));
+        Assert.assertTrue("Invalid result.", this.compile("id = general.moneys").accept(ConditionCompilerTest.row(1,
+                "a", 1)));
+
+        final List<FieldValue> row = Arrays.asList(new FieldValue(Types.INTEGER), new FieldValue("a", Types.VARCHAR),
+                new FieldValue(1D, Types.DOUBLE));
+        Assert.assertFalse("Invalid result.", this.compile("moneys <> general.id").accept(row));
+    }
+
+    /**
+     * Test an operator without condition.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test(expected = SQLException.class)
+    public void testMissingCondition() throws SQLException {
+        this.compile("id = 1 and or id = 2");
+    }
+
+    /**
+     * Compiles a WHERE clause over all fields of the general table.
+     *
+     * @param where the WHERE clause.
+     * @return the compiled conditions.
+     * @throws SQLException in case of failures.
+     */
+    private RowFilter compile(final String where) throws SQLException {
+        final SelectNode select = (SelectNode) new SQLParser("select * from general where " + where).parse().get(0);
+        final ParadoxTable general = this.table;
+        final ConditionCompiler compiler = new ConditionCompiler(new ConditionCompiler.FieldResolver() {
+            @Override
+            public ParadoxField findField(final String name) throws SQLException {
+                final ParadoxField field = general.findField(name.substring(name.indexOf('.') + 1));
+                if (field == null) {
+                    throw new SQLException(name);
+                }
+                return field;
+            }
+        }, general, new int[] { 0, 1, 2 });
+        return compiler.compile(select.getConditions());
+    }
+
+    /**
+     * Creates a row of the general table.
+     *
+     * @param id     the id.
+     * @param name   the name.
+     * @param moneys the moneys.
+     * @return the row.
+     */
+    private static List<FieldValue> row(final int id, final String name, final double moneys) {
+        return Arrays.asList(new FieldValue(id, Types.INTEGER), new FieldValue(name, Types.VARCHAR),
+                new FieldValue(moneys, Types.DOUBLE));
+    }
+}
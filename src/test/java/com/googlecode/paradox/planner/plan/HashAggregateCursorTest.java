@@ -0,0 +1,171 @@
+/*
+ * HashAggregateCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you
+ * can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free
+ * Software Foundation, either version 3 of the License, or (at your option) any later version. This program is
+ * distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should
+ * have received a copy of the GNU General Public License along with this program. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.procedures.AbstractAggregateProcedure;
+import com.googlecode.paradox.procedures.math.Average;
+import com.googlecode.paradox.procedures.math.Count;
+import com.googlecode.paradox.procedures.math.Max;
+import com.googlecode.paradox.procedures.math.Min;
+import com.googlecode.paradox.procedures.math.Sum;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link HashAggregateCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class HashAggregateCursorTest {
+
+    /**
+     * The functions tested: COUNT(*), COUNT, SUM, MIN, MAX and AVERAGE of the second value.
+     */
+    private static final AbstractAggregateProcedure[] FUNCTIONS = {new Count(), new Count(), new Sum(), new Min(),
+        new Max(), new Average()};
+
+    /**
+     * The function arguments.
+     */
+    private static final int[] ARGUMENTS = {-1, 1, 1, 1, 1, 1};
+
+    /**
+     * The function argument types.
+     */
+    private static final int[] TYPES = {Types.NULL, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+        Types.INTEGER};
+
+    /**
+     * Test the aggregation by group.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testGroups() throws SQLException {
+        final Object[][] rows = {{"a", 1}, {"b", 2}, {"a", 3}, {null, 4}, {"b", null}, {"a", 5}};
+        final List<String> expected = Arrays.asList("a 3 3 9 1 5 3.0", "b 2 1 2 2 2 2.0", "null 1 1 4 4 4 4.0");
+        this.check(rows, new int[]{0}, expected);
+    }
+
+    /**
+     * Test the aggregation without GROUP BY.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testSingleGroup() throws SQLException {
+        final Object[][] rows = {{"a", 1}, {"b", 2}, {"c", null}};
+        this.check(rows, new int[0], Collections.singletonList("3 2 3 1 2 1.5"));
+    }
+
+    /**
+     * Test the aggregation of no rows without GROUP BY.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testEmpty() throws SQLException {
+        this.check(new Object[0][], new int[0], Collections.singletonList("0 0 null null null null"));
+        this.check(new Object[0][], new int[]{0}, Collections.<String>emptyList());
+    }
+
+    /**
+     * Test the aggregation of more groups than the work memory holds.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testManyGroups() throws SQLException {
+        final Object[][] rows = new Object[3000][];
+        final List<String> expected = new ArrayList<>();
+        for (int loop = 0; loop < rows.length; loop++) {
+            rows[loop] = new Object[]{"g" + (loop % 1000), loop};
+        }
+        for (int loop = 0; loop < 1000; loop++) {
+            final int sum = (loop * 3) + 3000;
+            expected.add(String.format("g%d 3 3 %d %d %d %s", loop, sum, loop, loop + 2000, (double) sum / 3));
+        }
+        Collections.sort(expected);
+        this.check(rows, new int[]{0}, expected);
+    }
+
+    /**
+     * Checks an aggregation in memory and spilled to temporary files.
+     *
+     * @param rows           the rows to aggregate.
+     * @param groupPositions the GROUP BY positions.
+     * @param expected       the expected rows, sorted.
+     * @throws SQLException in case of failures.
+     */
+    private void check(final Object[][] rows, final int[] groupPositions, final List<String> expected)
+            throws SQLException {
+        for (final long memory : new long[]{Long.MAX_VALUE, 1}) {
+            try (RowCursor cursor = new HashAggregateCursor(HashAggregateCursorTest.cursor(rows), groupPositions,
+                    HashAggregateCursorTest.FUNCTIONS, HashAggregateCursorTest.ARGUMENTS,
+                    HashAggregateCursorTest.TYPES, memory)) {
+                Assert.assertEquals("Invalid rows.", expected, HashAggregateCursorTest.read(cursor));
+
+                // Reads again after reset.
+                cursor.reset();
+                Assert.assertEquals("Invalid rows after reset.", expected, HashAggregateCursorTest.read(cursor));
+            }
+        }
+    }
+
+    /**
+     * Reads all rows of a cursor as sorted text.
+     *
+     * @param cursor the cursor.
+     * @return the rows as sorted text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> ret = new ArrayList<>();
+        while (cursor.next()) {
+            final StringBuilder builder = new StringBuilder();
+            for (final FieldValue value : cursor.getRow()) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(value.getValue());
+            }
+            ret.add(builder.toString());
+        }
+        Collections.sort(ret);
+        return ret;
+    }
+
+    /**
+     * Creates a cursor over rows with a group value and an integer value.
+     *
+     * @param values the row values.
+     * @return the cursor.
+     */
+    private static RowCursor cursor(final Object[][] values) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (final Object[] value : values) {
+            rows.add(Arrays.asList(new FieldValue(value[0], Types.VARCHAR), new FieldValue(value[1],
+                    Types.INTEGER)));
+        }
+        return new ListCursor(rows);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * HashJoinCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.RowFilter;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import com.googlecode.paradox.parser.nodes.JoinType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit test for {@link HashJoinCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class HashJoinCursorTest {
+
+    /**
+     * The join values of the left rows.
+     */
+    private static final Object[] LEFT = {1, 2, 2, null, 4};
+
+    /**
+     * The join values of the right rows.
+     */
+    private static final Object[] RIGHT = {2, 3, null, 4D};
+
+    /**
+     * Test the inner join.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testInner() throws SQLException {
+        final List<String> expected = Arrays.asList("2 L1 2 R0", "2 L2 2 R0", "4 L4 4.0 R3");
+        this.check(JoinType.INNER, null, expected);
+    }
+
+    /**
+     * Test the left join.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testLeft() throws SQLException {
+        final List<String> expected = Arrays.asList("1 L0 null null", "2 L1 2 R0", "2 L2 2 R0", "4 L4 4.0 R3",
+                "null L3 null null");
+        this.check(JoinType.LEFT, null, expected);
+    }
+
+    /**
+     * Test the right join.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testRight() throws SQLException {
+        final List<String> expected = Arrays.asList("2 L1 2 R0", "2 L2 2 R0", "4 L4 4.0 R3", "null null 3 R1",
+                "null null null R2");
+        this.check(JoinType.RIGHT, null, expected);
+    }
+
+    /**
+     * Test the join conditions checked in the joined rows.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testResidual() throws SQLException {
+        final RowFilter filter = new RowFilter() {
+            @Override
+            public boolean accept(final List<FieldValue> row) {
+                return !"L1".equals(row.get(1).getValue());
+            }
+        };
+        final List<String> expected = Arrays.asList("1 L0 null null", "2 L1 null null", "2 L2 2 R0", "4 L4 4.0 R3",
+                "null L3 null null");
+        this.check(JoinType.LEFT, filter, expected);
+    }
+
+    /**
+     * Test the join without keys.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testCross() throws SQLException {
+        try (RowCursor cursor = new HashJoinCursor(HashJoinCursorTest.cursor(HashJoinCursorTest.LEFT, "L"),
+                HashJoinCursorTest.cursor(HashJoinCursorTest.RIGHT, "R"), new int[0], new int[0],
+                HashJoinCursorTest.nulls(), HashJoinCursorTest.nulls(), null, JoinType.CROSS, true, 1, 5)) {
+            Assert.assertEquals("Invalid row count.", 20, HashJoinCursorTest.read(cursor).size());
+        }
+    }
+
+    /**
+     * Checks a join in memory and split in temporary files, loading each side in memory.
+     *
+     * @param type     the join type.
+     * @param residual the join conditions checked in the joined rows.
+     * @param expected the expected rows, sorted.
+     * @throws SQLException in case of failures.
+     */
+    private void check(final JoinType type, final RowFilter residual, final List<String> expected)
+            throws SQLException {
+        for (final long memory : new long[]{Long.MAX_VALUE, 1}) {
+            for (final boolean buildLeft : new boolean[]{true, false}) {
+                try (RowCursor cursor = new HashJoinCursor(HashJoinCursorTest.cursor(HashJoinCursorTest.LEFT, "L"),
+                        HashJoinCursorTest.cursor(HashJoinCursorTest.RIGHT, "R"), new int[]{0}, new int[]{0},
+                        HashJoinCursorTest.nulls(), HashJoinCursorTest.nulls(), residual, type, buildLeft, memory,
+                        5)) {
+                    Assert.assertEquals("Invalid rows.", expected, HashJoinCursorTest.read(cursor));
+
+                    // Reads again after reset.
+                    cursor.reset();
+                    Assert.assertEquals("Invalid rows after reset.", expected, HashJoinCursorTest.read(cursor));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads all rows of a cursor as sorted text.
+     *
+     * @param cursor the cursor.
+     * @return the rows as sorted text.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> ret = new ArrayList<>();
+        while (cursor.next()) {
+            final StringBuilder builder = new StringBuilder();
+            for (final FieldValue value : cursor.getRow()) {
+                if (builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(value.getValue());
+            }
+            ret.add(builder.toString());
+        }
+        Collections.sort(ret);
+        return ret;
+    }
+
+    /**
+     * Creates a cursor over rows with a join value and a name.
+     *
+     * @param keys   the join values.
+     * @param prefix the row name prefix.
+     * @return the cursor.
+     */
+    private static RowCursor cursor(final Object[] keys, final String prefix) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int loop = 0; loop < keys.length; loop++) {
+            rows.add(Arrays.asList(new FieldValue(keys[loop], Types.INTEGER),
+                    new FieldValue(prefix + loop, Types.VARCHAR)));
+        }
+        return new ListCursor(rows);
+    }
+
+    /**
+     * Creates the null values of a side.
+     *
+     * @return the null values.
+     */
+    private static List<FieldValue> nulls() {
+        return Arrays.asList(new FieldValue(Types.INTEGER), new FieldValue(Types.VARCHAR));
+    }
+}
@@ -158,4 +158,28 @@ public class SelectPlanTest {
 
         plan.addColumn("test.ac");
     }
+
+    /**
+     * Test for multiple columns loaded in SELECT order.
+     *
+     * @throws SQLException if has errors.
+     */
+    @Test
+    public void testMultipleColumns() throws SQLException {
+        final SelectPlan plan = new SelectPlan();
+
+        final PlanTableNode tableNode = new PlanTableNode();
+        final List<ParadoxTable> tables = TableData.listTables(this.conn.getCurrentSchema(), AREACODES, this.conn);
+        tableNode.setTable(tables.get(0));
+        plan.addTable(tableNode);
+
+        plan.addColumn("state");
+        plan.addColumn("ac");
+        plan.execute();
+
+        Assert.assertEquals("Invalid row count.", tables.get(0).getRowCount(), plan.getValues().size());
+        Assert.assertEquals("Invalid column count.", 2, plan.getValues().get(0).size());
+        Assert.assertEquals("Invalid first column.", "NJ", plan.getValues().get(0).get(0).getValue());
+        Assert.assertEquals("Invalid second column.", "201", plan.getValues().get(0).get(1).getValue());
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * SortCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link SortCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class SortCursorTest {
+
+    /**
+     * The number values sorted.
+     */
+    private static final Object[] NUMBERS = {3, null, -1.5D, 2, 3, 0, -20, 1E10D};
+
+    /**
+     * Test the ascending order of numbers.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testAscending() throws SQLException {
+        this.check(SortCursorTest.NUMBERS, true, Arrays.asList("R1", "R6", "R2", "R5", "R3", "R0", "R4", "R7"));
+    }
+
+    /**
+     * Test the descending order of numbers.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDescending() throws SQLException {
+        this.check(SortCursorTest.NUMBERS, false, Arrays.asList("R7", "R0", "R4", "R3", "R5", "R2", "R6", "R1"));
+    }
+
+    /**
+     * Test the order of strings.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testStrings() throws SQLException {
+        final Object[] values = {"b", "a", "ab", null, "B", ""};
+        this.check(values, true, Arrays.asList("R3", "R5", "R4", "R1", "R2", "R0"));
+    }
+
+    /**
+     * Test the order of dates.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDates() throws SQLException {
+        final Object[] values = {java.sql.Date.valueOf("2001-01-01"), java.sql.Date.valueOf("1900-05-01"),
+            java.sql.Date.valueOf("1970-01-01")};
+        this.check(values, true, Arrays.asList("R1", "R2", "R0"));
+    }
+
+    /**
+     * Test a sort with more runs than merged at once.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testManyRuns() throws SQLException {
+        final Object[] values = new Object[500];
+        for (int loop = 0; loop < values.length; loop++) {
+            values[loop] = (loop * 7919) % 101;
+        }
+
+        try (RowCursor cursor = new SortCursor(SortCursorTest.cursor(values), new int[]{1}, new boolean[]{true}, -1,
+                1)) {
+            int count = 0;
+            int lastValue = Integer.MIN_VALUE;
+            int lastRow = -1;
+            while (cursor.next()) {
+                final int value = (Integer) cursor.getRow().get(1).getValue();
+                final int row = Integer.parseInt(((String) cursor.getRow().get(0).getValue()).substring(1));
+                Assert.assertTrue("Invalid order.", value >= lastValue);
+                if (value == lastValue) {
+                    Assert.assertTrue("Invalid order of equal values.", row > lastRow);
+                }
+                lastValue = value;
+                lastRow = row;
+                count++;
+            }
+            Assert.assertEquals("Invalid row count.", values.length, count);
+        }
+    }
+
+    /**
+     * Checks a sort in memory and spilled to temporary files.
+     *
+     * @param values    the values to sort.
+     * @param ascending if the values are sorted in ascending order.
+     * @param expected  the expected row names.
+     * @throws SQLException in case of failures.
+     */
+    private void check(final Object[] values, final boolean ascending, final List<String> expected)
+            throws SQLException {
+        for (final long memory : new long[]{Long.MAX_VALUE, 1}) {
+            try (RowCursor cursor = new SortCursor(SortCursorTest.cursor(values), new int[]{1},
+                    new boolean[]{ascending}, 1, memory)) {
+                Assert.assertEquals("Invalid rows.", expected, SortCursorTest.read(cursor));
+
+                // Reads again after reset.
+                cursor.reset();
+                Assert.assertEquals("Invalid rows after reset.", expected, SortCursorTest.read(cursor));
+            }
+        }
+    }
+
+    /**
+     * Reads the row names of a cursor.
+     *
+     * @param cursor the cursor.
+     * @return the row names.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> ret = new ArrayList<>();
+        while (cursor.next()) {
+            Assert.assertEquals("Invalid column count.", 1, cursor.getRow().size());
+            ret.add((String) cursor.getRow().get(0).getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a cursor over rows with a name and a value.
+     *
+     * @param values the row values.
+     * @return the cursor.
+     */
+    private static RowCursor cursor(final Object[] values) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int loop = 0; loop < values.length; loop++) {
+            rows.add(Arrays.asList(new FieldValue("R" + loop, Types.VARCHAR), new FieldValue(values[loop],
+                    Types.NUMERIC)));
+        }
+        return new ListCursor(rows);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * TopCursorTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.planner.plan;
+
+import com.googlecode.paradox.data.ListCursor;
+import com.googlecode.paradox.data.RowCursor;
+import com.googlecode.paradox.data.table.value.FieldValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link TopCursor}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TopCursorTest {
+
+    /**
+     * The number values sorted.
+     */
+    private static final Object[] NUMBERS = {3, null, -1.5D, 2, 3, 0, -20, 1E10D};
+
+    /**
+     * Test the first rows in ascending order, keeping the source order of equal values.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testAscending() throws SQLException {
+        this.check(3, true, Arrays.asList("R1", "R6", "R2"));
+        this.check(7, true, Arrays.asList("R1", "R6", "R2", "R5", "R3", "R0", "R4"));
+        this.check(6, true, Arrays.asList("R1", "R6", "R2", "R5", "R3", "R0"));
+    }
+
+    /**
+     * Test the first rows in descending order.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testDescending() throws SQLException {
+        this.check(2, false, Arrays.asList("R7", "R0"));
+        this.check(3, false, Arrays.asList("R7", "R0", "R4"));
+    }
+
+    /**
+     * Test a limit larger than the row count and a zero limit.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testLimits() throws SQLException {
+        this.check(100, true, Arrays.asList("R1", "R6", "R2", "R5", "R3", "R0", "R4", "R7"));
+        this.check(0, true, new ArrayList<String>());
+    }
+
+    /**
+     * Test the first rows of many rows, compared to a full sort.
+     *
+     * @throws SQLException in case of failures.
+     */
+    @Test
+    public void testManyRows() throws SQLException {
+        final Object[] values = new Object[500];
+        for (int loop = 0; loop < values.length; loop++) {
+            values[loop] = (loop * 7919) % 101;
+        }
+
+        try (RowCursor sort = new SortCursor(TopCursorTest.cursor(values), new int[]{1}, new boolean[]{true}, 1,
+                Long.MAX_VALUE);
+             RowCursor top = new TopCursor(TopCursorTest.cursor(values), new int[]{1}, new boolean[]{true}, 25, 1)) {
+            Assert.assertEquals("Invalid rows.", TopCursorTest.read(sort).subList(0, 25), TopCursorTest.read(top));
+        }
+    }
+
+    /**
+     * Checks the first rows of the numbers, before and after reset.
+     *
+     * @param limit     the count of rows returned.
+     * @param ascending if the values are sorted in ascending order.
+     * @param expected  the expected row names.
+     * @throws SQLException in case of failures.
+     */
+    private void check(final int limit, final boolean ascending, final List<String> expected)
+            throws SQLException {
+        try (RowCursor cursor = new TopCursor(TopCursorTest.cursor(TopCursorTest.NUMBERS), new int[]{1},
+                new boolean[]{ascending}, limit, 1)) {
+            Assert.assertEquals("Invalid rows.", expected, TopCursorTest.read(cursor));
+
+            cursor.reset();
+            Assert.assertEquals("Invalid rows after reset.", expected, TopCursorTest.read(cursor));
+        }
+    }
+
+    /**
+     * Reads the row names of a cursor.
+     *
+     * @param cursor the cursor.
+     * @return the row names.
+     * @throws SQLException in case of failures.
+     */
+    private static List<String> read(final RowCursor cursor) throws SQLException {
+        final List<String> ret = new ArrayList<>();
+        while (cursor.next()) {
+            Assert.assertEquals("Invalid column count.", 1, cursor.getRow().size());
+            ret.add((String) cursor.getRow().get(0).getValue());
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a cursor over rows with a name and a value.
+     *
+     * @param values the row values.
+     * @return the cursor.
+     */
+    private static RowCursor cursor(final Object[] values) {
+        final List<List<FieldValue>> rows = new ArrayList<>();
+        for (int loop = 0; loop < values.length; loop++) {
+            rows.add(Arrays.asList(new FieldValue("R" + loop, Types.VARCHAR), new FieldValue(values[loop],
+                    Types.NUMERIC)));
+        }
+        return new ListCursor(rows);
+    }
+}
@@ -8,6 +8,7 @@
  */
 package com.googlecode.paradox.procedures;
 
+import com.googlecode.paradox.procedures.math.Average;
 import com.googlecode.paradox.procedures.math.Min;
 import org.junit.Assert;
 import org.junit.Test;
@@ -16,7 +17,7 @@ import org.junit.Test;
  * Unit test for {@link ProcedureAS}.
  *
  * @author Leonardo Alves da Costa
- * @version 1.0
+ * @version 1.1
  * @since 1.3
  */
 public class ProcedureASTest {
@@ -54,4 +55,17 @@ public class ProcedureASTest {
         Assert.assertNotNull("Procedure not registered.", minByName);
         Assert.assertSame("Procedure is not the same.", min.getName(), minByName.getName());
     }
+    
+    /**
+     * Test the get procedure by an alias, not listed with the procedures.
+     */
+    @Test
+    public void testProcedureByAlias() {
+        final AbstractCallableProcedure avg = ProcedureAS.getInstance().get("AVG");
+        Assert.assertTrue("Alias not registered.", avg instanceof Average);
+        Assert.assertEquals("Invalid procedure name.", "average", avg.getName());
+        for (final AbstractCallableProcedure procedure : ProcedureAS.getInstance().list()) {
+            Assert.assertNotEquals("Alias listed.", "avg", procedure.getName());
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * StringDecoderTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Unit test for {@link StringDecoder}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class StringDecoderTest {
+
+    /**
+     * Test if the lookup tables decode like the charsets.
+     */
+    @Test
+    public void testCodePages() {
+        final byte[] values = new byte[256];
+        for (int loop = 0; loop < values.length; loop++) {
+            values[loop] = (byte) (loop == 0 ? 1 : loop);
+        }
+        for (final String name : new String[]{"Cp437", "Cp1250", "Cp1251", "Cp1252"}) {
+            final Charset charset = Charset.forName(name);
+            final StringDecoder decoder = new StringDecoder(charset, 0);
+            Assert.assertTrue("Invalid decoder type.", decoder.isSingleByte());
+            Assert.assertEquals("Invalid value.", charset.decode(ByteBuffer.wrap(values)).toString(),
+                    decoder.decode(ByteBuffer.wrap(values), values.length));
+        }
+    }
+
+    /**
+     * Test for trailing zeros.
+     */
+    @Test
+    public void testTrailingZeros() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{'a', 0, 'b', 0, 0, 'c'});
+        final StringDecoder decoder = new StringDecoder(Charset.forName("Cp437"), 0);
+        Assert.assertEquals("Invalid value.", "a\u0000b", decoder.decode(buffer, 5));
+        Assert.assertEquals("Invalid position.", 5, buffer.position());
+    }
+
+    /**
+     * Test for multi byte charsets.
+     */
+    @Test
+    public void testMultiByte() {
+        final StringDecoder decoder = new StringDecoder(Charset.forName("UTF-8"), 10);
+        Assert.assertFalse("Invalid decoder type.", decoder.isSingleByte());
+        Assert.assertEquals("Invalid value.", "ça", decoder.decode(ByteBuffer.wrap(new byte[]{(byte) 0xC3,
+                (byte) 0xA7, 'a', 0}), 4));
+    }
+
+    /**
+     * Test if equal values share the same instance.
+     */
+    @Test
+    public void testCache() {
+        final StringDecoder decoder = new StringDecoder(Charset.forName("Cp1252"), 16);
+        final String first = decoder.decode(ByteBuffer.wrap(new byte[]{'N', 'Y', 0}), 3);
+        final String other = decoder.decode(ByteBuffer.wrap(new byte[]{'C', 'A', 0}), 3);
+        Assert.assertEquals("Invalid value.", "CA", other);
+        Assert.assertSame("Value not cached.", first, decoder.decode(ByteBuffer.wrap(new byte[]{'N', 'Y', 0}), 3));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * TemporalDecoderTest.java 10/16/2026 Copyright (C) 2026 Leonardo Alves da Costa This program is free software: you can
+ * redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version. This program is distributed in
+ * the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details. You should have received a
+ * copy of the GNU General Public License along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.googlecode.paradox.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Unit test for {@link TemporalDecoder}.
+ *
+ * @author Leonardo Alves da Costa
+ * @version 1.0
+ * @since 1.4.1
+ */
+public class TemporalDecoderTest {
+
+    /**
+     * Test if the dates are the same of the calendar conversion.
+     */
+    @Test
+    public void testDates() {
+        final TemporalDecoder decoder = TemporalDecoder.getInstance();
+        for (int raw = 0; raw < 800_000; raw += 7) {
+            final Date expected = DateUtils.sdnToGregorian(raw + 1_721_425L);
+            Assert.assertEquals("Invalid date.", expected.getTime(), decoder.toDateMillis(raw));
+        }
+    }
+
+    /**
+     * Test for a cached date.
+     */
+    @Test
+    public void testCachedDate() {
+        final TemporalDecoder decoder = TemporalDecoder.getInstance();
+        Assert.assertEquals("Invalid date.", "1996-05-04", new Date(decoder.toDateMillis(0x000B_1ECF)).toString());
+        Assert.assertEquals("Invalid date.", "1996-05-04", new Date(decoder.toDateMillis(0x000B_1ECF)).toString());
+    }
+
+    /**
+     * Test for the epoch day.
+     */
+    @Test
+    public void testEpochDay() {
+        Assert.assertEquals("Invalid epoch day.", 0L, TemporalDecoder.toEpochDay(2_440_588 - 1_721_425));
+    }
+
+    /**
+     * Test for time values.
+     */
+    @Test
+    public void testTime() {
+        final Calendar calendar = new GregorianCalendar(1, 0, 0);
+        calendar.add(Calendar.MILLISECOND, 30_000);
+        Assert.assertEquals("Invalid time.", calendar.getTimeInMillis(),
+                TemporalDecoder.getInstance().toTimeMillis(30_000));
+    }
+}